@@ -0,0 +1,116 @@
+/*
+ * CampaignBenchmark.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import megamek.common.TargetRoll;
+import mekhq.BenchmarkUtilities;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.PartInUse;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.Systems;
+
+/**
+ * Benchmarks for the campaign operations that run every day or on every repair tab refresh.
+ * None of them change the campaign, so they can share one. Advancing the day is benchmarked by
+ * {@link NewDayBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CampaignBenchmark {
+    /** The number of personnel; units and spare parts scale with it */
+    @Param({"100", "1000"})
+    public int personnel;
+
+    private Campaign campaign;
+    private PlanetarySystem jumpStart;
+    private PlanetarySystem jumpEnd;
+    private List<Part> partsToFix;
+    private List<Person> techs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkUtilities.loadData();
+        SyntheticCampaignGenerator generator = new SyntheticCampaignGenerator();
+        generator.setPersonnel(personnel);
+        generator.setUnits(personnel / 10);
+        generator.setSpareParts(personnel * 10);
+        generator.setSeed(42L);
+        campaign = generator.generate();
+
+        jumpStart = Systems.getInstance().getSystemById("Outreach");
+        jumpEnd = Systems.getInstance().getSystemById("Terra");
+
+        partsToFix = new ArrayList<>();
+        for (Unit unit : campaign.getUnits()) {
+            for (Part part : unit.getParts()) {
+                if (part.needsFixing()) {
+                    partsToFix.add(part);
+                }
+            }
+        }
+        techs = campaign.getTechs();
+    }
+
+    @Benchmark
+    public Set<PartInUse> getPartsInUse() {
+        return campaign.getPartsInUse();
+    }
+
+    @Benchmark
+    public JumpPath calculateJumpPath() {
+        return campaign.calculateJumpPath(jumpStart, jumpEnd);
+    }
+
+    @Benchmark
+    public void getTargetFor(Blackhole blackhole) {
+        for (Part part : partsToFix) {
+            for (Person tech : techs) {
+                TargetRoll target = campaign.getTargetFor(part, tech);
+                blackhole.consume(target.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MaintenanceBenchmark.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mekhq.BenchmarkUtilities;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.unit.Unit;
+
+/**
+ * Benchmarks a day of unit maintenance, which runs for every unit every day. Each invocation
+ * starts from the same state, in which the maintenance checks are spread evenly over the cycle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaintenanceBenchmark {
+    @Param({"1000"})
+    public int units;
+
+    private Campaign campaign;
+    private List<Unit> unitList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkUtilities.loadData();
+        SyntheticCampaignGenerator generator = new SyntheticCampaignGenerator();
+        // Enough MechWarriors to pilot every unit, with a tech for every two or three units
+        generator.setPersonnel(units * 2);
+        generator.setUnits(units);
+        generator.setSpareParts(0);
+        generator.setMissions(0);
+        generator.setSeed(42L);
+        campaign = generator.generate();
+        unitList = new ArrayList<>(campaign.getUnits());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetDay() {
+        for (Person tech : campaign.getTechs()) {
+            tech.resetMinutesLeft();
+        }
+        campaign.resetAstechMinutes();
+        campaign.getDailyReport().clear();
+
+        // Each unit is queued for the day its days since maintenance reach the cycle, which is
+        // today for one unit in every cycle
+        LocalDate today = campaign.getLocalDate();
+        int cycleDays = campaign.getCampaignOptions().getMaintenanceCycleDays();
+        campaign.getMaintenanceSchedule().clear();
+        for (int i = 0; i < unitList.size(); i++) {
+            Unit unit = unitList.get(i);
+            unit.resetDaysSinceMaintenance();
+            int daysSinceMaintenance = i % cycleDays;
+            for (int day = 0; day < daysSinceMaintenance; day++) {
+                unit.incrementDaysSinceMaintenance(true, 0);
+            }
+            campaign.getMaintenanceSchedule().schedule(unit.getId(),
+                    today.plusDays(cycleDays - daysSinceMaintenance - 1));
+        }
+    }
+
+    @Benchmark
+    public void doMaintenance() {
+        campaign.getMaintenanceSchedule().releaseDue(campaign.getLocalDate());
+        for (Unit unit : unitList) {
+            campaign.doMaintenance(unit);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * NewDayBenchmark.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mekhq.BenchmarkUtilities;
+
+/**
+ * Benchmarks advancing a campaign by one day. A day changes the campaign, so each iteration
+ * generates the same campaign again and times its first day, and every measurement is of the
+ * same day.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NewDayBenchmark {
+    /** The number of personnel; units and spare parts scale with it */
+    @Param({"100", "1000"})
+    public int personnel;
+
+    private Campaign campaign;
+
+    @Setup(Level.Trial)
+    public void loadData() throws Exception {
+        BenchmarkUtilities.loadData();
+    }
+
+    @Setup(Level.Iteration)
+    public void generateCampaign() {
+        SyntheticCampaignGenerator generator = new SyntheticCampaignGenerator();
+        generator.setPersonnel(personnel);
+        generator.setUnits(personnel / 10);
+        generator.setSpareParts(personnel * 10);
+        generator.setSeed(42L);
+        campaign = generator.generate();
+    }
+
+    @TearDown(Level.Iteration)
+    public void discardCampaign() {
+        campaign.unregisterHandlers();
+    }
+
+    @Benchmark
+    public boolean newDay() {
+        return campaign.newDay();
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * SyntheticCampaignGenerator.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.common.Entity;
+import megamek.common.EntityWeightClass;
+import megamek.common.MechFileParser;
+import megamek.common.MechSummary;
+import megamek.common.MechSummaryCache;
+import megamek.common.UnitType;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.logging.LogLevel;
+import mekhq.MekHQ;
+import mekhq.StartupTasks;
+import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.Transaction;
+import mekhq.campaign.log.ServiceLogger;
+import mekhq.campaign.mission.Contract;
+import mekhq.campaign.mission.Mission;
+import mekhq.campaign.mission.Scenario;
+import mekhq.campaign.mod.am.InjuryTypes;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.rating.IUnitRating;
+import mekhq.campaign.unit.Unit;
+
+/**
+ * Generates campaigns of a configurable size, with the history a long running campaign would
+ * have: completed missions and scenarios, monthly transactions and personnel logs. Everything
+ * is created through the normal {@link Campaign} methods so that the result behaves like a
+ * played campaign, and {@link #save(Campaign, File)} writes it through
+ * {@link Campaign#writeToXml(PrintWriter)} like a normal save. The generated campaigns are
+ * used for profiling, memory measurements and the benchmarks.
+ *
+ * The same parameters and seed always pick the same units, parts and history. Names and
+ * skills still come from the normal random personnel generation.
+ *
+ * Can be run from the command line in the MekHQ directory:
+ * <pre>java -cp ... mekhq.campaign.SyntheticCampaignGenerator file personnel [units] [spareParts] [seed]</pre>
+ */
+public class SyntheticCampaignGenerator {
+    private int personnel = 1000;
+    private int units = 100;
+    private int spareParts = 1000;
+    private int missions = 10;
+    private int scenariosPerMission = 5;
+    private long seed = 0L;
+
+    private static boolean staticDataLoaded = false;
+
+    public int getPersonnel() {
+        return personnel;
+    }
+
+    public void setPersonnel(int personnel) {
+        this.personnel = personnel;
+    }
+
+    public int getUnits() {
+        return units;
+    }
+
+    public void setUnits(int units) {
+        this.units = units;
+    }
+
+    public int getSpareParts() {
+        return spareParts;
+    }
+
+    public void setSpareParts(int spareParts) {
+        this.spareParts = spareParts;
+    }
+
+    public int getMissions() {
+        return missions;
+    }
+
+    /**
+     * @param missions the number of contracts in the campaign history. The last one is active,
+     *                 the others were completed one after the other before the campaign date.
+     */
+    public void setMissions(int missions) {
+        this.missions = missions;
+    }
+
+    public int getScenariosPerMission() {
+        return scenariosPerMission;
+    }
+
+    public void setScenariosPerMission(int scenariosPerMission) {
+        this.scenariosPerMission = scenariosPerMission;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Loads the static game data a campaign needs, the same way
+     * {@link mekhq.gui.dialog.DataLoadingDialog} does on startup. This must be called with
+     * the MekHQ directory as the working directory before the first campaign is generated
+     * outside of the GUI.
+     */
+    public static synchronized void loadStaticData() throws Exception {
+        if (staticDataLoaded) {
+            return;
+        }
+
+        StartupTasks.getInstance().await(StartupTasks.FACTIONS, StartupTasks.CURRENCIES,
+                StartupTasks.SYSTEMS, StartupTasks.NAMES, StartupTasks.UNITS);
+        InjuryTypes.registerAll();
+        staticDataLoaded = true;
+    }
+
+    /**
+     * @return a new campaign with the configured personnel, units, spare parts and history
+     */
+    public Campaign generate() {
+        final Random random = new Random(seed);
+        final Campaign campaign = new Campaign();
+        campaign.setName(String.format("Synthetic %d-%d-%d", personnel, units, spareParts));
+        campaign.getRandom().setSeed(seed);
+
+        // Add the spare parts first, as adding a spare scans every existing part to merge
+        // it with a matching one
+        generateSpareParts(campaign, random);
+        List<Person> pilots = new ArrayList<>();
+        List<Person> techs = new ArrayList<>();
+        generatePersonnel(campaign, pilots, techs);
+        generateUnits(campaign, random, pilots, techs);
+        generateHistory(campaign, random);
+        return campaign;
+    }
+
+    private void generateSpareParts(Campaign campaign, Random random) {
+        List<Part> inventory = campaign.getPartsStore().getInventory();
+        for (int i = 0; (i < spareParts) && !inventory.isEmpty(); i++) {
+            Part part = inventory.get(random.nextInt(inventory.size())).clone();
+            campaign.addPart(part, 0);
+        }
+    }
+
+    private void generatePersonnel(Campaign campaign, List<Person> pilots, List<Person> techs) {
+        for (int i = 0; i < personnel; i++) {
+            // 60% MechWarriors, 20% techs, 10% doctors and 10% administrators
+            int type;
+            switch (i % 10) {
+                case 6:
+                case 7:
+                    type = Person.T_MECH_TECH;
+                    break;
+                case 8:
+                    type = Person.T_DOCTOR;
+                    break;
+                case 9:
+                    type = Person.T_ADMIN_LOG;
+                    break;
+                default:
+                    type = Person.T_MECHWARRIOR;
+                    break;
+            }
+            Person person = campaign.newPerson(type);
+            campaign.recruitPerson(person, true);
+            if (type == Person.T_MECHWARRIOR) {
+                pilots.add(person);
+            } else if (type == Person.T_MECH_TECH) {
+                techs.add(person);
+            }
+        }
+    }
+
+    private void generateUnits(Campaign campaign, Random random, List<Person> pilots, List<Person> techs) {
+        // Used when the unit generator has no table for the faction and weight class
+        List<MechSummary> fallback = new ArrayList<>();
+        for (MechSummary summary : MechSummaryCache.getInstance().getAllMechs()) {
+            if ("Mek".equals(summary.getUnitType()) && (summary.getYear() <= campaign.getGameYear())) {
+                fallback.add(summary);
+            }
+        }
+        fallback.sort(Comparator.comparing(MechSummary::getName));
+
+        int added = 0;
+        for (int attempt = 0; (added < units) && (attempt < units * 2); attempt++) {
+            int weightClass = EntityWeightClass.WEIGHT_LIGHT + random.nextInt(4);
+            MechSummary summary = campaign.getUnitGenerator().generate(campaign.getFactionCode(),
+                    UnitType.MEK, weightClass, campaign.getGameYear(), IUnitRating.DRAGOON_C);
+            if ((null == summary) && !fallback.isEmpty()) {
+                summary = fallback.get(random.nextInt(fallback.size()));
+            }
+            if (null == summary) {
+                continue;
+            }
+
+            Entity entity;
+            try {
+                entity = new MechFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            } catch (EntityLoadingException e) {
+                MekHQ.getLogger().error(getClass(), "generateUnits", e);
+                continue;
+            }
+
+            Unit unit = campaign.addUnit(entity, false, 0);
+            if (added < pilots.size()) {
+                unit.addPilotOrSoldier(pilots.get(added));
+            }
+            if (!techs.isEmpty()) {
+                unit.setTech(techs.get(added % techs.size()));
+            }
+            // Leave about a fifth of the units with something to repair
+            if (random.nextInt(5) == 0) {
+                List<Part> unitParts = unit.getParts();
+                if (!unitParts.isEmpty()) {
+                    unitParts.get(random.nextInt(unitParts.size())).doMaintenanceDamage(1);
+                }
+            }
+            added++;
+        }
+    }
+
+    private void generateHistory(Campaign campaign, Random random) {
+        List<Person> people = new ArrayList<>(campaign.getPersonnel());
+        GregorianCalendar date = (GregorianCalendar) campaign.getCalendar().clone();
+        date.add(Calendar.MONTH, -13 * missions);
+
+        campaign.getFinances().credit(Money.of(10000000), Transaction.C_START, "Starting capital",
+                date.getTime());
+
+        for (int m = 0; m < missions; m++) {
+            Contract contract = new Contract("Contract " + (m + 1), "Independent");
+            contract.setSystemId(campaign.getCurrentSystem().getId());
+            contract.setLength(12);
+            contract.setStartDate(date.getTime());
+            contract.calculateContract(campaign);
+            campaign.addMission(contract);
+
+            GregorianCalendar scenarioDate = (GregorianCalendar) date.clone();
+            for (int s = 0; s < scenariosPerMission; s++) {
+                scenarioDate.add(Calendar.DAY_OF_MONTH, 360 / Math.max(scenariosPerMission, 1));
+                Scenario scenario = new Scenario(String.format("Battle %d-%d", m + 1, s + 1));
+                scenario.setDate(scenarioDate.getTime());
+                scenario.setStatus(Scenario.S_VICTORY + random.nextInt(Scenario.S_DRAW));
+                campaign.addScenario(scenario, contract);
+
+                // About a third of the personnel fought in each battle
+                for (Person person : people) {
+                    if (person.hasPrimaryCombatRole() && (random.nextInt(3) == 0)) {
+                        ServiceLogger.participatedInMission(person, scenario.getDate(),
+                                scenario.getName(), contract.getName());
+                    }
+                }
+            }
+
+            // Monthly contract payments and salaries
+            for (int month = 0; month < 12; month++) {
+                campaign.getFinances().credit(contract.getMonthlyPayOut(), Transaction.C_CONTRACT,
+                        "Monthly payment for " + contract.getName(), date.getTime());
+                campaign.getFinances().debit(campaign.getPayRoll(), Transaction.C_SALARY,
+                        "Monthly salaries", date.getTime());
+                date.add(Calendar.MONTH, 1);
+            }
+            date.add(Calendar.MONTH, 1);
+
+            if (m < missions - 1) {
+                contract.setStatus(Mission.S_SUCCESS);
+            }
+        }
+    }
+
+    /**
+     * Writes the campaign the same way a normal save does, compressed if the file name ends
+     * with <code>.gz</code>.
+     */
+    public static void save(Campaign campaign, File file) throws IOException {
+        try (OutputStream fos = new FileOutputStream(file);
+             OutputStream os = file.getName().endsWith(".gz") ? new GZIPOutputStream(fos) : fos;
+             PrintWriter pw = new PrintWriter(new OutputStreamWriter(new BufferedOutputStream(os),
+                     StandardCharsets.UTF_8))) {
+            campaign.writeToXml(pw);
+            pw.flush();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: SyntheticCampaignGenerator file personnel [units] [spareParts] [seed]"); //$NON-NLS-1$
+            return;
+        }
+
+        SyntheticCampaignGenerator generator = new SyntheticCampaignGenerator();
+        generator.setPersonnel(Integer.parseInt(args[1]));
+        generator.setUnits((args.length > 2) ? Integer.parseInt(args[2]) : generator.getPersonnel() / 10);
+        generator.setSpareParts((args.length > 3) ? Integer.parseInt(args[3]) : generator.getPersonnel() * 10);
+        generator.setMissions(Math.max(1, generator.getPersonnel() / 500));
+        if (args.length > 4) {
+            generator.setSeed(Long.parseLong(args[4]));
+        }
+
+        loadStaticData();
+        long start = System.currentTimeMillis();
+        Campaign campaign = generator.generate();
+        File file = new File(args[0]);
+        save(campaign, file);
+        MekHQ.getLogger().log(SyntheticCampaignGenerator.class, "main", LogLevel.INFO, //$NON-NLS-1$
+                String.format("Generated %d personnel, %d units and %d parts in %.3fs, saved to %s", //$NON-NLS-1$
+                        campaign.getPersonnel().size(), campaign.getUnits().size(), campaign.getParts().size(),
+                        (System.currentTimeMillis() - start) / 1000.0, file));
+        System.exit(0);
+    }
+}
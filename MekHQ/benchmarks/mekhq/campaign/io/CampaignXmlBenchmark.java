@@ -0,0 +1,89 @@
+/*
+ * CampaignXmlBenchmark.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mekhq.BenchmarkUtilities;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.SyntheticCampaignGenerator;
+
+/**
+ * Benchmarks saving and loading a campaign, without the file system or compression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CampaignXmlBenchmark {
+    /** The number of personnel; units and spare parts scale with it */
+    @Param({"100", "1000"})
+    public int personnel;
+
+    private Campaign campaign;
+    private byte[] savedCampaign;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkUtilities.loadData();
+        SyntheticCampaignGenerator generator = new SyntheticCampaignGenerator();
+        generator.setPersonnel(personnel);
+        generator.setUnits(personnel / 10);
+        generator.setSpareParts(personnel * 10);
+        generator.setSeed(42L);
+        campaign = generator.generate();
+        savedCampaign = writeToXml();
+    }
+
+    @Benchmark
+    public byte[] writeToXml() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintWriter pw = new PrintWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        campaign.writeToXml(pw);
+        pw.flush();
+        return os.toByteArray();
+    }
+
+    @Benchmark
+    public Campaign parse() throws Exception {
+        return new CampaignXmlParser(new ByteArrayInputStream(savedCampaign), null).parse();
+    }
+}
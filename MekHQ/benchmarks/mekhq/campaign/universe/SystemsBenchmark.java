@@ -0,0 +1,100 @@
+/*
+ * SystemsBenchmark.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mekhq.BenchmarkUtilities;
+
+/**
+ * Benchmarks the nearby system queries, from a fixed sample of systems across the map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemsBenchmark {
+    /** The number of sample systems queried by each benchmark call */
+    private static final int SAMPLES = 100;
+
+    /** The search radius in light years: one jump, the HPG range and a five jump shopping area */
+    @Param({"30", "50", "150"})
+    public int distance;
+
+    private Systems systems;
+    private List<PlanetarySystem> centers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkUtilities.loadData();
+        systems = Systems.getInstance();
+
+        List<PlanetarySystem> all = new ArrayList<>(systems.getSystems().values());
+        all.sort((a, b) -> a.getId().compareTo(b.getId()));
+        Random random = new Random(42L);
+        centers = new ArrayList<>(SAMPLES);
+        for (int i = 0; i < SAMPLES; i++) {
+            centers.add(all.get(random.nextInt(all.size())));
+        }
+    }
+
+    @Benchmark
+    public void visitNearbySystems(Blackhole blackhole) {
+        for (PlanetarySystem center : centers) {
+            systems.visitNearbySystems(center, distance, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void getNearbySystems(Blackhole blackhole) {
+        for (PlanetarySystem center : centers) {
+            blackhole.consume(systems.getNearbySystems(center, distance));
+        }
+    }
+
+    @Benchmark
+    public void getNearestSystems(Blackhole blackhole) {
+        // Roughly as many systems as are within the radius in the Inner Sphere
+        final int count = distance / 3;
+        for (PlanetarySystem center : centers) {
+            blackhole.consume(systems.getNearestSystems(center.getX(), center.getY(), count));
+        }
+    }
+}
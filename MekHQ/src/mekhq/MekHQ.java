@@ -97,6 +97,8 @@ public class MekHQ implements GameListener {
 	public static String CAMPAIGN_DIRECTORY = "./campaigns/";
 	public static String PREFERENCES_FILE = "mmconf/mekhq.preferences";
 	public static String PRESET_DIR = "./mmconf/mhqPresets/";
+	/* Files rebuilt from the data files, kept per user so the data directory can be read-only */
+	public static String CACHE_DIRECTORY = System.getProperty("user.home") + "/.mekhq/cache/";
 	public static String DEFAULT_LOG_FILE_NAME = "mekhqlog.txt";
 
 	private static final EventBus EVENT_BUS = new EventBus();
@@ -300,6 +302,8 @@ public class MekHQ implements GameListener {
         setUserPreferences();
 
     	initEventHandlers();
+        //start loading the static data while the user picks a campaign
+        StartupTasks.getInstance();
         //create a start up frame and display it
         StartUpGUI sud = new StartUpGUI(this);
         sud.setVisible(true);
@@ -447,6 +451,9 @@ public class MekHQ implements GameListener {
     }
 
     public void setCampaign(Campaign c) {
+        if ((null != campaignController) && (null != getCampaign()) && (getCampaign() != c)) {
+            getCampaign().unregisterHandlers();
+        }
         campaignController = new CampaignController(c);
     }
 
@@ -0,0 +1,257 @@
+/*
+ * StartupTasks.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import megamek.client.RandomNameGenerator;
+import megamek.common.MechSummaryCache;
+import megamek.common.QuirksHandler;
+import megamek.common.logging.LogLevel;
+import mekhq.campaign.finances.CurrencyManager;
+import mekhq.campaign.personnel.Bloodname;
+import mekhq.campaign.universe.Faction;
+import mekhq.campaign.universe.RATManager;
+import mekhq.campaign.universe.Systems;
+
+/**
+ * Loads the static data MekHQ needs at startup as a graph of tasks with explicit dependencies.
+ * Each task starts on a shared pool as soon as the tasks it depends on are done, so independent
+ * loaders run at the same time. Waiting code gets a future for the tasks it needs instead of
+ * polling, and the time each task took is logged once they are all done.
+ *
+ * Data loaded by MegaMek in its own threads only reports whether it is initialized, so those
+ * tasks check it on a timer without blocking a pool thread.
+ */
+public class StartupTasks {
+    public static final String FACTIONS = "factions"; //$NON-NLS-1$
+    public static final String CURRENCIES = "currencies"; //$NON-NLS-1$
+    public static final String BLOODNAMES = "bloodnames"; //$NON-NLS-1$
+    public static final String RAT_COLLECTIONS = "ratCollections"; //$NON-NLS-1$
+    public static final String SYSTEMS = "systems"; //$NON-NLS-1$
+    public static final String NAMES = "names"; //$NON-NLS-1$
+    public static final String QUIRKS = "quirks"; //$NON-NLS-1$
+    public static final String UNITS = "units"; //$NON-NLS-1$
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), daemonThreads("Startup Loader")); //$NON-NLS-1$
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            daemonThreads("Startup Monitor")); //$NON-NLS-1$
+    private static final long POLL_MILLIS = 50;
+
+    private static StartupTasks instance;
+
+    private final long startTime = System.nanoTime();
+    private final Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+    private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * @return the startup tasks, which are started on the first call
+     */
+    public static synchronized StartupTasks getInstance() {
+        if (null == instance) {
+            instance = new StartupTasks();
+            instance.addStandardTasks();
+        }
+        return instance;
+    }
+
+    /**
+     * @return the pool shared by the data loaders
+     */
+    public static ExecutorService getExecutor() {
+        return EXECUTOR;
+    }
+
+    private void addStandardTasks() {
+        // Only the currencies read another task's data: their dates are widened to those of the
+        // factions using them. The systems only keep faction codes while loading, and the other
+        // loaders read nothing but their own files.
+        add(FACTIONS, Faction::generateFactions);
+        add(CURRENCIES, () -> CurrencyManager.getInstance().loadCurrencies(), FACTIONS);
+        add(BLOODNAMES, Bloodname::loadBloodnameData);
+        add(RAT_COLLECTIONS, RATManager::populateCollectionNames);
+        add(SYSTEMS, Systems.getInstance().getLoadingFuture());
+        add(NAMES, () -> RandomNameGenerator.getInstance());
+        add(QUIRKS, QuirksHandler::initQuirksList);
+        add(UNITS, whenInitialized(() -> MechSummaryCache.getInstance().isInitialized()));
+        CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0]))
+                .whenComplete((v, ex) -> logTimings());
+    }
+
+    /** A loader that may throw checked exceptions */
+    @FunctionalInterface
+    public interface Loader {
+        void load() throws Exception;
+    }
+
+    /**
+     * Adds a task that runs on the shared pool once its dependencies are done. A loader that fails
+     * is logged and counts as done, so the tasks depending on it still run.
+     *
+     * @param name         the name of the task
+     * @param loader       the loader to run
+     * @param dependencies the names of the tasks that must be done first
+     * @return a future completed when the task is done
+     */
+    public synchronized CompletableFuture<Void> add(String name, Loader loader, String... dependencies) {
+        CompletableFuture<?>[] waitFor = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            waitFor[i] = tasks.get(dependencies[i]);
+            if (null == waitFor[i]) {
+                throw new IllegalArgumentException("Unknown startup task " + dependencies[i]); //$NON-NLS-1$
+            }
+        }
+        CompletableFuture<Void> task = CompletableFuture.allOf(waitFor).thenRunAsync(() -> {
+            final long start = System.nanoTime();
+            try {
+                loader.load();
+            } catch (Exception e) {
+                MekHQ.getLogger().error(getClass(), "add(String,Loader,String...)", e); //$NON-NLS-1$
+            }
+            timings.put(name, System.nanoTime() - start);
+        }, EXECUTOR);
+        tasks.put(name, task);
+        return task;
+    }
+
+    /**
+     * Adds a task that is run elsewhere. Its time is measured from the start of the startup tasks.
+     *
+     * @param name   the name of the task
+     * @param future a future completed when the task is done
+     * @return a future completed when the task is done
+     */
+    public synchronized CompletableFuture<Void> add(String name, CompletableFuture<?> future) {
+        CompletableFuture<Void> task = future.handle((v, ex) -> {
+            if (null != ex) {
+                MekHQ.getLogger().error(getClass(), "add(String,CompletableFuture)", ex); //$NON-NLS-1$
+            }
+            timings.put(name, System.nanoTime() - startTime);
+            return null;
+        });
+        tasks.put(name, task);
+        return task;
+    }
+
+    /**
+     * @param name the name of a task
+     * @return a future completed when the task is done, or a completed future if there is no such task
+     */
+    public synchronized CompletableFuture<Void> get(String name) {
+        CompletableFuture<Void> task = tasks.get(name);
+        return (null != task) ? task : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Waits for the given tasks to be done.
+     *
+     * @param names the names of the tasks
+     */
+    public void await(String... names) {
+        for (String name : names) {
+            await(get(name));
+        }
+    }
+
+    /**
+     * Waits for a future to be completed, logging rather than throwing any failure.
+     *
+     * @param future the future
+     */
+    public static void await(CompletableFuture<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            MekHQ.getLogger().error(StartupTasks.class, "await(CompletableFuture)", e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * @return the time each finished task took, in nanoseconds
+     */
+    public Map<String, Long> getTimings() {
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    /**
+     * Creates a future for data that loads itself and can only report whether it has finished.
+     *
+     * @param initialized reports whether the data has finished loading
+     * @return a future completed when the data has finished loading
+     */
+    public static CompletableFuture<Void> whenInitialized(BooleanSupplier initialized) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        SCHEDULER.execute(() -> checkInitialized(initialized, future));
+        return future;
+    }
+
+    private static void checkInitialized(BooleanSupplier initialized, CompletableFuture<Void> future) {
+        try {
+            if (initialized.getAsBoolean()) {
+                future.complete(null);
+            } else {
+                SCHEDULER.schedule(() -> checkInitialized(initialized, future), POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void logTimings() {
+        StringBuilder sb = new StringBuilder("Startup tasks done in ") //$NON-NLS-1$
+                .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).append(" ms:"); //$NON-NLS-1$
+        for (Map.Entry<String, Long> timing : getTimings().entrySet()) {
+            sb.append(String.format(Locale.ROOT, " %s %d ms;", timing.getKey(), //$NON-NLS-1$
+                    TimeUnit.NANOSECONDS.toMillis(timing.getValue())));
+        }
+        MekHQ.getLogger().log(getClass(), "logTimings()", LogLevel.INFO, sb.toString()); //$NON-NLS-1$
+    }
+
+    /**
+     * @param name the name of the threads, which are numbered
+     * @return a factory of daemon threads, so a pool of them does not keep MekHQ running
+     */
+    public static ThreadFactory daemonThreads(String name) {
+        final AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + " " + count.incrementAndGet()); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -30,7 +30,10 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,6 +99,7 @@ import mekhq.campaign.market.ContractMarket;
 import mekhq.campaign.market.PartsStore;
 import mekhq.campaign.market.PersonnelMarket;
 import mekhq.campaign.market.ShoppingList;
+import mekhq.campaign.market.ShoppingRegionCache;
 import mekhq.campaign.market.UnitMarket;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.AtBScenario;
@@ -174,11 +178,13 @@ public class Campaign implements Serializable, ITechManager {
     private Set<UUID> transportShips = new HashSet<>();
     private Map<UUID, Person> personnel = new LinkedHashMap<>();
     private Map<UUID, Ancestors> ancestors = new LinkedHashMap<>();
+    private final transient FamilyGraph familyGraph = new FamilyGraph();
+    private final transient MarriageMarket marriageMarket = new MarriageMarket();
     private TreeMap<Integer, Part> parts = new TreeMap<>();
     private TreeMap<Integer, Force> forceIds = new TreeMap<>();
     private TreeMap<Integer, Mission> missions = new TreeMap<>();
     private TreeMap<Integer, Scenario> scenarios = new TreeMap<>();
-    private Map<UUID, List<Kill>> kills = new HashMap<>();
+    private final KillStore kills = new KillStore();
 
     private Map<String, Integer> duplicateNameHash = new HashMap<>();
 
@@ -222,9 +228,10 @@ public class Campaign implements Serializable, ITechManager {
     private String retainerEmployerCode; //AtB
     private Ranks ranks;
 
-    private ArrayList<String> currentReport;
-    private transient String currentReportHTML;
-    private transient List<String> newReports;
+    private DailyReport dailyReport;
+    /* How many report batches are open, and the size of the report when the first was opened */
+    private transient int reportBatches = 0;
+    private transient int reportBatchStart = 0;
 
     //this is updated and used per gaming session, it is enabled/disabled via the Campaign options
     //we're re-using the LogEntry class that is used to store Personnel entries
@@ -259,6 +266,7 @@ public class Campaign implements Serializable, ITechManager {
     private UnitMarket unitMarket; //AtB
     private RetirementDefectionTracker retirementDefectionTracker; // AtB
     private int fatigueLevel; //AtB
+    private CampaignRandom random;
     private AtBConfiguration atbConfig; //AtB
     private AtBEventProcessor atbEventProcessor; //AtB
     private Calendar shipSearchStart; //AtB
@@ -271,6 +279,15 @@ public class Campaign implements Serializable, ITechManager {
     /** This is used to determine if the player has an active AtB Contract, and is recalculated on load */
     private transient boolean hasActiveContract;
 
+    /** The systems to shop on with planetary acquisition, cached between days */
+    private final transient ShoppingRegionCache shoppingRegionCache = new ShoppingRegionCache();
+
+    /** The units queued by the day their next maintenance check can be due */
+    private final transient MaintenanceSchedule maintenanceSchedule = new MaintenanceSchedule();
+
+    /** Timings of the recent new day processing, for diagnosing slow days */
+    private final transient NewDayProfiler newDayProfiler = new NewDayProfiler();
+
     private final IAutosaveService autosaveService;
 
     public Campaign() {
@@ -283,9 +300,7 @@ public class Campaign implements Serializable, ITechManager {
         CurrencyManager.getInstance().setCampaign(this);
         location = new CurrentLocation(Systems.getInstance().getSystems().get("Outreach"), 0);
         campaignOptions = new CampaignOptions();
-        currentReport = new ArrayList<>();
-        currentReportHTML = "";
-        newReports = new ArrayList<>();
+        dailyReport = new DailyReport();
         dateFormat = "EEEE, MMMM d yyyy";
         shortDateFormat = "yyyyMMdd";
         name = "My Campaign";
@@ -316,8 +331,11 @@ public class Campaign implements Serializable, ITechManager {
         personnelMarket = new PersonnelMarket();
         contractMarket = new ContractMarket();
         unitMarket = new UnitMarket();
-        retirementDefectionTracker = new RetirementDefectionTracker();
+        setRetirementDefectionTracker(new RetirementDefectionTracker());
+        MekHQ.registerHandler(shoppingRegionCache);
+        MekHQ.registerHandler(maintenanceSchedule);
         fatigueLevel = 0;
+        random = new CampaignRandom();
         atbConfig = null;
         autosaveService = new AutosaveService();
         hasActiveContract = false;
@@ -516,14 +534,37 @@ public class Campaign implements Serializable, ITechManager {
         unitMarket.generateUnitOffers(this);
     }
 
+    /**
+     * Replaces the retirement and defection tracker. The tracker listens for the changes that
+     * invalidate its cached target numbers while it is attached to the campaign.
+     */
     public void setRetirementDefectionTracker(RetirementDefectionTracker rdt) {
+        if (null != retirementDefectionTracker) {
+            MekHQ.unregisterHandler(retirementDefectionTracker);
+        }
         retirementDefectionTracker = rdt;
+        if (null != rdt) {
+            MekHQ.registerHandler(rdt);
+        }
     }
 
     public RetirementDefectionTracker getRetirementDefectionTracker() {
         return retirementDefectionTracker;
     }
 
+    /**
+     * Stops the event handlers attached to this campaign from receiving events. Called when the
+     * campaign is replaced, so the handlers of a campaign that is no longer used do not stay
+     * registered with the event bus.
+     */
+    public void unregisterHandlers() {
+        MekHQ.unregisterHandler(shoppingRegionCache);
+        MekHQ.unregisterHandler(maintenanceSchedule);
+        if (null != retirementDefectionTracker) {
+            MekHQ.unregisterHandler(retirementDefectionTracker);
+        }
+    }
+
     public void setFatigueLevel(int fl) {
         fatigueLevel = fl;
     }
@@ -532,6 +573,13 @@ public class Campaign implements Serializable, ITechManager {
         return fatigueLevel;
     }
 
+    /**
+     * @return the random streams used by the daily processing
+     */
+    public CampaignRandom getRandom() {
+        return random;
+    }
+
     /**
      * Initializes the unit generator based on the method chosen in campaignOptions.
      * Called when the unit generator is first used or when the method has been
@@ -543,13 +591,7 @@ public class Campaign implements Serializable, ITechManager {
         }
         if (campaignOptions.useStaticRATs()) {
             RATManager rm = new RATManager();
-            while (!RandomUnitGenerator.getInstance().isInitialized()) {
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    MekHQ.getLogger().error(getClass(), "initUnitGenerator", e);
-                }
-            }
+            StartupTasks.await(StartupTasks.whenInitialized(() -> RandomUnitGenerator.getInstance().isInitialized()));
             rm.setSelectedRATs(campaignOptions.getRATs());
             rm.setIgnoreRatEra(campaignOptions.canIgnoreRatEra());
             unitGenerator = rm;
@@ -1235,13 +1277,25 @@ public class Campaign implements Serializable, ITechManager {
      * @return A new {@link Person} of the given primary role, who is a dependent.
      */
     public Person newDependent(int type, boolean baby) {
+        return newDependent(type, baby, Crew.G_RANDOMIZE);
+    }
+
+    /**
+     * Generate a new dependent of the given type and gender
+     *
+     * @param type The primary role
+     * @param baby whether the dependent is a newborn baby
+     * @param gender The gender of the person to be generated, or a randomize it value
+     * @return A new {@link Person}.
+     */
+    public Person newDependent(int type, boolean baby, int gender) {
         Person person;
 
         if (!baby && campaignOptions.getRandomizeDependentOrigin()) {
-            person = newPerson(type);
+            person = newPerson(type, Person.T_NONE, getFactionSelector(), getPlanetSelector(), gender);
         } else {
             person = newPerson(type, Person.T_NONE, new DefaultFactionSelector(),
-                    new DefaultPlanetSelector(), Crew.G_RANDOMIZE);
+                    new DefaultPlanetSelector(), gender);
         }
 
         person.setDependent(true);
@@ -1375,6 +1429,8 @@ public class Campaign implements Serializable, ITechManager {
         UUID id = (p.getId() == null) ? UUID.randomUUID() : p.getId();
         p.setId(id);
         personnel.put(id, p);
+        familyGraph.addPerson(p);
+        marriageMarket.update(p);
 
         boolean bondsman = campaignOptions.getDefaultPrisonerStatus() == CampaignOptions.BONDSMAN_RANK;
         String add = prisoner ? (bondsman ? " as a bondsman" : " as a prisoner") : "";
@@ -1612,6 +1668,7 @@ public class Campaign implements Serializable, ITechManager {
 
     private void addAncestorsWithoutId(Ancestors a) {
         ancestors.put(a.getId(), a);
+        familyGraph.addAncestors(a);
     }
 
     public Iterable<Ancestors> getAncestors() {
@@ -1620,13 +1677,7 @@ public class Campaign implements Serializable, ITechManager {
 
     /** @return a matching ancestors entry for the arguments, or null if there isn't any */
     public Ancestors getAncestors(UUID fatherId, UUID motherId) {
-        for(Map.Entry<UUID, Ancestors> m : ancestors.entrySet()) {
-            Ancestors a = m.getValue();
-            if(Objects.equals(fatherId, a.getFatherId()) && Objects.equals(motherId, a.getMotherId())) {
-                return a;
-            }
-        }
-        return null;
+        return familyGraph.getAncestors(fatherId, motherId);
     }
 
     public Ancestors getAncestors(UUID id) {
@@ -1638,9 +1689,16 @@ public class Campaign implements Serializable, ITechManager {
 
     public Ancestors createAncestors(UUID father, UUID mother) {
         Ancestors na = new Ancestors(father, mother, this);
-        ancestors.put(na.getId(), na);
+        addAncestorsWithoutId(na);
         return na;
     }
+
+    /**
+     * @return the links between the people in the campaign and their ancestors
+     */
+    public FamilyGraph getFamilyGraph() {
+        return familyGraph;
+    }
     //endregion Ancestors
 
     //region Other Personnel Methods
@@ -1650,9 +1708,18 @@ public class Campaign implements Serializable, ITechManager {
      */
     public void importPerson(Person p) {
         personnel.put(p.getId(), p);
+        familyGraph.addPerson(p);
+        marriageMarket.update(p);
         MekHQ.triggerEvent(new PersonNewEvent(p));
     }
 
+    /**
+     * @return the people in the campaign looking for a spouse
+     */
+    public MarriageMarket getMarriageMarket() {
+        return marriageMarket;
+    }
+
     public Person getPerson(UUID id) {
         if (id == null) {
             return null;
@@ -2071,26 +2138,50 @@ public class Campaign implements Serializable, ITechManager {
         return forceIds.get(id);
     }
 
-    public List<String> getCurrentReport() {
-        return currentReport;
+    public DailyReport getDailyReport() {
+        return dailyReport;
     }
 
-    public void setCurrentReportHTML(String html) {
-        currentReportHTML = html;
+    public MaintenanceSchedule getMaintenanceSchedule() {
+        return maintenanceSchedule;
     }
 
-    public String getCurrentReportHTML() {
-        return currentReportHTML;
+    public List<String> getCurrentReport() {
+        return dailyReport.getLines();
     }
 
-    public void setNewReports(List<String> reports) {
-        newReports = reports;
+    public String getCurrentReportHTML() {
+        return dailyReport.getHtml();
     }
 
+    /**
+     * @return the html of the report lines added since the last call, for the gui to add to the
+     *         report it shows
+     */
     public List<String> fetchAndClearNewReports() {
-        List<String> oldReports = newReports;
-        setNewReports(new ArrayList<>());
-        return oldReports;
+        return dailyReport.fetchNewLines();
+    }
+
+    /**
+     * Holds back the {@link ReportEvent} of each report added until the matching call to
+     * {@link #endReportBatch()}, which triggers a single event for all of them. Batches may be
+     * nested.
+     */
+    public void beginReportBatch() {
+        if (reportBatches++ == 0) {
+            reportBatchStart = dailyReport.size();
+        }
+    }
+
+    public void endReportBatch() {
+        if (--reportBatches == 0) {
+            List<String> lines = dailyReport.getLines();
+            int end = dailyReport.size();
+            if (end > reportBatchStart) {
+                MekHQ.triggerEvent(new ReportEvent(this,
+                        String.join(REPORT_LINEBREAK, lines.subList(reportBatchStart, end))));
+            }
+        }
     }
 
     /**
@@ -2316,6 +2407,17 @@ public class Campaign implements Serializable, ITechManager {
 
 
     public String healPerson(Person medWork, Person doctor) {
+        return healPerson(medWork, doctor, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Attempts to heal a person, rolling the healing check with the given random stream
+     * @param medWork the person being healed
+     * @param doctor the doctor healing them
+     * @param random the random stream to roll with
+     * @return the report of the attempt
+     */
+    public String healPerson(Person medWork, Person doctor, Random random) {
         if (getCampaignOptions().useAdvancedMedical()) {
             return "";
         }
@@ -2323,7 +2425,7 @@ public class Campaign implements Serializable, ITechManager {
         report += doctor.getHyperlinkedFullTitle() + " attempts to heal "
                 + medWork.getFullName();
         TargetRoll target = getTargetFor(medWork, doctor);
-        int roll = Compute.d6(2);
+        int roll = CampaignRandom.d6(random, 2);
         report = report + ",  needs " + target.getValueAsString()
                 + " and rolls " + roll + ":";
         int xpGained = 0;
@@ -2332,7 +2434,7 @@ public class Campaign implements Serializable, ITechManager {
                 && (doctor.getOptions().booleanOption(PersonnelOptions.EDGE_MEDICAL))) {
             if (roll == 2  && doctor.getCurrentEdge() > 0 && target.getValue() != TargetRoll.AUTOMATIC_SUCCESS) {
                 doctor.setCurrentEdge(doctor.getCurrentEdge() - 1);
-                roll = Compute.d6(2);
+                roll = CampaignRandom.d6(random, 2);
                 report += medWork.fail() + "\n" + doctor.getHyperlinkedFullTitle() + " uses Edge to reroll:"
                         + " rolls " + roll + ":";
             }
@@ -2606,9 +2708,7 @@ public class Campaign implements Serializable, ITechManager {
         List<IAcquisitionWork> shelvedItems = new ArrayList<>();
 
         //find planets within a certain radius - the function will weed out dead planets
-        List<PlanetarySystem> systems = Systems.getInstance().getShoppingSystems(getCurrentSystem(),
-                getCampaignOptions().getMaxJumpsPlanetaryAcquisition(),
-                currentDate);
+        List<ShoppingRegionCache.ShoppingSystem> systems = shoppingRegionCache.getShoppingSystems(this);
 
         for (Person person : logisticsPersonnel) {
             if (currentList.isEmpty()) {
@@ -2618,7 +2718,8 @@ public class Campaign implements Serializable, ITechManager {
 
             String personTitle = person.getHyperlinkedFullTitle() + " ";
 
-            for (PlanetarySystem system: systems) {
+            for (ShoppingRegionCache.ShoppingSystem shoppingSystem : systems) {
+                PlanetarySystem system = shoppingSystem.getSystem();
                 List<IAcquisitionWork> remainingItems = new ArrayList<>();
 
                 //loop through shopping list. If its time to check, then check as appropriate. Items not
@@ -2734,8 +2835,7 @@ public class Campaign implements Serializable, ITechManager {
         }
         DateTime currentDate = Utilities.getDateTimeDay(getCalendar());
         TargetRoll target = getTargetForAcquisition(acquisition, person, false);
-        target = system.getPrimaryPlanet().getAcquisitionMods(target, getDate(), getCampaignOptions(), getFaction(),
-                acquisition.getTechBase() == Part.T_CLAN);
+        target = getPlanetaryAcquisitionMods(target, acquisition, system);
 
         if (target.getValue() == TargetRoll.IMPOSSIBLE) {
             if(getCampaignOptions().usePlanetAcquisitionVerboseReporting()) {
@@ -2757,6 +2857,30 @@ public class Campaign implements Serializable, ITechManager {
         }
     }
 
+    /**
+     * Adds the modifiers of a system's primary planet to an acquisition roll, using the
+     * modifiers cached with the shopping region when the system is part of it.
+     * @param target - the acquisition roll without the planetary modifiers
+     * @param acquisition - The <code> IAcquisitionWork</code> being acquired.
+     * @param system - The <code>PlanetarySystem</code> object where the acquisition is being attempted.
+     * @return the roll with the planetary modifiers, or an impossible roll if the planet cannot supply it
+     */
+    private TargetRoll getPlanetaryAcquisitionMods(TargetRoll target, IAcquisitionWork acquisition,
+            PlanetarySystem system) {
+        boolean clanPart = acquisition.getTechBase() == Part.T_CLAN;
+        ShoppingRegionCache.ShoppingSystem shoppingSystem = shoppingRegionCache.getShoppingSystem(this, system);
+        if (null == shoppingSystem) {
+            return system.getPrimaryPlanet().getAcquisitionMods(target, getDate(), getCampaignOptions(), getFaction(),
+                    clanPart);
+        }
+        TargetRoll planetMods = shoppingSystem.getAcquisitionMods(clanPart);
+        if (planetMods.getValue() == TargetRoll.IMPOSSIBLE) {
+            return planetMods;
+        }
+        target.append(planetMods);
+        return target;
+    }
+
     /***
      * Attempt to acquire a given <code>IAcquisitionWork</code> object.
      * This is the default method used by for non-planetary based acquisition.
@@ -2792,8 +2916,7 @@ public class Campaign implements Serializable, ITechManager {
         }
 
         if(null != system) {
-            target = system.getPrimaryPlanet().getAcquisitionMods(target, getDate(), getCampaignOptions(), getFaction(),
-                    acquisition.getTechBase() == Part.T_CLAN);
+            target = getPlanetaryAcquisitionMods(target, acquisition, system);
         }
 
         report += "attempts to find " + acquisition.getAcquisitionName();
@@ -3548,31 +3671,45 @@ public class Campaign implements Serializable, ITechManager {
     }
 
     public void processNewDayPersonnel() {
+        // Phase one: roll each person's random marriage in parallel. Everything done here only
+        // reads the campaign, and each person rolls on their own random stream, so the results
+        // do not depend on the order the people are processed in.
+        final LocalDate today = getLocalDate();
+        final boolean useRandomMarriages = getCampaignOptions().useRandomMarriages();
+        List<PersonnelDay> days = getActivePersonnel().parallelStream().map(p -> {
+            PersonnelDay day = new PersonnelDay(p,
+                    random.getStream(CampaignRandom.Stream.PERSONNEL, today, p.getId()));
+            if (useRandomMarriages) {
+                day.potentialSpouses = p.rollRandomMarriage(day.random);
+            }
+            return day;
+        }).collect(Collectors.toList());
+
+        // Phase two: apply the results in personnel order. Births, healing and idle XP change
+        // other people, so they are done here, but still roll on the person's own stream.
         List<Person> babies = new ArrayList<>();
-        for (Person p : getPersonnel()) {
-            if (!p.isActive()) {
-                continue;
-            }
+        for (PersonnelDay day : days) {
+            Person p = day.person;
 
             // Random Death
 
             // Random Marriages
-            if (getCampaignOptions().useRandomMarriages()) {
-                p.randomMarriage();
+            if (day.potentialSpouses != null) {
+                p.addRandomSpouse(day.potentialSpouses, day.random);
             }
 
             // Procreation
             if (p.isFemale()) {
                 if (p.isPregnant()) {
                     if (getCampaignOptions().useUnofficialProcreation()) {
-                        if (getLocalDate().compareTo((p.getDueDate())) == 0) {
-                            babies.addAll(p.birth());
+                        if (today.compareTo((p.getDueDate())) == 0) {
+                            babies.addAll(p.birth(day.random));
                         }
                     } else {
                         p.removePregnancy();
                     }
                 } else if (getCampaignOptions().useUnofficialProcreation()) {
-                    p.procreate();
+                    p.procreate(day.random);
                 }
             }
 
@@ -3584,7 +3721,7 @@ public class Campaign implements Serializable, ITechManager {
                 Person doctor = getPerson(p.getDoctorId());
                 if ((doctor != null) && doctor.isDoctor()) {
                     if (p.getDaysToWaitForHealing() <= 0) {
-                        addReport(healPerson(p, doctor));
+                        addReport(healPerson(p, doctor, day.random));
                     }
                 } else if (p.checkNaturalHealing(15)) {
                     addReport(p.getHyperlinkedFullTitle() + " heals naturally!");
@@ -3596,7 +3733,7 @@ public class Campaign implements Serializable, ITechManager {
             }
             // TODO Advanced Medical needs to go away from here later on
             if (getCampaignOptions().useAdvancedMedical()) {
-                InjuryUtil.resolveDailyHealing(this, p);
+                InjuryUtil.resolveDailyHealing(this, p, day.random::nextInt);
                 Unit u = getUnit(p.getUnitId());
                 if (u != null) {
                     u.resetPilotAndEntity();
@@ -3606,7 +3743,7 @@ public class Campaign implements Serializable, ITechManager {
             // Reset edge points to the purchased value each week. This should only
             // apply for support personnel - combat troops reset with each new mm game
             if ((p.isAdmin() || p.isDoctor() || p.isEngineer() || p.isTech())
-                    && (getLocalDate().getDayOfWeek() == DayOfWeek.MONDAY)) {
+                    && (today.getDayOfWeek() == DayOfWeek.MONDAY)) {
                 p.resetCurrentEdge();
             }
 
@@ -3614,7 +3751,8 @@ public class Campaign implements Serializable, ITechManager {
                     && p.isActive() && !p.isPrisoner()) { // Prisoners can't gain XP, while Bondsmen can gain xp
                 p.setIdleMonths(p.getIdleMonths() + 1);
                 if (p.getIdleMonths() >= getCampaignOptions().getMonthsIdleXP()) {
-                    if (Compute.d6(2) >= getCampaignOptions().getTargetIdleXP()) {
+                    int roll = CampaignRandom.d6(day.random, 2);
+                    if (roll >= getCampaignOptions().getTargetIdleXP()) {
                         p.setXp(p.getXp() + getCampaignOptions().getIdleXP());
                         addReport(p.getHyperlinkedFullTitle() + " has gained "
                                 + getCampaignOptions().getIdleXP() + " XP");
@@ -3629,6 +3767,18 @@ public class Campaign implements Serializable, ITechManager {
         }
     }
 
+    /** The working state of a single person during {@link #processNewDayPersonnel()} */
+    private static class PersonnelDay {
+        private final Person person;
+        private final Random random;
+        private List<Person> potentialSpouses;
+
+        private PersonnelDay(Person person, Random random) {
+            this.person = person;
+            this.random = random;
+        }
+    }
+
     public void processNewDayUnits() {
         // need to loop through units twice, the first time to do all maintenance and
         // the second
@@ -3636,6 +3786,7 @@ public class Campaign implements Serializable, ITechManager {
         // by other
         // stuff. This is also a good place to ensure that a unit's engineer gets reset
         // and updated.
+        maintenanceSchedule.releaseDue(getLocalDate());
         for (Unit u : getUnits()) {
             u.resetEngineer();
             if (null != u.getEngineer()) {
@@ -3733,8 +3884,23 @@ public class Campaign implements Serializable, ITechManager {
             return false;
         }
 
+        // The gui shows the whole new report once the day has arrived, so there is no need to
+        // tell it about every line added on the way
+        beginReportBatch();
+        try {
+            processNewDay();
+        } finally {
+            endReportBatch();
+        }
+        return true;
+    }
+
+    private void processNewDay() {
         // Autosave based on the previous day's information
+        newDayProfiler.beginDay();
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.AUTOSAVE);
         this.autosaveService.requestDayAdvanceAutosave(this);
+        newDayProfiler.endPhase(1);
 
         // Advance the day by one - TODO : Swap me to LocalDate tracking instead
         calendar.add(Calendar.DAY_OF_MONTH, 1);
@@ -3747,11 +3913,11 @@ public class Campaign implements Serializable, ITechManager {
         }
 
         // Clear Reports
-        getCurrentReport().clear();
-        setCurrentReportHTML("");
-        newReports.clear();
+        dailyReport.clear();
+        reportBatchStart = 0;
         beginReport("<b>" + getDateAsString() + "</b>");
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.NEWS);
         // New Year Changes
         if (getLocalDate().getDayOfYear() == 1) {
             // News is reloaded
@@ -3761,31 +3927,57 @@ public class Campaign implements Serializable, ITechManager {
             getGameOptions().getOption("year").setValue(getGameYear());
         }
 
+        int reportLines = getCurrentReport().size();
         readNews();
+        newDayProfiler.endPhase(getCurrentReport().size() - reportLines);
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.LOCATION);
         getLocation().newDay(this);
+        newDayProfiler.endPhase(1);
 
         // Manage the personnel market
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.PERSONNEL_MARKET);
         getPersonnelMarket().generatePersonnelForDay(this);
+        newDayProfiler.endPhase(getPersonnelMarket().getPersonnel().size());
 
         // Process New Day for AtB
         if (getCampaignOptions().getUseAtB()) {
+            newDayProfiler.beginPhase(NewDayProfiler.Phase.ATB);
             processNewDayATB();
+            newDayProfiler.endPhase(missions.size());
         }
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.PERSONNEL);
         processNewDayPersonnel();
+        newDayProfiler.endPhase(personnel.size());
 
         resetAstechMinutes();
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.UNITS);
         processNewDayUnits();
+        newDayProfiler.endPhase(units.size());
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.SHOPPING);
+        int shoppingItems = getShoppingList().getAllShoppingItems().size();
         setShoppingList(goShopping(getShoppingList()));
+        newDayProfiler.endPhase(shoppingItems);
 
         // check for anything in finances
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.FINANCES);
         getFinances().newDay(this);
+        newDayProfiler.endPhase(getFinances().getAllTransactions().size());
 
+        newDayProfiler.beginPhase(NewDayProfiler.Phase.NEW_DAY_EVENT);
         MekHQ.triggerEvent(new NewDayEvent(this));
-        return true;
+        newDayProfiler.endPhase(1);
+        newDayProfiler.endDay(getDate());
+    }
+
+    /**
+     * @return the timings of the recent new day processing, for diagnosing slow days
+     */
+    public NewDayProfiler getNewDayProfiler() {
+        return newDayProfiler;
     }
 
     /**
@@ -3927,6 +4119,7 @@ public class Campaign implements Serializable, ITechManager {
 
         // finally remove the unit
         units.remove(unit.getId());
+        maintenanceSchedule.unschedule(unit.getId());
         checkDuplicateNamesDuringDelete(unit.getEntity());
         addReport(unit.getName() + " has been removed from the unit roster.");
         MekHQ.triggerEvent(new UnitRemovedEvent(unit));
@@ -3958,6 +4151,8 @@ public class Campaign implements Serializable, ITechManager {
         }
 
         personnel.remove(id);
+        familyGraph.removePerson(person);
+        marriageMarket.remove(person);
         if (person.getPrimaryRole() == Person.T_ASTECH) {
             astechPoolMinutes = Math.max(0, astechPoolMinutes - 480);
             astechPoolOvertime = Math.max(0, astechPoolOvertime - 240);
@@ -4106,13 +4301,11 @@ public class Campaign implements Serializable, ITechManager {
     }
 
     public void removeKill(Kill k) {
-        if(kills.containsKey(k.getPilotId())) {
-            kills.get(k.getPilotId()).remove(k);
-        }
+        kills.remove(k);
     }
 
     public void removeKillsFor(UUID personID) {
-        kills.remove(personID);
+        kills.removeAllFor(personID);
     }
 
     public void removeForce(Force force) {
@@ -4266,16 +4459,11 @@ public class Campaign implements Serializable, ITechManager {
         if (getCampaignOptions().getUseAtB()) {
             RandomFactionGenerator.getInstance().startup(this);
 
-            int loops = 0;
-            while (!RandomUnitGenerator.getInstance().isInitialized()) {
-                try {
-                    Thread.sleep(50);
-                    if (++loops > 20) {
-                        // Wait for up to a second
-                        break;
-                    }
-                } catch (InterruptedException ignore) {
-                }
+            try {
+                // Wait for up to a second
+                StartupTasks.whenInitialized(() -> RandomUnitGenerator.getInstance().isInitialized())
+                        .get(1, TimeUnit.SECONDS);
+            } catch (InterruptedException | ExecutionException | TimeoutException ignore) {
             }
         }
     }
@@ -4396,15 +4584,10 @@ public class Campaign implements Serializable, ITechManager {
     }
 
     private void addReportInternal(String r) {
-        currentReport.add(r);
-        if( currentReportHTML.length() > 0 ) {
-            currentReportHTML = currentReportHTML + REPORT_LINEBREAK + r;
-            newReports.add(REPORT_LINEBREAK);
-        } else {
-            currentReportHTML = r;
+        dailyReport.add(r);
+        if (reportBatches == 0) {
+            MekHQ.triggerEvent(new ReportEvent(this, r));
         }
-        newReports.add(r);
-        MekHQ.triggerEvent(new ReportEvent(this, r));
     }
 
     public void addReports(ArrayList<String> reports) {
@@ -4705,6 +4888,7 @@ public class Campaign implements Serializable, ITechManager {
         MekHqXmlUtil.writeSimpleXmlTag(pw1, 2, "calendar",
                 df.format(calendar.getTime()));
         MekHqXmlUtil.writeSimpleXmlTag(pw1, 2, "fatigueLevel", fatigueLevel);
+        MekHqXmlUtil.writeSimpleXmlTag(pw1, 2, "randomSeed", random.getSeed());
         {
             pw1.println("\t\t<nameGen>");
             pw1.print("\t\t\t<faction>");
@@ -4718,7 +4902,7 @@ public class Campaign implements Serializable, ITechManager {
         {
             pw1.println("\t\t<currentReport>");
 
-            for (String s : currentReport) {
+            for (String s : dailyReport.getLines()) {
                 pw1.print("\t\t\t<reportLine><![CDATA[");
                 pw1.print(s);
                 pw1.println("]]></reportLine>");
@@ -4750,10 +4934,8 @@ public class Campaign implements Serializable, ITechManager {
         location.writeToXml(pw1, 1);
         shoppingList.writeToXml(pw1, 1);
         pw1.println("\t<kills>");
-        for (List<Kill> kills : kills.values()) {
-            for(Kill k : kills) {
-                k.writeToXml(pw1, 2);
-            }
+        for (Kill k : kills.getKills()) {
+            k.writeToXml(pw1, 2);
         }
         pw1.println("\t</kills>");
         pw1.println("\t<skillTypes>");
@@ -5512,50 +5694,76 @@ public class Campaign implements Serializable, ITechManager {
     }
 
     public TargetRoll getTargetFor(IPartWork partWork, Person tech) {
+        TargetAccumulator.Roll target = new TargetAccumulator.Roll();
+        collectTargetFor(partWork, tech, target);
+        return target.getTargetRoll();
+    }
+
+    /**
+     * Works out the same target number as {@link #getTargetFor(IPartWork, Person)} without the
+     * descriptions of its modifiers, for code that only compares target numbers.
+     */
+    public int getTargetValueFor(IPartWork partWork, Person tech) {
+        TargetAccumulator.Value target = new TargetAccumulator.Value();
+        collectTargetFor(partWork, tech, target);
+        return target.isExact() ? target.getValue() : getTargetFor(partWork, tech).getValue();
+    }
+
+    private void collectTargetFor(IPartWork partWork, Person tech, TargetAccumulator target) {
         Skill skill = tech.getSkillForWorkingOn(partWork);
         int modePenalty = partWork.getMode().expReduction;
         if (null != partWork.getUnit() && !partWork.getUnit().isAvailable(partWork instanceof Refit)) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "This unit is not currently available!");
+            return;
         }
         if (partWork.getTeamId() != null
                 && !partWork.getTeamId().equals(tech.getId())) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "Already being worked on by another team");
+            return;
         }
         if (null == skill) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "Assigned tech does not have the right skills");
+            return;
         }
         if (!getCampaignOptions().isDestroyByMargin()
                 && partWork.getSkillMin() > (skill.getExperienceLevel() - modePenalty)) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "Task is beyond this tech's skill level");
+            return;
         }
         if (partWork.getSkillMin() > SkillType.EXP_ELITE) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE, "Task is impossible.");
+            target.set(TargetRoll.IMPOSSIBLE, "Task is impossible.");
+            return;
         }
         if (!partWork.needsFixing() && !partWork.isSalvaging()) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE, "Task is not needed.");
+            target.set(TargetRoll.IMPOSSIBLE, "Task is not needed.");
+            return;
         }
         if (partWork instanceof MissingPart
                 && null == ((MissingPart) partWork).findReplacement(false)) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE, "Part not available.");
+            target.set(TargetRoll.IMPOSSIBLE, "Part not available.");
+            return;
         }
         if (!(partWork instanceof Refit) && tech.getMinutesLeft() <= 0
                 && (!isOvertimeAllowed() || tech.getOvertimeLeft() <= 0)) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE, "No time left.");
+            target.set(TargetRoll.IMPOSSIBLE, "No time left.");
+            return;
         }
         String notFixable = partWork.checkFixable();
         if (null != notFixable) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE, notFixable);
+            target.set(TargetRoll.IMPOSSIBLE, notFixable);
+            return;
         }
         // if this is an infantry refit, then automatic success
         if (partWork instanceof Refit && null != partWork.getUnit()
                 && partWork.getUnit().getEntity() instanceof Infantry
                 && !(partWork.getUnit().getEntity() instanceof BattleArmor)) {
-            return new TargetRoll(TargetRoll.AUTOMATIC_SUCCESS,
+            target.set(TargetRoll.AUTOMATIC_SUCCESS,
                     "infantry refit");
+            return;
         }
 
         //if we are using the MoF rule, then we will ignore mode penalty here
@@ -5571,10 +5779,9 @@ public class Campaign implements Serializable, ITechManager {
                 && SkillType.EXP_GREEN == (skill.getExperienceLevel() - modePenalty)) {
             value++;
         }
-        TargetRoll target = new TargetRoll(value,
-                SkillType.getExperienceLevelName(skill.getExperienceLevel() - modePenalty));
+        target.set(value, SkillType.getExperienceLevelName(skill.getExperienceLevel() - modePenalty));
         if (target.getValue() == TargetRoll.IMPOSSIBLE) {
-            return target;
+            return;
         }
 
         target.append(partWork.getAllMods(tech));
@@ -5617,10 +5824,15 @@ public class Campaign implements Serializable, ITechManager {
         if (helpMod > 0) {
             target.addModifier(helpMod, "shorthanded");
         }
-        return target;
     }
 
     public TargetRoll getTargetForMaintenance(IPartWork partWork, Person tech) {
+        TargetAccumulator.Roll target = new TargetAccumulator.Roll();
+        collectTargetForMaintenance(partWork, tech, target);
+        return target.getTargetRoll();
+    }
+
+    private void collectTargetForMaintenance(IPartWork partWork, Person tech, TargetAccumulator target) {
         int value = 10;
         String skillLevel = "Unmaintained";
         if (null != tech) {
@@ -5632,9 +5844,9 @@ public class Campaign implements Serializable, ITechManager {
             }
         }
 
-        TargetRoll target = new TargetRoll(value, skillLevel);
+        target.set(value, skillLevel);
         if (target.getValue() == TargetRoll.IMPOSSIBLE) {
-            return target;
+            return;
         }
 
         target.append(partWork.getAllModsForMaintenance());
@@ -5680,8 +5892,6 @@ public class Campaign implements Serializable, ITechManager {
                 target.addModifier(helpMod, "shorthanded");
             }
         }
-
-        return target;
     }
 
     public TargetRoll getTargetForAcquisition(IAcquisitionWork acquisition,
@@ -5691,49 +5901,77 @@ public class Campaign implements Serializable, ITechManager {
 
     public TargetRoll getTargetForAcquisition(IAcquisitionWork acquisition,
             Person person, boolean checkDaysToWait) {
+        TargetAccumulator.Roll target = new TargetAccumulator.Roll();
+        collectTargetForAcquisition(acquisition, person, checkDaysToWait, target);
+        return target.getTargetRoll();
+    }
+
+    /**
+     * Works out the same target number as
+     * {@link #getTargetForAcquisition(IAcquisitionWork, Person, boolean)} without the descriptions
+     * of its modifiers.
+     */
+    public int getTargetValueForAcquisition(IAcquisitionWork acquisition,
+            Person person, boolean checkDaysToWait) {
+        TargetAccumulator.Value target = new TargetAccumulator.Value();
+        collectTargetForAcquisition(acquisition, person, checkDaysToWait, target);
+        return target.isExact() ? target.getValue()
+                : getTargetForAcquisition(acquisition, person, checkDaysToWait).getValue();
+    }
+
+    private void collectTargetForAcquisition(IAcquisitionWork acquisition,
+            Person person, boolean checkDaysToWait, TargetAccumulator target) {
         if (getCampaignOptions().getAcquisitionSkill().equals(
                 CampaignOptions.S_AUTO)) {
-            return new TargetRoll(TargetRoll.AUTOMATIC_SUCCESS,
+            target.set(TargetRoll.AUTOMATIC_SUCCESS,
                     "Automatic Success");
+            return;
         }
         if (null == person) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "No one on your force is capable of acquiring parts");
+            return;
         }
         Skill skill = person.getSkillForWorkingOn(
                 getCampaignOptions().getAcquisitionSkill());
         if (null != getShoppingList().getShoppingItem(
                 acquisition.getNewEquipment())
                 && checkDaysToWait) {
-            return new TargetRoll(
+            target.set(
                     TargetRoll.AUTOMATIC_FAIL,
                     "You must wait until the new cycle to check for this part. Further attempts will be added to the shopping list.");
+            return;
         }
         if (acquisition.getTechBase() == Part.T_CLAN
                 && !getCampaignOptions().allowClanPurchases()) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "You cannot acquire clan parts");
+            return;
         }
         if (acquisition.getTechBase() == Part.T_IS
                 && !getCampaignOptions().allowISPurchases()) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "You cannot acquire inner sphere parts");
+            return;
         }
         if (getCampaignOptions().getTechLevel() < Utilities
                 .getSimpleTechLevel(acquisition.getTechLevel())) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "You cannot acquire parts of this tech level");
+            return;
         }
         if(getCampaignOptions().limitByYear()
                 && !acquisition.isIntroducedBy(getGameYear(), useClanTechBase(), getTechFaction())) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "It has not been invented yet!");
+            return;
         }
         if(getCampaignOptions().disallowExtinctStuff() &&
                 (acquisition.isExtinctIn(getGameYear(), useClanTechBase(), getTechFaction())
                         || acquisition.getAvailability() == EquipmentType.RATING_X)) {
-            return new TargetRoll(TargetRoll.IMPOSSIBLE,
+            target.set(TargetRoll.IMPOSSIBLE,
                     "It is extinct!");
+            return;
         }
         if (getCampaignOptions().getUseAtB() &&
                 getCampaignOptions().getRestrictPartsByMission() && acquisition instanceof Part) {
@@ -5797,14 +6035,14 @@ public class Campaign implements Serializable, ITechManager {
             }
 
             if (partAvailability > findAtBPartsAvailabilityLevel(acquisition)) {
-                return new TargetRoll(TargetRoll.IMPOSSIBLE,
+                target.set(TargetRoll.IMPOSSIBLE,
                         "This part is not currently available to your unit.");
+                return;
             }
         }
-        TargetRoll target = new TargetRoll(skill.getFinalSkillValue(),
+        target.set(skill.getFinalSkillValue(),
                 SkillType.getExperienceLevelName(skill.getExperienceLevel()));// person.getTarget(Modes.MODE_NORMAL);
         target.append(acquisition.getAllAcquisitionMods());
-        return target;
     }
 
     public AtBContract getAttachedAtBContract(Unit unit) {
@@ -6181,11 +6419,7 @@ public class Campaign implements Serializable, ITechManager {
      * @param k A {@link Kill} to import into the campaign.
      */
     public void importKill(Kill k) {
-        if(!kills.containsKey(k.getPilotId())) {
-            kills.put(k.getPilotId(), new ArrayList<>());
-        }
-
-        kills.get(k.getPilotId()).add(k);
+        kills.add(k);
     }
 
     public void addKill(Kill k) {
@@ -6193,7 +6427,7 @@ public class Campaign implements Serializable, ITechManager {
 
         if (getCampaignOptions().getKillsForXP() > 0
                 && getCampaignOptions().getKillXPAward() > 0) {
-            if ((getKillsFor(k.getPilotId()).size() % getCampaignOptions()
+            if ((getKillCount(k.getPilotId()) % getCampaignOptions()
                     .getKillsForXP()) == 0) {
                 Person p = getPerson(k.getPilotId());
                 if (null != p) {
@@ -6204,24 +6438,19 @@ public class Campaign implements Serializable, ITechManager {
         }
     }
 
+    /**
+     * @return all the kills of the campaign. The list is not a copy, and follows later changes.
+     */
     public List<Kill> getKills() {
-        List<Kill> flattenedKills = new ArrayList<>();
-        for(List<Kill> personKills : kills.values()) {
-            flattenedKills.addAll(personKills);
-        }
-
-        return Collections.unmodifiableList(flattenedKills);
+        return kills.getKills();
     }
 
     public List<Kill> getKillsFor(UUID pid) {
-        List<Kill> personalKills = kills.get(pid);
-
-        if(personalKills == null) {
-            return Collections.emptyList();
-        }
+        return kills.getKillsFor(pid);
+    }
 
-        personalKills.sort(Comparator.comparing(Kill::getDate));
-        return personalKills;
+    public int getKillCount(UUID pid) {
+        return kills.getKillCount(pid);
     }
 
     public PartsStore getPartsStore() {
@@ -8051,6 +8280,12 @@ public class Campaign implements Serializable, ITechManager {
         }
         u.incrementDaysSinceMaintenance(maintained, astechsUsed);
 
+        // The time and astechs above are used every day, but the check itself is only due at the
+        // end of the cycle, so a unit still queued for a later day cannot be due yet
+        if (maintenanceSchedule.isScheduled(u.getId())) {
+            return;
+        }
+
         int ruggedMultiplier = 1;
         if (u.getEntity().hasQuirk(OptionsConstants.QUIRK_POS_RUGGED_1)) {
             ruggedMultiplier = 2;
@@ -8258,6 +8493,9 @@ public class Campaign implements Serializable, ITechManager {
 
             u.resetDaysSinceMaintenance();
         }
+
+        maintenanceSchedule.schedule(u.getId(), getLocalDate(),
+                getCampaignOptions().getMaintenanceCycleDays(), u.getDaysSinceMaintenance());
     }
 
     public void initTimeInService() {
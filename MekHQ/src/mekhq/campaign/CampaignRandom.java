@@ -0,0 +1,125 @@
+/*
+ * CampaignRandom.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The source of the random numbers used by a campaign's daily processing. Every subsystem
+ * rolls on its own stream, and each stream is derived from the campaign's seed and the
+ * current date only. Replaying a day from the same seed therefore gives the same results,
+ * however the subsystems are interleaved or parallelized.
+ *
+ * The seed is saved with the campaign.
+ */
+public class CampaignRandom {
+    /** The subsystems that roll on their own stream */
+    public enum Stream {
+        PERSONNEL,
+        ORIGIN,
+        CONTRACT_MARKET
+    }
+
+    private long seed;
+    private LocalDate streamDate;
+    private final Map<Stream, Random> streams = new EnumMap<>(Stream.class);
+
+    public CampaignRandom() {
+        this(new Random().nextLong());
+    }
+
+    public CampaignRandom(long seed) {
+        this.seed = seed;
+    }
+
+    public synchronized long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed, restarting every stream.
+     * @param seed the new seed
+     */
+    public synchronized void setSeed(long seed) {
+        this.seed = seed;
+        streams.clear();
+    }
+
+    /**
+     * Gets the stream of a subsystem for a day. The stream is shared by every caller for
+     * that subsystem during the day, and restarts when the date changes.
+     * @param stream the subsystem
+     * @param date the current campaign date
+     * @return the subsystem's random stream
+     */
+    public synchronized Random getStream(Stream stream, LocalDate date) {
+        if (!date.equals(streamDate)) {
+            streams.clear();
+            streamDate = date;
+        }
+        return streams.computeIfAbsent(stream,
+                s -> new Random(mix(mix(seed, s.ordinal()), date.toEpochDay())));
+    }
+
+    /**
+     * Creates a new stream of a subsystem for a single entity on a day. Unlike
+     * {@link #getStream(Stream, LocalDate)} the stream is not shared, so each entity may be
+     * processed on its own thread.
+     * @param stream the subsystem
+     * @param date the current campaign date
+     * @param id the id of the entity
+     * @return a new random stream for the entity
+     */
+    public Random getStream(Stream stream, LocalDate date, UUID id) {
+        long value = mix(mix(getSeed(), stream.ordinal()), date.toEpochDay());
+        value = mix(value, id.getMostSignificantBits());
+        return new Random(mix(value, id.getLeastSignificantBits()));
+    }
+
+    /**
+     * Rolls a number of six-sided dice on a stream.
+     * @param random the stream to roll on
+     * @param dice the number of dice
+     * @return the total of the dice
+     */
+    public static int d6(Random random, int dice) {
+        int total = 0;
+        for (int i = 0; i < dice; i++) {
+            total += random.nextInt(6) + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Combines a value into a seed, using the SplitMix64 finalizer so that nearby inputs give
+     * unrelated seeds.
+     */
+    private static long mix(long seed, long value) {
+        long z = seed + 0x9E3779B97F4A7C15L * (value + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * DailyReport.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The lines of the daily report. Lines are only ever added, until the report is cleared for a
+ * new day, and the html of the whole report is only put together when it is asked for, so adding
+ * a line costs the same however long the report already is.
+ *
+ * The report also tracks which lines the gui has not shown yet, so it can add just those to the
+ * report it shows.
+ */
+public class DailyReport implements Serializable {
+    private static final long serialVersionUID = 3519580245172690391L;
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<String> linesView = Collections.unmodifiableList(lines);
+    /* The html of the whole report, or null if lines were added since it was put together */
+    private String html = ""; //$NON-NLS-1$
+    /* The index of the first line that has not been fetched */
+    private int firstNewLine = 0;
+
+    public synchronized void add(String line) {
+        lines.add(line);
+        html = null;
+    }
+
+    public synchronized void clear() {
+        lines.clear();
+        html = ""; //$NON-NLS-1$
+        firstNewLine = 0;
+    }
+
+    /**
+     * @return the lines of the report. The list follows later changes.
+     */
+    public List<String> getLines() {
+        return linesView;
+    }
+
+    public synchronized int size() {
+        return lines.size();
+    }
+
+    /**
+     * @return the lines of the report, joined by {@link Campaign#REPORT_LINEBREAK}
+     */
+    public synchronized String getHtml() {
+        if (null == html) {
+            html = String.join(Campaign.REPORT_LINEBREAK, lines);
+        }
+        return html;
+    }
+
+    /**
+     * @return the html of the lines added since the last call, split into the lines and the
+     *         {@link Campaign#REPORT_LINEBREAK} between them
+     */
+    public synchronized List<String> fetchNewLines() {
+        List<String> newLines = new ArrayList<>(2 * (lines.size() - firstNewLine));
+        for (int i = firstNewLine; i < lines.size(); i++) {
+            if (i > 0) {
+                newLines.add(Campaign.REPORT_LINEBREAK);
+            }
+            newLines.add(lines.get(i));
+        }
+        firstNewLine = lines.size();
+        return newLines;
+    }
+}
@@ -53,7 +53,14 @@ public class GameEffect {
      * Helper method, applying the action with the default randomization source
      */
     public void apply() {
-        action.accept(DEFAULT_RND);
+        apply(DEFAULT_RND);
+    }
+
+    /**
+     * Applies the action with the given randomization source
+     */
+    public void apply(IntUnaryOperator rnd) {
+        action.accept(rnd);
     }
     
     @Override
@@ -0,0 +1,98 @@
+/*
+ * KillStore.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds the kills of a campaign, both in the order they were added and by the person who made
+ * them, so the kill log of a person and the number of kills they have are looked up directly
+ * and the list of all kills does not have to be rebuilt each time it is read.
+ *
+ * Kills are indexed by their pilot id when added, so a kill whose pilot id changes has to be
+ * removed before and added again after the change.
+ */
+public class KillStore implements Serializable {
+    private static final long serialVersionUID = -6034725362164418127L;
+
+    private static final Comparator<Kill> BY_DATE = Comparator.comparing(Kill::getDate,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final List<Kill> kills = new ArrayList<>();
+    private final List<Kill> killsView = Collections.unmodifiableList(kills);
+    /* person id -> the kills made by the person */
+    private final Map<UUID, List<Kill>> killsByPerson = new HashMap<>();
+
+    public void add(Kill kill) {
+        kills.add(kill);
+        killsByPerson.computeIfAbsent(kill.getPilotId(), k -> new ArrayList<>()).add(kill);
+    }
+
+    public void remove(Kill kill) {
+        List<Kill> personalKills = killsByPerson.get(kill.getPilotId());
+        if ((null != personalKills) && personalKills.remove(kill)) {
+            kills.remove(kill);
+            if (personalKills.isEmpty()) {
+                killsByPerson.remove(kill.getPilotId());
+            }
+        }
+    }
+
+    public void removeAllFor(UUID personId) {
+        List<Kill> personalKills = killsByPerson.remove(personId);
+        if (null != personalKills) {
+            kills.removeAll(personalKills);
+        }
+    }
+
+    /**
+     * @return all the kills, in the order they were added. The list follows later changes.
+     */
+    public List<Kill> getKills() {
+        return killsView;
+    }
+
+    /**
+     * @return the kills made by the person, ordered by date
+     */
+    public List<Kill> getKillsFor(UUID personId) {
+        List<Kill> personalKills = killsByPerson.get(personId);
+        if (null == personalKills) {
+            return Collections.emptyList();
+        }
+        // The date of a kill can be edited after it was added, so the order is checked here
+        // rather than kept on insert. Sorting a list that is already in order is cheap.
+        personalKills.sort(BY_DATE);
+        return Collections.unmodifiableList(personalKills);
+    }
+
+    public int getKillCount(UUID personId) {
+        List<Kill> personalKills = killsByPerson.get(personId);
+        return (null == personalKills) ? 0 : personalKills.size();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MaintenanceSchedule.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import megamek.common.event.Subscribe;
+import mekhq.campaign.event.OptionsChangedEvent;
+import mekhq.campaign.event.PersonTechAssignmentEvent;
+
+/**
+ * Queues the units of a campaign by the first day their next maintenance check can be due, so
+ * the daily maintenance only works out whether the check is due for the units that reach the
+ * head of the queue.
+ *
+ * A unit that is not queued has its check worked out at its next maintenance, which then queues
+ * it again. Units are dropped from the queue when their tech changes or they are mothballed or
+ * activated, and the whole queue is dropped when the campaign options change. The campaign
+ * registers the schedule with the event bus for as long as the campaign is in use.
+ */
+public class MaintenanceSchedule {
+    private static class Entry implements Comparable<Entry> {
+        private final UUID unitId;
+        private final LocalDate dueDate;
+
+        private Entry(UUID unitId, LocalDate dueDate) {
+            this.unitId = unitId;
+            this.dueDate = dueDate;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return dueDate.compareTo(other.dueDate);
+        }
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    /* unit id -> the day the unit is queued for. Queue entries for other days are out of date. */
+    private final Map<UUID, LocalDate> dueDates = new HashMap<>();
+
+    /**
+     * Queues the unit for the given day, replacing the day it was queued for before.
+     */
+    public synchronized void schedule(UUID unitId, LocalDate dueDate) {
+        dueDates.put(unitId, dueDate);
+        queue.add(new Entry(unitId, dueDate));
+    }
+
+    /**
+     * Queues the unit for the first day its check can be due. The days since maintenance go up
+     * by at most one a day, and quirks such as Rugged only lengthen the cycle but may be lost
+     * while the unit is queued, so this goes by the base cycle.
+     *
+     * @param unitId               the unit
+     * @param today                the day of the unit's last maintenance
+     * @param baseCycleDays        the maintenance cycle length from the campaign options
+     * @param daysSinceMaintenance the unit's days since maintenance after today's maintenance
+     */
+    public void schedule(UUID unitId, LocalDate today, int baseCycleDays, int daysSinceMaintenance) {
+        schedule(unitId, today.plusDays(Math.max(baseCycleDays - daysSinceMaintenance, 1)));
+    }
+
+    public synchronized void unschedule(UUID unitId) {
+        dueDates.remove(unitId);
+    }
+
+    public synchronized boolean isScheduled(UUID unitId) {
+        return dueDates.containsKey(unitId);
+    }
+
+    /**
+     * Takes the units queued for the given day or earlier out of the queue, so their next
+     * maintenance works out whether their check is due.
+     */
+    public synchronized void releaseDue(LocalDate date) {
+        while (!queue.isEmpty() && !queue.peek().dueDate.isAfter(date)) {
+            Entry entry = queue.poll();
+            // Entries replaced since they were queued are only dropped once they come up
+            if (entry.dueDate.equals(dueDates.get(entry.unitId))) {
+                dueDates.remove(entry.unitId);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        queue.clear();
+        dueDates.clear();
+    }
+
+    @Subscribe
+    public void handle(PersonTechAssignmentEvent ev) {
+        if (null != ev.getUnit()) {
+            unschedule(ev.getUnit().getId());
+        }
+    }
+
+    @Subscribe
+    public void handle(OptionsChangedEvent ev) {
+        clear();
+    }
+}
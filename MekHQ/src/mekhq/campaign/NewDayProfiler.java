@@ -0,0 +1,251 @@
+/*
+ * NewDayProfiler.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import megamek.common.logging.LogLevel;
+import mekhq.MekHQ;
+
+/**
+ * Records how long each phase of {@link Campaign#newDay()} takes, how much memory it allocates
+ * and how many items it processed, for the last {@link #MAX_DAYS_HISTORY} days. This lets users
+ * attach hard numbers to reports of slow days.
+ *
+ * Allocations are measured for the thread running the new day only, and are reported as -1 on
+ * JVMs that cannot measure them.
+ */
+public class NewDayProfiler {
+    /** The number of days kept in the history */
+    public static final int MAX_DAYS_HISTORY = 365;
+
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd"); //$NON-NLS-1$
+
+    public enum Phase {
+        AUTOSAVE("Autosave"),
+        NEWS("News"),
+        LOCATION("Location"),
+        PERSONNEL_MARKET("Personnel Market"),
+        ATB("AtB"),
+        PERSONNEL("Personnel"),
+        UNITS("Units"),
+        SHOPPING("Shopping"),
+        FINANCES("Finances"),
+        NEW_DAY_EVENT("New Day Event");
+
+        private final String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** The measurements for a single phase of a single day */
+    public static class PhaseProfile {
+        private final long nanos;
+        private final long allocatedBytes;
+        private final int items;
+
+        public PhaseProfile(long nanos, long allocatedBytes, int items) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+            this.items = items;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public double getMillis() {
+            return nanos / 1000000.0;
+        }
+
+        /** @return the bytes allocated during the phase, or -1 if they could not be measured */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public int getItems() {
+            return items;
+        }
+    }
+
+    /** The measurements for all the phases of a single day */
+    public static class DayProfile {
+        private final Date date;
+        private final Map<Phase, PhaseProfile> phases;
+
+        public DayProfile(Date date, Map<Phase, PhaseProfile> phases) {
+            this.date = date;
+            this.phases = phases;
+        }
+
+        public Date getDate() {
+            return date;
+        }
+
+        /** @return the profile of the given phase, or null if it did not run that day */
+        public PhaseProfile getPhase(Phase phase) {
+            return phases.get(phase);
+        }
+
+        public long getTotalNanos() {
+            long total = 0;
+            for (PhaseProfile phase : phases.values()) {
+                total += phase.getNanos();
+            }
+            return total;
+        }
+
+        public double getTotalMillis() {
+            return getTotalNanos() / 1000000.0;
+        }
+    }
+
+    private final LinkedList<DayProfile> history = new LinkedList<>();
+    private Map<Phase, PhaseProfile> currentDay;
+    private Phase currentPhase;
+    private long phaseStartNanos;
+    private long phaseStartBytes;
+
+    /** Starts recording a new day */
+    public void beginDay() {
+        currentDay = new EnumMap<>(Phase.class);
+        currentPhase = null;
+    }
+
+    public void beginPhase(Phase phase) {
+        currentPhase = phase;
+        phaseStartBytes = getAllocatedBytes();
+        phaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Finishes the phase started by the last call to {@link #beginPhase(Phase)}.
+     * @param items the number of items (people, units, ...) the phase processed
+     */
+    public void endPhase(int items) {
+        long nanos = System.nanoTime() - phaseStartNanos;
+        if ((null == currentDay) || (null == currentPhase)) {
+            return;
+        }
+        long bytes = getAllocatedBytes();
+        long allocated = ((bytes < 0) || (phaseStartBytes < 0)) ? -1 : bytes - phaseStartBytes;
+        currentDay.put(currentPhase, new PhaseProfile(nanos, allocated, items));
+        currentPhase = null;
+    }
+
+    /**
+     * Adds the day being recorded to the history.
+     * @param date the date of the day that was processed
+     */
+    public void endDay(Date date) {
+        if (null == currentDay) {
+            return;
+        }
+        synchronized (history) {
+            history.addFirst(new DayProfile(date, currentDay));
+            while (history.size() > MAX_DAYS_HISTORY) {
+                history.removeLast();
+            }
+        }
+        currentDay = null;
+    }
+
+    /** @return a copy of the recorded days, most recent first */
+    public List<DayProfile> getHistory() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    public void clear() {
+        synchronized (history) {
+            history.clear();
+        }
+    }
+
+    /**
+     * Writes the history as CSV, with one row per phase of each day, oldest day first.
+     * @param path the file to write to
+     * @return a report of the export, to be shown to the user
+     */
+    public String exportToCSV(String path) {
+        List<DayProfile> days = getHistory();
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(path));
+             CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT
+                     .withHeader("Date", "Phase", "WallTimeMs", "AllocatedBytes", "Items"))) {
+
+            for (int i = days.size() - 1; i >= 0; i--) {
+                DayProfile day = days.get(i);
+                for (Phase phase : Phase.values()) {
+                    PhaseProfile profile = day.getPhase(phase);
+                    if (null != profile) {
+                        csvPrinter.printRecord(CSV_DATE_FORMAT.format(day.getDate().toInstant()
+                                .atZone(ZoneId.systemDefault()).toLocalDate()), phase,
+                                String.format("%.3f", profile.getMillis()),
+                                profile.getAllocatedBytes(), profile.getItems());
+                    }
+                }
+            }
+
+            csvPrinter.flush();
+            return String.format("Exported %d days of new day timings", days.size());
+        } catch (IOException e) {
+            MekHQ.getLogger().log(getClass(), "exportToCSV", LogLevel.ERROR,
+                    "Error exporting new day timings to " + path);
+            MekHQ.getLogger().error(getClass(), "exportToCSV", e);
+            return "Error exporting new day timings. See log for details.";
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
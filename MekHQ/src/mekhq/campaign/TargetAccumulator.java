@@ -0,0 +1,125 @@
+/*
+ * TargetAccumulator.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import megamek.common.TargetRoll;
+
+/**
+ * Collects a target number as the campaign works it out, either as a full {@link TargetRoll}
+ * with the description of each modifier, or as a plain number for code that only compares
+ * target numbers. Both are filled in by the same code, so they cannot disagree.
+ *
+ * The plain number is only a sum, so it gives up as soon as it meets any of the special
+ * values {@link TargetRoll} treats differently, other than a starting value with no
+ * modifiers. The caller then works out the full {@link TargetRoll} instead.
+ */
+abstract class TargetAccumulator {
+    /** Sets the starting value, replacing anything collected so far */
+    abstract void set(int value, String desc);
+
+    abstract void addModifier(int value, String desc);
+
+    abstract void append(TargetRoll modifiers);
+
+    abstract int getValue();
+
+    /**
+     * @return <code>true</code> if {@link #getValue()} is the value of the full target roll
+     */
+    abstract boolean isExact();
+
+    static boolean isSpecial(int value) {
+        return (value == TargetRoll.IMPOSSIBLE) || (value == TargetRoll.AUTOMATIC_FAIL)
+                || (value == TargetRoll.AUTOMATIC_SUCCESS) || (value == TargetRoll.CHECK_FALSE);
+    }
+
+    /** Builds the full target roll */
+    static class Roll extends TargetAccumulator {
+        private TargetRoll target = new TargetRoll();
+
+        @Override
+        void set(int value, String desc) {
+            target = new TargetRoll(value, desc);
+        }
+
+        @Override
+        void addModifier(int value, String desc) {
+            target.addModifier(value, desc);
+        }
+
+        @Override
+        void append(TargetRoll modifiers) {
+            target.append(modifiers);
+        }
+
+        @Override
+        int getValue() {
+            return target.getValue();
+        }
+
+        @Override
+        boolean isExact() {
+            return true;
+        }
+
+        TargetRoll getTargetRoll() {
+            return target;
+        }
+    }
+
+    /** Only adds up the value, and ignores the descriptions */
+    static class Value extends TargetAccumulator {
+        private int value = 0;
+        private boolean special = false;
+        private boolean exact = true;
+
+        @Override
+        void set(int value, String desc) {
+            this.value = value;
+            special = isSpecial(value);
+            exact = true;
+        }
+
+        @Override
+        void addModifier(int value, String desc) {
+            if (special || isSpecial(value)) {
+                exact = false;
+            } else {
+                this.value += value;
+            }
+        }
+
+        @Override
+        void append(TargetRoll modifiers) {
+            addModifier(modifiers.getValue(), null);
+        }
+
+        @Override
+        int getValue() {
+            return value;
+        }
+
+        @Override
+        boolean isExact() {
+            return exact;
+        }
+    }
+}
@@ -927,7 +927,7 @@ public class CampaignXmlParser {
                     // ...That is, creating a new campaign throws in a date line
                     // for us...
                     // So make sure it's cleared out.
-                    retVal.getCurrentReport().clear();
+                    retVal.getDailyReport().clear();
 
                     for (int x2 = 0; x2 < nl2.getLength(); x2++) {
                         Node wn2 = nl2.item(x2);
@@ -937,7 +937,7 @@ public class CampaignXmlParser {
                         }
 
                         if (wn2.getNodeName().equalsIgnoreCase("reportLine")) {
-                            retVal.getCurrentReport().add(wn2.getTextContent());
+                            retVal.getDailyReport().add(wn2.getTextContent());
                         }
                     }
                 } else if (xn.equalsIgnoreCase("faction")) {
@@ -1003,6 +1003,8 @@ public class CampaignXmlParser {
                     retVal.setMedicPool(Integer.parseInt(wn.getTextContent().trim()));
                 } else if (xn.equalsIgnoreCase("fatigueLevel")) {
                     retVal.setFatigueLevel(Integer.parseInt(wn.getTextContent().trim()));
+                } else if (xn.equalsIgnoreCase("randomSeed")) {
+                    retVal.getRandom().setSeed(Long.parseLong(wn.getTextContent().trim()));
                 } else if (xn.equalsIgnoreCase("id")) {
                     retVal.setId(UUID.fromString(wn.getTextContent().trim()));
                 }
@@ -1016,22 +1018,6 @@ public class CampaignXmlParser {
             retVal.setRanks(new Ranks(rankSystem));
             retVal.getRanks().setOldRankSystem(rankSystem);
         }
-
-        // TODO: this could probably be better
-        retVal.setCurrentReportHTML(Utilities.combineString(retVal.getCurrentReport(), Campaign.REPORT_LINEBREAK));
-
-        // Everything's new
-        List<String> newReports = new ArrayList<String>(retVal.getCurrentReport().size() * 2);
-        boolean firstReport = true;
-        for(String report : retVal.getCurrentReport()) {
-            if (firstReport) {
-                firstReport = false;
-            } else {
-                newReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newReports.add(report);
-        }
-        retVal.setNewReports(newReports);
     }
 
     private static Date parseDate(DateFormat df, String value) throws CampaignXmlParseException {
@@ -1093,17 +1079,13 @@ public class CampaignXmlParser {
         for (Part p : retVal.getParts()) {
             p.fixIdReferences(uHash, pHash);
         }
-        List<Kill> ghostKills = new ArrayList<Kill>();
-        for (Kill k : retVal.getKills()) {
+        // kills are indexed by their pilot, so take them out while fixing the pilot ids
+        // and drop those with missing person references
+        for (Kill k : new ArrayList<>(retVal.getKills())) {
+            retVal.removeKill(k);
             k.fixIdReferences(pHash);
-            if (null == k.getPilotId()) {
-                ghostKills.add(k);
-            }
-        }
-        // check for kills with missing person references
-        for (Kill k : ghostKills) {
-            if (null == k.getPilotId()) {
-                retVal.removeKill(k);
+            if (null != k.getPilotId()) {
+                retVal.importKill(k);
             }
         }
     }
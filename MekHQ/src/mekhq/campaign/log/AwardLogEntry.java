@@ -34,6 +34,10 @@ public class AwardLogEntry extends LogEntry {
         super(date, desc, LogEntryType.AWARD);
     }
 
+    AwardLogEntry(Date date, String pattern, Object... args) {
+        super(date, LogEntryType.AWARD, pattern, args);
+    }
+
     @Override
     public void onLogEntryEdited(Date originalDate, Date newDate, String originalDesc, String newDesc, Person person) {
         Award award = AwardLogger.getAwardFromLogEntry(person, originalDesc);
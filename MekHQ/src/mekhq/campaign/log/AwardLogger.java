@@ -39,12 +39,12 @@ public class AwardLogger {
 
     public static void award(Person person, Date date, Award award){
         String message = logEntriesResourceMap.getString("awarded.text");
-        person.addLogEntry(new AwardLogEntry(date, MessageFormat.format(message, award.getName(), award.getSet(), award.getDescription())));
+        person.addLogEntry(new AwardLogEntry(date, message, award.getName(), award.getSet(), award.getDescription()));
     }
 
     public static void removedAward(Person person, Date date, Award award){
         String message = logEntriesResourceMap.getString("removedAward.text");
-        person.addLogEntry(new AwardLogEntry(date, MessageFormat.format(message, award.getName(), award.getSet())));
+        person.addLogEntry(new AwardLogEntry(date, message, award.getName(), award.getSet()));
     }
 
     /**
@@ -0,0 +1,186 @@
+/*
+ * LazyLogStore.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.log;
+
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import mekhq.MekHQ;
+import mekhq.MekHqXmlUtil;
+
+/**
+ * Holds a log of a person. The entries loaded from a campaign file are kept as a single block
+ * of xml text and only turned into {@link LogEntry} objects the first time the log is read,
+ * which for most people is never. Entries added in the meantime are kept separately, so adding
+ * to the log does not load it.
+ *
+ * Until the log is read, saving writes the block of xml text back out. The first save turns it
+ * into the text the entries would write themselves and folds in the added entries, and later
+ * saves reuse that text unchanged.
+ */
+public class LazyLogStore {
+    private static final Comparator<LogEntry> BY_DATE = Comparator.comparing(LogEntry::getDate);
+
+    /* The logEntry elements not loaded yet, one per line, without indentation */
+    private StringBuilder segment = null;
+    /* Whether the segment is the exact text the entries write, or the text read from the file */
+    private boolean segmentWritten = false;
+    /* The entries added while the segment was not loaded */
+    private List<LogEntry> added = new ArrayList<>();
+    /* All the entries, once the log has been read */
+    private List<LogEntry> entries = null;
+
+    /**
+     * Adds the logEntry element read from a campaign file without loading it.
+     */
+    public synchronized void addFromXml(Node wn) {
+        if (null != entries) {
+            LogEntry entry = LogEntryFactory.getInstance().generateInstanceFromXML(wn);
+            if (null != entry) {
+                entries.add(entry);
+            }
+            return;
+        }
+        if (null == segment) {
+            segment = new StringBuilder();
+        }
+        // Keep the text of each child exactly as read, so loading the segment later gives the
+        // same entry as loading the element now
+        segment.append("<logEntry>"); //$NON-NLS-1$
+        NodeList nl = wn.getChildNodes();
+        for (int x = 0; x < nl.getLength(); x++) {
+            Node node = nl.item(x);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                segment.append('<').append(node.getNodeName()).append('>')
+                        .append(MekHqXmlUtil.escape(node.getTextContent()))
+                        .append("</").append(node.getNodeName()).append('>'); //$NON-NLS-1$
+            }
+        }
+        segment.append("</logEntry>\n"); //$NON-NLS-1$
+        segmentWritten = false;
+    }
+
+    public synchronized void add(LogEntry entry) {
+        if (null != entries) {
+            entries.add(entry);
+        } else {
+            added.add(entry);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        if (null != entries) {
+            return entries.isEmpty();
+        }
+        return ((null == segment) || (segment.length() == 0)) && added.isEmpty();
+    }
+
+    /**
+     * Loads the log if it has not been loaded yet.
+     *
+     * @return the entries, ordered by date. Changes to the list change the log.
+     */
+    public synchronized List<LogEntry> getEntries() {
+        if (null == entries) {
+            entries = parseSegment();
+            entries.addAll(added);
+            segment = null;
+            added = null;
+        }
+        entries.sort(BY_DATE);
+        return entries;
+    }
+
+    private List<LogEntry> parseSegment() {
+        final String METHOD_NAME = "parseSegment()"; //$NON-NLS-1$
+
+        List<LogEntry> parsed = new ArrayList<>();
+        if (null == segment) {
+            return parsed;
+        }
+        try {
+            Node root = MekHqXmlUtil.newSafeDocumentBuilder()
+                    .parse(new InputSource(new StringReader("<log>" + segment + "</log>"))) //$NON-NLS-1$ //$NON-NLS-2$
+                    .getDocumentElement();
+            NodeList nl = root.getChildNodes();
+            for (int x = 0; x < nl.getLength(); x++) {
+                Node wn = nl.item(x);
+                if (wn.getNodeType() == Node.ELEMENT_NODE) {
+                    LogEntry entry = LogEntryFactory.getInstance().generateInstanceFromXML(wn);
+                    if (null != entry) {
+                        parsed.add(entry);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
+        }
+        return parsed;
+    }
+
+    /**
+     * Writes the logEntry elements of the log, without an enclosing element.
+     */
+    public synchronized void writeToXml(PrintWriter pw, int indent) {
+        if (null != entries) {
+            for (LogEntry entry : entries) {
+                entry.writeToXml(pw, indent);
+            }
+            return;
+        }
+        if (!segmentWritten || !added.isEmpty()) {
+            List<LogEntry> toWrite = segmentWritten ? new ArrayList<>() : parseSegment();
+            toWrite.addAll(added);
+            StringWriter sw = new StringWriter();
+            PrintWriter segmentWriter = new PrintWriter(sw);
+            for (LogEntry entry : toWrite) {
+                entry.writeToXml(segmentWriter, 0);
+            }
+            segmentWriter.flush();
+            if (!segmentWritten) {
+                segment = new StringBuilder();
+            }
+            segment.append(sw.getBuffer());
+            segment.trimToSize();
+            segmentWritten = true;
+            added.clear();
+        }
+        String indentStr = MekHqXmlUtil.indentStr(indent);
+        int start = 0;
+        while (start < segment.length()) {
+            int end = segment.indexOf("\n", start) + 1; //$NON-NLS-1$
+            if (end == 0) {
+                end = segment.length();
+            }
+            pw.print(indentStr);
+            pw.append(segment, start, end);
+            start = end;
+        }
+    }
+}
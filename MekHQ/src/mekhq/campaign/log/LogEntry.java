@@ -24,6 +24,7 @@ import mekhq.MekHqXmlUtil;
 import mekhq.campaign.personnel.Person;
 
 import java.io.PrintWriter;
+import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Objects;
@@ -50,8 +51,30 @@ public class LogEntry implements Cloneable, MekHqXmlSerializable {
         this.type = type;
     }
 
+    /**
+     * Creates a log entry whose description is only formatted when it is read, so the many
+     * entries made from the same message share it instead of each holding its own text.
+     * Arguments other than numbers and dates are kept as their text at the time of the entry.
+     *
+     * @param pattern the {@link MessageFormat} pattern of the description
+     * @param args    the arguments of the pattern
+     */
+    protected LogEntry(Date date, LogEntryType type, String pattern, Object... args) {
+        this.date = date;
+        this.type = type;
+        this.pattern = pattern;
+        this.args = args;
+        for (int i = 0; i < args.length; i++) {
+            if (!(args[i] instanceof Number) && !(args[i] instanceof Date)) {
+                args[i] = String.valueOf(args[i]);
+            }
+        }
+    }
+
     private Date date;
-    private String desc; // non-null
+    private String desc; // non-null unless the entry has a pattern
+    private String pattern;
+    private Object[] args;
     private LogEntryType type;
 
     public Date getDate() {
@@ -63,11 +86,13 @@ public class LogEntry implements Cloneable, MekHqXmlSerializable {
     }
     
     public String getDesc() {
-        return desc;
+        return (null != desc) ? desc : MessageFormat.format(pattern, args);
     }
     
     public void setDesc(String desc) {
         this.desc = desc != null ? desc : ""; //$NON-NLS-1$
+        pattern = null;
+        args = null;
     }
     
     public LogEntryType getType() {
@@ -83,7 +108,7 @@ public class LogEntry implements Cloneable, MekHqXmlSerializable {
         StringBuilder sb = new StringBuilder();
         sb.append(MekHqXmlUtil.indentStr(indent)).append("<logEntry>"); //$NON-NLS-1$
         if (date != null)    sb.append("<date>").append(dateFormat().format(date)).append("</date>"); //$NON-NLS-1$ //$NON-NLS-2$
-        assert desc != null; sb.append("<desc>").append(MekHqXmlUtil.escape(desc)).append("</desc>"); //$NON-NLS-1$ //$NON-NLS-2$
+        sb.append("<desc>").append(MekHqXmlUtil.escape(getDesc())).append("</desc>"); //$NON-NLS-1$ //$NON-NLS-2$
         if (type != null)    sb.append("<type>").append(MekHqXmlUtil.escape(type.toString())).append("</type>");  //$NON-NLS-1$//$NON-NLS-2$
         sb.append("</logEntry>"); //$NON-NLS-1$
         pw.println(sb.toString());
@@ -93,19 +118,19 @@ public class LogEntry implements Cloneable, MekHqXmlSerializable {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         if (null != date) sb.append("[").append(dateFormat().format(date)).append("] "); //$NON-NLS-1$ //$NON-NLS-2$
-        sb.append(desc);
+        sb.append(getDesc());
         if (null != type) sb.append(" (").append(type).append(")");  //$NON-NLS-1$//$NON-NLS-2$
         return sb.toString();
     }
 
     @Override
     public LogEntry clone() {
-        return new LogEntry(date, desc, type);
+        return new LogEntry(date, getDesc(), type);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, desc, type);
+        return Objects.hash(date, getDesc(), type);
     }
 
     @Override
@@ -115,7 +140,7 @@ public class LogEntry implements Cloneable, MekHqXmlSerializable {
         if (getClass() != obj.getClass()) return false;
         LogEntry other = (LogEntry) obj;
         return Objects.equals(date, other.date)
-            && desc.equals(other.desc)
+            && getDesc().equals(other.getDesc())
             && Objects.equals(type, other.type);
     }
 
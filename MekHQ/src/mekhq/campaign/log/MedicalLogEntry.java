@@ -29,6 +29,10 @@ public class MedicalLogEntry extends LogEntry {
     public MedicalLogEntry(Date date, String desc) {
         super(date, desc, LogEntryType.MEDICAL);
     }
+
+    MedicalLogEntry(Date date, String pattern, Object... args) {
+        super(date, LogEntryType.MEDICAL, pattern, args);
+    }
 }
 
 
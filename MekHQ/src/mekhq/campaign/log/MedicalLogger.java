@@ -23,7 +23,6 @@ import mekhq.campaign.personnel.Injury;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.GenderDescriptors;
 
-import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.ResourceBundle;
@@ -38,25 +37,25 @@ public class MedicalLogger {
 
     public static MedicalLogEntry severedSpine(Person person, Date date) {
         String message = logEntriesResourceMap.getString("severedSpine.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message,
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message,
                         GenderDescriptors.HIS_HER.getDescriptor(person.getGender()),
-                        GenderDescriptors.HIM_HER.getDescriptor(person.getGender())));
+                        GenderDescriptors.HIM_HER.getDescriptor(person.getGender()));
         person.addLogEntry(medicalLogEntry);
         return medicalLogEntry;
     }
 
     public static MedicalLogEntry brokenRibPunctureDead(Person person, Date date) {
         String message = logEntriesResourceMap.getString("brokenRibPunctureDead.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message,
-                GenderDescriptors.HIS_HER.getDescriptor(person.getGender())));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message,
+                GenderDescriptors.HIS_HER.getDescriptor(person.getGender()));
         person.addLogEntry(medicalLogEntry);
         return medicalLogEntry;
     }
 
     public static MedicalLogEntry brokenRibPuncture(Person person, Date date) {
         String message = logEntriesResourceMap.getString("brokenRibPuncture.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message,
-                GenderDescriptors.HIS_HER.getDescriptor(person.getGender())));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message,
+                GenderDescriptors.HIS_HER.getDescriptor(person.getGender()));
         person.addLogEntry(medicalLogEntry);
         return medicalLogEntry;
     }
@@ -107,39 +106,39 @@ public class MedicalLogger {
     public static void docMadeAMistake(Person doctor, Person patient, Injury injury, Date date) {
         String message = logEntriesResourceMap.getString("docMadeAMistake.text");
         MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date,
-                MessageFormat.format(message, doctor.getFullTitle(), injury.getName()));
+                message, doctor.getFullTitle(), injury.getName());
         patient.addLogEntry(medicalLogEntry);
     }
 
     public static void docAmazingWork(Person doctor, Person patient, Injury injury, Date date, int critTimeReduction) {
         String message = logEntriesResourceMap.getString("docAmazingWork.text");
         MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date,
-                MessageFormat.format(message, doctor.getFullTitle(), injury.getName(), critTimeReduction));
+                message, doctor.getFullTitle(), injury.getName(), critTimeReduction);
         patient.addLogEntry(medicalLogEntry);
     }
 
     public static void successfullyTreated(Person doctor, Person patient, Date date, Injury injury) {
         String message = logEntriesResourceMap.getString("successfullyTreated.text");
         MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date,
-                MessageFormat.format(message, doctor.getFullTitle(), injury.getName()));
+                message, doctor.getFullTitle(), injury.getName());
         patient.addLogEntry(medicalLogEntry);
     }
 
     public static void injuryDidntHealProperly(Person patient, Date date, Injury injury) {
         String message = logEntriesResourceMap.getString("didntHealProperly.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message, injury.getName()));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message, injury.getName());
         patient.addLogEntry(medicalLogEntry);
     }
 
     public static void injuryHealed(Person patient, Date date, Injury injury) {
         String message = logEntriesResourceMap.getString("healed.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message, injury.getName()));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message, injury.getName());
         patient.addLogEntry(medicalLogEntry);
     }
 
     public static void injuryBecamePermanent(Person patient, Date date, Injury injury) {
         String message = logEntriesResourceMap.getString("becamePermanent.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message, injury.getName()));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message, injury.getName());
         patient.addLogEntry(medicalLogEntry);
     }
 
@@ -161,8 +160,8 @@ public class MedicalLogger {
 
     public static void deliveredBaby(Person patient, Person baby, Date date) {
         String message = logEntriesResourceMap.getString("deliveredBaby.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message,
-                GenderDescriptors.BOY_GIRL.getDescriptor(baby.getGender())));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message,
+                GenderDescriptors.BOY_GIRL.getDescriptor(baby.getGender()));
         patient.addLogEntry(medicalLogEntry);
     }
 
@@ -178,8 +177,8 @@ public class MedicalLogger {
 
     public static void diedFromWounds(Person patient, Date date) {
         String message = logEntriesResourceMap.getString("diedFromWounds.text");
-        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, MessageFormat.format(message,
-                GenderDescriptors.HIS_HER.getDescriptor(patient.getGender())));
+        MedicalLogEntry medicalLogEntry = new MedicalLogEntry(date, message,
+                GenderDescriptors.HIS_HER.getDescriptor(patient.getGender()));
         patient.addLogEntry(medicalLogEntry);
     }
 }
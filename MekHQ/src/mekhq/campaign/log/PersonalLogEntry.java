@@ -29,4 +29,8 @@ public class PersonalLogEntry extends LogEntry {
     public PersonalLogEntry(Date date, String desc){
         super(date, desc, LogEntryType.PERSONAL);
     }
+
+    PersonalLogEntry(Date date, String pattern, Object... args) {
+        super(date, LogEntryType.PERSONAL, pattern, args);
+    }
 }
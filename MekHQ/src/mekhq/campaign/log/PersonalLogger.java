@@ -37,17 +37,17 @@ public class PersonalLogger {
 
     public static void spouseKia(Person spouse, Person person, Date date) {
         String message = logEntriesResourceMap.getString("spouseKia.text");
-        spouse.addLogEntry(new PersonalLogEntry(date, MessageFormat.format(message, person.getFullName())));
+        spouse.addLogEntry(new PersonalLogEntry(date, message, person.getFullName()));
     }
 
     public static void divorcedFrom(Person person, Person spouse, Date date) {
         String message = logEntriesResourceMap.getString("divorcedFrom.text");
-        person.addLogEntry(new PersonalLogEntry(date, MessageFormat.format(message, spouse.getFullName())));
+        person.addLogEntry(new PersonalLogEntry(date, message, spouse.getFullName()));
     }
 
     public static void marriage(Person person, Person spouse, Date date) {
         String message = logEntriesResourceMap.getString("marries.text");
-        person.addLogEntry(new PersonalLogEntry(date, MessageFormat.format(message, spouse.getFullName())));
+        person.addLogEntry(new PersonalLogEntry(date, message, spouse.getFullName()));
     }
 
     public static void marriageNameChange(Person person, Person spouse, Date date) {
@@ -68,7 +68,7 @@ public class PersonalLogger {
 
     public static void gained(Person person, Date date, String spa) {
         String message = logEntriesResourceMap.getString("gained.text");
-        person.addLogEntry(new PersonalLogEntry(date, MessageFormat.format(message, spa)));
+        person.addLogEntry(new PersonalLogEntry(date, message, spa));
     }
 
     public static void spouseConceived(Person person, String spouseName, Date date, String sizeString) {
@@ -84,7 +84,7 @@ public class PersonalLogger {
     //this is called to log the child being born on the father's personal log
     public static void ourChildBorn(Person person, Person baby, String spouseName, Date date) {
         person.addLogEntry(new PersonalLogEntry(date,
-                MessageFormat.format(logEntriesResourceMap.getString("ourChildBorn.text"),
-                        spouseName, GenderDescriptors.BOY_GIRL.getDescriptor(baby.getGender()))));
+                logEntriesResourceMap.getString("ourChildBorn.text"),
+                spouseName, GenderDescriptors.BOY_GIRL.getDescriptor(baby.getGender())));
     }
 }
@@ -29,5 +29,9 @@ public class ServiceLogEntry extends LogEntry {
     public ServiceLogEntry(Date date, String desc){
         super(date, desc, LogEntryType.SERVICE);
     }
+
+    ServiceLogEntry(Date date, String pattern, Object... args) {
+        super(date, LogEntryType.SERVICE, pattern, args);
+    }
 }
 
@@ -36,8 +36,8 @@ public class ServiceLogger {
 
     public static void retireDueToWounds(Person person, Date date){
         String message = logEntriesResourceMap.getString("retiredDueToWounds.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message,
-                GenderDescriptors.HIS_HER.getDescriptor(person.getGender()))));
+        person.addLogEntry(new ServiceLogEntry(date, message,
+                GenderDescriptors.HIS_HER.getDescriptor(person.getGender())));
     }
 
     public static void madeBondsman(Person person, Date date, String name, String rankEntry){
@@ -88,48 +88,48 @@ public class ServiceLogger {
 
     public static void promotedTo(Person person, Date date){
         String message = logEntriesResourceMap.getString("promotedTo.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, person.getRankName())));
+        person.addLogEntry(new ServiceLogEntry(date, message, person.getRankName()));
     }
 
     public static void demotedTo(Person person, Date date){
         String message = logEntriesResourceMap.getString("demotedTo.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, person.getRankName())));
+        person.addLogEntry(new ServiceLogEntry(date, message, person.getRankName()));
     }
 
     public static void participatedInMission(Person person, Date date, String scenarioName, String missionName){
         String message = logEntriesResourceMap.getString("participatedInMission.text");
         person.addMissionLogEntry(new ServiceLogEntry(
                 date,
-                MessageFormat.format(message, scenarioName, missionName)));
+                message, scenarioName, missionName));
     }
 
     public static void gainedXpFromMedWork(Person doctor, Date date, int taskXP){
         String message = logEntriesResourceMap.getString("gainedXpFromMedWork.text");
-        doctor.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, taskXP)));
+        doctor.addLogEntry(new ServiceLogEntry(date, message, taskXP));
     }
 
     public static void successfullyTreatedWithXp(Person doctor, Person patient, Date date, int injuries, int xp){
         String message = logEntriesResourceMap.getString("successfullyTreatedWithXp.text");
-        doctor.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, patient, injuries, xp)));
+        doctor.addLogEntry(new ServiceLogEntry(date, message, patient, injuries, xp));
     }
 
     public static void successfullyTreated(Person doctor, Person patient, Date date, int injuries){
         String message = logEntriesResourceMap.getString("successfullyTreatedForXInjuries.text");
-        doctor.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, patient.getFullName(), injuries)));
+        doctor.addLogEntry(new ServiceLogEntry(date, message, patient.getFullName(), injuries));
     }
 
     public static void assignedTo(Person person, Date date, String unitName){
         String message = logEntriesResourceMap.getString("assignedTo.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, unitName)));
+        person.addLogEntry(new ServiceLogEntry(date, message, unitName));
     }
 
     public static void reassignedTo(Person person, Date date, String unitName){
         String message = logEntriesResourceMap.getString("reassignedTo.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, unitName)));
+        person.addLogEntry(new ServiceLogEntry(date, message, unitName));
     }
 
     public static void removedFrom(Person person, Date date, String unitName){
         String message = logEntriesResourceMap.getString("removedFrom.text");
-        person.addLogEntry(new ServiceLogEntry(date, MessageFormat.format(message, unitName)));
+        person.addLogEntry(new ServiceLogEntry(date, message, unitName));
     }
 }
@@ -26,6 +26,7 @@ import java.io.Serializable;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Random;
 import java.util.Set;
 
 import org.joda.time.DateTime;
@@ -33,13 +34,13 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import megamek.client.RandomSkillsGenerator;
-import megamek.common.Compute;
 import megamek.common.logging.LogLevel;
 import mekhq.MekHQ;
 import mekhq.MekHqXmlUtil;
 import mekhq.Utilities;
 import mekhq.Version;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignRandom;
 import mekhq.campaign.JumpPath;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.Contract;
@@ -92,6 +93,9 @@ public class ContractMarket implements Serializable {
 	 */
 	private HashMap<Integer, Integer> followupContracts;
 
+	/* The stream the market rolls on, taken from the campaign by each public method that rolls */
+	private transient Random random;
+
 	public ContractMarket() {
 		contracts = new ArrayList<Contract>();
 		contractIds = new HashMap<Integer, Contract>();
@@ -111,6 +115,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	public AtBContract addAtBContract(Campaign campaign) {
+		useCampaignRandom(campaign);
 		AtBContract c = generateAtBContract(campaign, campaign.getUnitRatingMod());
 		if (c != null) {
 			contracts.add(c);
@@ -126,6 +131,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	public void rerollClause(AtBContract c, int clause, Campaign campaign) {
+		useCampaignRandom(campaign);
 		if (null != clauseMods.get(c.getId())) {
 			switch (clause) {
 			case CLAUSE_COMMAND:
@@ -151,6 +157,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	public void generateContractOffers(Campaign campaign, boolean newCampaign) {
+		useCampaignRandom(campaign);
 		if (((method == TYPE_ATBMONTHLY) && (campaign.getLocalDate().getDayOfMonth() == 1))
                 || newCampaign) {
 			Contract[] list = contracts.toArray(new Contract[contracts.size()]);
@@ -167,7 +174,7 @@ public class ContractMarket implements Serializable {
 				}
 			}
 
-			int numContracts = Compute.d6() - 4 + unitRatingMod;
+			int numContracts = d6(1) - 4 + unitRatingMod;
 
 			DateTime currentDate = Utilities.getDateTimeDay(campaign.getCalendar());
 			Set<Faction> currentFactions =
@@ -277,7 +284,7 @@ public class ContractMarket implements Serializable {
 				}
 			}
 			for (int i = numSubcontracts; i < unitRatingMod - 1; i++) {
-				int roll = Compute.d6(2);
+				int roll = d6(2);
 				if (roll >= 10) {
 					AtBContract sub = generateAtBSubcontract(campaign, contract, unitRatingMod);
 					if (sub.getEndingDate().before(contract.getEndingDate())) {
@@ -370,7 +377,7 @@ public class ContractMarket implements Serializable {
 
 		boolean isAttacker = (contract.getMissionType() == AtBContract.MT_PLANETARYASSAULT ||
 				contract.getMissionType() >= AtBContract.MT_PLANETARYASSAULT ||
-				(contract.getMissionType() == AtBContract.MT_RELIEFDUTY && Compute.d6() < 4) ||
+				(contract.getMissionType() == AtBContract.MT_RELIEFDUTY && d6(1) < 4) ||
 				contract.getEnemyCode().equals("REB"));
 		if (isAttacker) {
 			contract.setSystemId(RandomFactionGenerator.getInstance().getMissionTarget(contract.getEmployerCode(), contract.getEnemyCode()));
@@ -481,7 +488,7 @@ public class ContractMarket implements Serializable {
         }
 		boolean isAttacker = (contract.getMissionType() == AtBContract.MT_PLANETARYASSAULT ||
 				contract.getMissionType() >= AtBContract.MT_PLANETARYASSAULT ||
-				(contract.getMissionType() == AtBContract.MT_RELIEFDUTY && Compute.d6() < 4) ||
+				(contract.getMissionType() == AtBContract.MT_RELIEFDUTY && d6(1) < 4) ||
 				contract.getEnemyCode().equals("REB"));
         contract.setSystemId(parent.getSystemId());
 		setAllyRating(contract, isAttacker, campaign.getGameYear());
@@ -520,6 +527,7 @@ public class ContractMarket implements Serializable {
 		if (followupContracts.values().contains(contract.getId())) {
 			return;
 		}
+		useCampaignRandom(campaign);
 		AtBContract followup = new AtBContract("Followup Contract");
 		followup.setEmployerCode(contract.getEmployerCode(), campaign.getGameYear());
 		followup.setEnemyCode(contract.getEnemyCode());
@@ -556,6 +564,24 @@ public class ContractMarket implements Serializable {
 		followupContracts.put(followup.getId(), contract.getId());
 	}
 
+	private void useCampaignRandom(Campaign campaign) {
+		random = campaign.getRandom().getStream(CampaignRandom.Stream.CONTRACT_MARKET, campaign.getLocalDate());
+	}
+
+	private int d6(int dice) {
+		if (null == random) {
+			random = new Random();
+		}
+		return CampaignRandom.d6(random, dice);
+	}
+
+	private int randomInt(int maxValue) {
+		if (null == random) {
+			random = new Random();
+		}
+		return random.nextInt(maxValue);
+	}
+
 	protected int findAtBMissionType(int unitRatingMod, boolean majorPower) {
 		final int[][] table = {
 			//col 0: IS Houses
@@ -569,7 +595,7 @@ public class ContractMarket implements Serializable {
 					AtBContract.MT_SECURITYDUTY, AtBContract.MT_OBJECTIVERAID, AtBContract.MT_GARRISONDUTY,
 					AtBContract.MT_CADREDUTY, AtBContract.MT_DIVERSIONARYRAID}
 		};
-		int roll = Compute.d6(2) + unitRatingMod - IUnitRating.DRAGOON_C;
+		int roll = d6(2) + unitRatingMod - IUnitRating.DRAGOON_C;
 		if (roll > 12) {
 			roll = 12;
 		}
@@ -607,12 +633,12 @@ public class ContractMarket implements Serializable {
 			//facing front-line units
 			mod += 1;
 		}
-		contract.setAllySkill(getSkillRating(Compute.d6(2) + mod));
+		contract.setAllySkill(getSkillRating(d6(2) + mod));
 		if (year > 2950 && year < 3039 &&
 				!Faction.getFaction(contract.getEmployerCode()).isClan()) {
 			mod -= 1;
 		}
-		contract.setAllyQuality(getQualityRating(Compute.d6(2) + mod));
+		contract.setAllyQuality(getQualityRating(d6(2) + mod));
 	}
 
 	public void setEnemyRating(AtBContract contract, boolean isAttacker, int year) {
@@ -633,12 +659,12 @@ public class ContractMarket implements Serializable {
 		if (Faction.getFaction(contract.getEmployerCode()).isClan()) {
 			mod += isAttacker?2:4;
 		}
-		contract.setEnemySkill(getSkillRating(Compute.d6(2) + mod));
+		contract.setEnemySkill(getSkillRating(d6(2) + mod));
 		if (year > 2950 && year < 3039 &&
 				!Faction.getFaction(contract.getEnemyCode()).isClan()) {
 			mod -= 1;
 		}
-		contract.setEnemyQuality(getQualityRating(Compute.d6(2) + mod));
+		contract.setEnemyQuality(getQualityRating(d6(2) + mod));
 	}
 
 	protected int getSkillRating(int roll) {
@@ -688,7 +714,7 @@ public class ContractMarket implements Serializable {
 			int max = (unitRatingMod + 1) * 12;
 			int numMods = (AtBContract.getEffectiveNumUnits(campaign) - max) / 2;
 			while (numMods > 0) {
-				mods.mods[Compute.randomInt(4)]--;
+				mods.mods[randomInt(4)]--;
 				numMods--;
 			}
 		}
@@ -698,15 +724,15 @@ public class ContractMarket implements Serializable {
 		mods.mods[CLAUSE_TRANSPORT] = adminTransportExp - SkillType.EXP_REGULAR;
 		mods.mods[CLAUSE_SUPPORT] = adminLogisticsExp - SkillType.EXP_REGULAR;
 		if (unitRatingMod >= IUnitRating.DRAGOON_A) {
-			mods.mods[Compute.randomInt(4)] += 2;
-			mods.mods[Compute.randomInt(4)] += 2;
+			mods.mods[randomInt(4)] += 2;
+			mods.mods[randomInt(4)] += 2;
 		} else if (unitRatingMod == IUnitRating.DRAGOON_B) {
-			mods.mods[Compute.randomInt(4)] += 1;
-			mods.mods[Compute.randomInt(4)] += 1;
+			mods.mods[randomInt(4)] += 1;
+			mods.mods[randomInt(4)] += 1;
 		} else if (unitRatingMod == IUnitRating.DRAGOON_C) {
-			mods.mods[Compute.randomInt(4)] += 1;
+			mods.mods[randomInt(4)] += 1;
 		} else if (unitRatingMod <= IUnitRating.DRAGOON_F) {
-			mods.mods[Compute.randomInt(4)] -= 1;
+			mods.mods[randomInt(4)] -= 1;
 		}
 
 		if (Faction.getFaction(contract.getEnemyCode()).isClan() &&
@@ -716,9 +742,9 @@ public class ContractMarket implements Serializable {
 				else mods.mods[i] += 1;
 		} else {
 			if (contract.getEnemySkill() >= SkillType.EXP_VETERAN)
-				mods.mods[Compute.randomInt(4)] += 1;
+				mods.mods[randomInt(4)] += 1;
 			if (contract.getEnemySkill() == SkillType.EXP_ELITE)
-				mods.mods[Compute.randomInt(4)] += 1;
+				mods.mods[randomInt(4)] += 1;
 		}
 
 		int[][] missionMods = {
@@ -762,7 +788,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	private void rollCommandClause(AtBContract contract, int mod) {
-		int roll = Compute.d6(2) + mod;
+		int roll = d6(2) + mod;
 		if (roll < 3) contract.setCommandRights(Contract.COM_INTEGRATED);
 		else if (roll < 8) contract.setCommandRights(Contract.COM_HOUSE);
 		else if (roll < 12) contract.setCommandRights(Contract.COM_LIAISON);
@@ -771,14 +797,14 @@ public class ContractMarket implements Serializable {
 
 	private void rollSalvageClause(AtBContract contract, int mod) {
 		contract.setSalvageExchange(false);
-		int roll = Math.min(Compute.d6(2) + mod, 13);
+		int roll = Math.min(d6(2) + mod, 13);
 		if (roll < 2) {
 			contract.setSalvagePct(0);
 		} else if (roll < 4) {
 			contract.setSalvageExchange(true);
 			int r;
 			do {
-				r = Compute.d6(2);
+				r = d6(2);
 			} while (r < 4);
 			contract.setSalvagePct(Math.min((r - 3) * 10, 100));
 		} else {
@@ -787,7 +813,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	private void rollSupportClause(AtBContract contract, int mod) {
-		int roll = Compute.d6(2) + mod;
+		int roll = d6(2) + mod;
 		contract.setStraightSupport(0);
 		contract.setBattleLossComp(0);
 		if (roll < 3) {
@@ -802,7 +828,7 @@ public class ContractMarket implements Serializable {
 	}
 
 	private void rollTransportClause(AtBContract contract, int mod) {
-		int roll = Compute.d6(2) + mod;
+		int roll = d6(2) + mod;
 		if (roll < 2) contract.setTransportComp(0);
 		else if (roll < 6) contract.setTransportComp((20 + (roll - 2) * 5));
 		else if (roll < 10) contract.setTransportComp((45 + (roll - 6) * 5));
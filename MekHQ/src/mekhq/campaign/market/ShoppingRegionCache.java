@@ -0,0 +1,197 @@
+/*
+ * ShoppingRegionCache.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.market;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.time.DateTime;
+
+import megamek.common.TargetRoll;
+import megamek.common.event.Subscribe;
+import mekhq.Utilities;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignOptions;
+import mekhq.campaign.event.LocationChangedEvent;
+import mekhq.campaign.event.OptionsChangedEvent;
+import mekhq.campaign.universe.Faction;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.RandomFactionGenerator;
+import mekhq.campaign.universe.Systems;
+
+/**
+ * Caches the systems a campaign can shop on when using planetary acquisition, along with the
+ * acquisition modifiers of each system, so they are not recomputed every day.
+ *
+ * A cached region stays valid until the campaign moves, its options or faction change, or the
+ * date reaches the next planetary event or faction war or alliance change that could alter a
+ * system in the region. The campaign registers the cache with the event bus, so it hears about
+ * option and location changes, for as long as the campaign is in use.
+ */
+public class ShoppingRegionCache {
+    /** A system in the shopping region, with its precomputed acquisition modifiers */
+    public static class ShoppingSystem {
+        private final PlanetarySystem system;
+        private final TargetRoll innerSphereMods;
+        private final TargetRoll clanMods;
+
+        private ShoppingSystem(PlanetarySystem system, TargetRoll innerSphereMods, TargetRoll clanMods) {
+            this.system = system;
+            this.innerSphereMods = innerSphereMods;
+            this.clanMods = clanMods;
+        }
+
+        public PlanetarySystem getSystem() {
+            return system;
+        }
+
+        /**
+         * @param clanPart whether the acquisition is for a clan part
+         * @return the modifiers of the system's primary planet. These are shared, so they must
+         *         be appended to another roll rather than modified.
+         */
+        public TargetRoll getAcquisitionMods(boolean clanPart) {
+            return clanPart ? clanMods : innerSphereMods;
+        }
+    }
+
+    private Systems cachedSystems;
+    private int cachedEventVersion;
+    private String cachedSystemId;
+    private int cachedJumps;
+    private Faction cachedFaction;
+    private CampaignOptions cachedOptions;
+    private DateTime validFrom;
+    /* The first day the region is no longer valid, or null if it never expires */
+    private DateTime validUntil;
+    private List<ShoppingSystem> shoppingSystems;
+    private Map<String, ShoppingSystem> shoppingSystemsById;
+
+    /**
+     * Gets the systems the campaign can shop on today, sorted by the number of jumps and then
+     * the in-system transit time.
+     * @param campaign the campaign
+     * @return the shopping systems
+     */
+    public synchronized List<ShoppingSystem> getShoppingSystems(Campaign campaign) {
+        DateTime today = Utilities.getDateTimeDay(campaign.getCalendar());
+        int jumps = campaign.getCampaignOptions().getMaxJumpsPlanetaryAcquisition();
+        if (!isValid(campaign, today, jumps)) {
+            update(campaign, today, jumps);
+        }
+        return shoppingSystems;
+    }
+
+    /**
+     * @return the cached shopping system with the given id if the region is valid today,
+     *         otherwise <code>null</code>
+     */
+    public synchronized ShoppingSystem getShoppingSystem(Campaign campaign, PlanetarySystem system) {
+        DateTime today = Utilities.getDateTimeDay(campaign.getCalendar());
+        int jumps = campaign.getCampaignOptions().getMaxJumpsPlanetaryAcquisition();
+        if ((null == system) || !isValid(campaign, today, jumps)) {
+            return null;
+        }
+        return shoppingSystemsById.get(system.getId());
+    }
+
+    public synchronized void invalidate() {
+        shoppingSystems = null;
+        shoppingSystemsById = null;
+    }
+
+    @Subscribe
+    public void handle(LocationChangedEvent ev) {
+        invalidate();
+    }
+
+    @Subscribe
+    public void handle(OptionsChangedEvent ev) {
+        invalidate();
+    }
+
+    private boolean isValid(Campaign campaign, DateTime today, int jumps) {
+        return (null != shoppingSystems)
+                && (cachedSystems == Systems.getInstance())
+                && (cachedEventVersion == cachedSystems.getEventVersion())
+                && (null != campaign.getCurrentSystem())
+                && campaign.getCurrentSystem().getId().equals(cachedSystemId)
+                && (cachedJumps == jumps)
+                && (cachedFaction == campaign.getFaction())
+                && (cachedOptions == campaign.getCampaignOptions())
+                && !today.isBefore(validFrom)
+                && ((null == validUntil) || today.isBefore(validUntil));
+    }
+
+    private void update(Campaign campaign, DateTime today, int jumps) {
+        Systems systems = Systems.getInstance();
+        PlanetarySystem currentSystem = campaign.getCurrentSystem();
+
+        cachedSystems = systems;
+        cachedEventVersion = systems.getEventVersion();
+        cachedSystemId = currentSystem.getId();
+        cachedJumps = jumps;
+        cachedFaction = campaign.getFaction();
+        cachedOptions = campaign.getCampaignOptions();
+        validFrom = today;
+
+        List<PlanetarySystem> found = systems.getShoppingSystems(currentSystem, jumps, today);
+        List<ShoppingSystem> result = new ArrayList<>(found.size());
+        Map<String, ShoppingSystem> byId = new HashMap<>();
+        for (PlanetarySystem system : found) {
+            ShoppingSystem shoppingSystem = new ShoppingSystem(system,
+                    system.getPrimaryPlanet().getAcquisitionMods(new TargetRoll(), campaign.getDate(),
+                            cachedOptions, cachedFaction, false),
+                    system.getPrimaryPlanet().getAcquisitionMods(new TargetRoll(), campaign.getDate(),
+                            cachedOptions, cachedFaction, true));
+            result.add(shoppingSystem);
+            byId.put(system.getId(), shoppingSystem);
+        }
+        shoppingSystems = Collections.unmodifiableList(result);
+        shoppingSystemsById = byId;
+
+        // The region changes on the first event of any nearby system, including the dead ones
+        // that may be settled, or when the faction's wars and alliances change
+        DateTime next = null;
+        for (PlanetarySystem system : systems.getNearbySystems(currentSystem, jumps * 30)) {
+            next = earliest(next, system.getNextEventDate(today));
+        }
+        if (null != RandomFactionGenerator.getInstance().getFactionHints()) {
+            Date hintChange = RandomFactionGenerator.getInstance().getFactionHints()
+                    .getNextChangeDate(cachedFaction, campaign.getDate());
+            if (null != hintChange) {
+                next = earliest(next, Utilities.getDateTimeDay(hintChange));
+            }
+        }
+        validUntil = next;
+    }
+
+    private static DateTime earliest(DateTime current, DateTime candidate) {
+        if ((null == candidate) || ((null != current) && !candidate.isBefore(current))) {
+            return current;
+        }
+        return candidate;
+    }
+}
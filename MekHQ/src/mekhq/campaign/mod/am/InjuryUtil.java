@@ -62,16 +62,21 @@ public final class InjuryUtil {
 
     /** Run a daily healing check */
     public static void resolveDailyHealing(Campaign c, Person p) {
+        resolveDailyHealing(c, p, Compute::randomInt);
+    }
+
+    /** Run a daily healing check, rolling with the given randomization source */
+    public static void resolveDailyHealing(Campaign c, Person p, IntUnaryOperator rnd) {
         Person doc = c.getPerson(p.getDoctorId());
         // TODO: Reporting
         if((null != doc) && doc.isDoctor()) {
             if(p.getDaysToWaitForHealing() <= 0) {
-                genMedicalTreatment(c, p, doc).stream().forEach(GameEffect::apply);
+                genMedicalTreatment(c, p, doc, rnd).forEach(effect -> effect.apply(rnd));
             }
         } else {
-            genUntreatedEffects(c, p).stream().forEach(GameEffect::apply);
+            genUntreatedEffects(c, p).forEach(effect -> effect.apply(rnd));
         }
-        genNaturalHealing(c, p).stream().forEach(GameEffect::apply);
+        genNaturalHealing(c, p).forEach(effect -> effect.apply(rnd));
         p.decrementDaysToWaitForHealing();
     }
 
@@ -247,6 +252,14 @@ public final class InjuryUtil {
 
     /** Generate the effects of a doctor dealing with injuries (frequency depends on campaign settings) */
     public static List<GameEffect> genMedicalTreatment(Campaign c, Person p, Person doc) {
+        return genMedicalTreatment(c, p, doc, Compute::randomInt);
+    }
+
+    /**
+     * Generate the effects of a doctor dealing with injuries, rolling the treatment checks with
+     * the given randomization source
+     */
+    public static List<GameEffect> genMedicalTreatment(Campaign c, Person p, Person doc, IntUnaryOperator rnd) {
         Objects.requireNonNull(c);
         Objects.requireNonNull(p);
         Skill skill = doc.getSkill(SkillType.S_DOCTOR);
@@ -263,7 +276,7 @@ public final class InjuryUtil {
 
         for(Injury i : p.getInjuries()) {
             if(!i.isWorkedOn()) {
-                int roll = Compute.randomInt(100);
+                int roll = rnd.applyAsInt(100);
                 // Determine XP, if any
                 if (roll < Math.max(1, fumbleLimit / 10)) {
                     mistakeXP += c.getCampaignOptions().getMistakeXP();
@@ -280,7 +293,7 @@ public final class InjuryUtil {
                     String.format("%s made a mistake in the treatment of %s, but used Edge to reroll.",
                             doc.getHyperlinkedFullTitle(), p.getHyperlinkedName())));
                     doc.setCurrentEdge(doc.getCurrentEdge() - 1);
-                    roll = Compute.randomInt(100);
+                    roll = rnd.applyAsInt(100);
                 }
                 if(roll < fumbleLimit) {
                     result.add(new GameEffect(
@@ -2,6 +2,11 @@ package mekhq.campaign.personnel;
 
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import mekhq.MekHQ;
@@ -90,62 +95,74 @@ public class Ancestors implements Serializable, MekHqXmlSerializable {
 		this.mothersAncestors = mothersAncestors;
 	}
 
-	// Designed for recursive searching
 	public boolean checkMutualAncestors(Ancestors anc) {
 		return checkMutualAncestors(anc, 0);
 	}
 
+	/**
+	 * Checks whether two ancestries share a father or a mother. Going back one generation on
+	 * either side counts as one step, and the generations compared are at most the number of
+	 * steps given in the campaign options apart, less the steps already taken.
+	 *
+	 * @param anc   the other ancestry
+	 * @param depth the steps already taken
+	 * @return true if the ancestries share a father or mother within the allowed steps
+	 */
 	public boolean checkMutualAncestors(Ancestors anc, int depth) {
-		// We go back the number of generations specified in the settings looking for a connection
-		if (depth > campaign.getCampaignOptions().checkMutualAncestorsDepth()) {
-			return false;
-		}
-
-		depth++;
-
-        // Don't forget the null check on anc
-        if (anc == null) {
-            return false;
-        }
-
-		// Nulls means we can't possibly have a match, eh?
-		if (((fatherId == null) && (motherId == null))
-				|| ((anc.getFatherId() == null) && (anc.getMotherId() == null))) {
+		final int maxSteps = campaign.getCampaignOptions().checkMutualAncestorsDepth() - depth;
+		if ((anc == null) || (maxSteps < 0)) {
 			return false;
 		}
 
-		if (((getFatherId() != null) && getFatherId().equals(anc.getFatherId()))
-				|| ((getMotherId() != null) && getMotherId().equals(anc.getMotherId()))) {
-			return true;
-		}
-
-		// Check father...
-		if (fathersAncestors != null) {
-			if (campaign.getAncestors(fathersAncestors).checkMutualAncestors(anc, depth)) {
-				return true;
-			}
-		}
-
-		// Check mother...
-		if (mothersAncestors != null) {
-			if (campaign.getAncestors(mothersAncestors).checkMutualAncestors(anc, depth)) {
-				return true;
+		List<Set<UUID>> myFathers = new ArrayList<>();
+		List<Set<UUID>> myMothers = new ArrayList<>();
+		collectGenerations(maxSteps, myFathers, myMothers);
+		List<Set<UUID>> theirFathers = new ArrayList<>();
+		List<Set<UUID>> theirMothers = new ArrayList<>();
+		anc.collectGenerations(maxSteps, theirFathers, theirMothers);
+
+		for (int mine = 0; mine < myFathers.size(); mine++) {
+			for (int theirs = 0; (theirs < theirFathers.size()) && (mine + theirs <= maxSteps); theirs++) {
+				if (!Collections.disjoint(myFathers.get(mine), theirFathers.get(theirs))
+						|| !Collections.disjoint(myMothers.get(mine), theirMothers.get(theirs))) {
+					return true;
+				}
 			}
 		}
+		return false;
+	}
 
-		// Check their father...
-		if (anc.getFathersAncestors() != null) {
-			if (anc.getFathersAncestors().checkMutualAncestors(this, depth)) {
-				return true;
+	/**
+	 * Collects the fathers and mothers of this ancestry and of each earlier generation, up to
+	 * the given number of generations back. An entry without a father or a mother ends its line.
+	 */
+	private void collectGenerations(int generations, List<Set<UUID>> fathers, List<Set<UUID>> mothers) {
+		Set<Ancestors> current = Collections.singleton(this);
+		for (int i = 0; (i <= generations) && !current.isEmpty(); i++) {
+			Set<UUID> generationFathers = new HashSet<>();
+			Set<UUID> generationMothers = new HashSet<>();
+			Set<Ancestors> previous = new HashSet<>();
+			for (Ancestors a : current) {
+				if ((a.fatherId == null) && (a.motherId == null)) {
+					continue;
+				}
+				if (a.fatherId != null) {
+					generationFathers.add(a.fatherId);
+				}
+				if (a.motherId != null) {
+					generationMothers.add(a.motherId);
+				}
+				if (a.getFathersAncestors() != null) {
+					previous.add(a.getFathersAncestors());
+				}
+				if (a.getMothersAncestors() != null) {
+					previous.add(a.getMothersAncestors());
+				}
 			}
+			fathers.add(generationFathers);
+			mothers.add(generationMothers);
+			current = previous;
 		}
-
-		// Check their mother...
-		if (anc.getMothersAncestors() != null) {
-            return anc.getMothersAncestors().checkMutualAncestors(this, depth);
-		}
-
-		return false;
 	}
 
 	public void writeToXml(PrintWriter pw1, int indent) {
@@ -0,0 +1,123 @@
+/*
+ * FamilyGraph.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.personnel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Links the people of a campaign to their {@link Ancestors} entries in both directions, so
+ * family queries look up the relatives they need instead of scanning every ancestors entry
+ * and every person.
+ *
+ * The campaign keeps it up to date as ancestors entries are created or imported and as people
+ * join or leave. It may be read from several threads at once, as during the daily marriage rolls.
+ */
+public class FamilyGraph {
+    /* person id -> the ancestors entries naming them as father or mother */
+    private final Map<UUID, Set<UUID>> ancestorsByParent = new ConcurrentHashMap<>();
+    /* ancestors id -> the people in the campaign with those ancestors */
+    private final Map<UUID, Set<UUID>> childrenByAncestors = new ConcurrentHashMap<>();
+    /* [father id, mother id] -> the first ancestors entry for the couple */
+    private final Map<List<UUID>, Ancestors> ancestorsByParents = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an ancestors entry. Its father and mother must not change afterwards.
+     */
+    public void addAncestors(Ancestors ancestors) {
+        ancestorsByParents.putIfAbsent(Arrays.asList(ancestors.getFatherId(), ancestors.getMotherId()), ancestors);
+        if (null != ancestors.getFatherId()) {
+            ancestorsByParent.computeIfAbsent(ancestors.getFatherId(), k -> new CopyOnWriteArraySet<>())
+                    .add(ancestors.getId());
+        }
+        if (null != ancestors.getMotherId()) {
+            ancestorsByParent.computeIfAbsent(ancestors.getMotherId(), k -> new CopyOnWriteArraySet<>())
+                    .add(ancestors.getId());
+        }
+    }
+
+    /**
+     * Adds a person who joined the campaign as the child of their ancestors entry.
+     */
+    public void addPerson(Person person) {
+        addChild(person.getId(), person.getAncestorsId());
+    }
+
+    /**
+     * Removes a person who left the campaign. The ancestors entries naming them as a parent are
+     * kept, as they are part of their children's ancestry.
+     */
+    public void removePerson(Person person) {
+        removeChild(person.getId(), person.getAncestorsId());
+    }
+
+    /**
+     * Moves a person in the campaign from one ancestors entry to another.
+     */
+    public void changeAncestors(UUID personId, UUID oldAncestorsId, UUID newAncestorsId) {
+        removeChild(personId, oldAncestorsId);
+        addChild(personId, newAncestorsId);
+    }
+
+    private void addChild(UUID personId, UUID ancestorsId) {
+        if ((null != personId) && (null != ancestorsId)) {
+            childrenByAncestors.computeIfAbsent(ancestorsId, k -> new CopyOnWriteArraySet<>()).add(personId);
+        }
+    }
+
+    private void removeChild(UUID personId, UUID ancestorsId) {
+        if ((null != personId) && (null != ancestorsId)) {
+            Set<UUID> children = childrenByAncestors.get(ancestorsId);
+            if (null != children) {
+                children.remove(personId);
+            }
+        }
+    }
+
+    /**
+     * @return the first ancestors entry for the given father and mother, or null if there isn't any
+     */
+    public Ancestors getAncestors(UUID fatherId, UUID motherId) {
+        return ancestorsByParents.get(Arrays.asList(fatherId, motherId));
+    }
+
+    /**
+     * @return the ids of the ancestors entries naming the person as their father or mother
+     */
+    public Set<UUID> getAncestorsOfParent(UUID personId) {
+        Set<UUID> ancestors = (null == personId) ? null : ancestorsByParent.get(personId);
+        return (null == ancestors) ? Collections.emptySet() : Collections.unmodifiableSet(ancestors);
+    }
+
+    /**
+     * @return the ids of the people in the campaign whose ancestors entry is the given one
+     */
+    public Set<UUID> getChildren(UUID ancestorsId) {
+        Set<UUID> children = (null == ancestorsId) ? null : childrenByAncestors.get(ancestorsId);
+        return (null == children) ? Collections.emptySet() : Collections.unmodifiableSet(children);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * MarriageMarket.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.personnel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the unmarried active people of a campaign who are trying to marry, bucketed by gender
+ * and birth year, so finding a spouse for someone only looks at the people close to their age
+ * instead of the whole roster.
+ *
+ * The campaign and {@link Person} keep it up to date as people join or leave and as their status,
+ * marriage, gender or birthday change. It may be read from several threads at once, as during
+ * the daily marriage rolls. The people in each bucket are kept in id order, so the candidates
+ * found do not depend on the order the people were added in.
+ */
+public class MarriageMarket {
+    private static final Comparator<Person> BY_ID = Comparator.comparing(Person::getId);
+
+    /* gender -> birth year -> the singles of that gender born that year */
+    private final Map<Integer, NavigableMap<Integer, Set<Person>>> buckets = new ConcurrentHashMap<>();
+    /* person id -> the bucket the person is in */
+    private final Map<UUID, Bucket> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the person to, moves them within, or removes them from the market depending on
+     * whether they are currently looking for a spouse.
+     */
+    public synchronized void update(Person person) {
+        if (null == person.getId()) {
+            return;
+        }
+        Bucket bucket = isSingle(person)
+                ? new Bucket(person.getGender(), person.getBirthday().getYear()) : null;
+        Bucket old = (null == bucket) ? entries.remove(person.getId()) : entries.put(person.getId(), bucket);
+        if ((null != old) && !old.equals(bucket)) {
+            Set<Person> people = getBucket(old.gender, old.birthYear, false);
+            if (null != people) {
+                people.remove(person);
+            }
+        }
+        if ((null != bucket) && !bucket.equals(old)) {
+            getBucket(bucket.gender, bucket.birthYear, true).add(person);
+        }
+    }
+
+    /**
+     * Removes a person who left the campaign.
+     */
+    public synchronized void remove(Person person) {
+        if (null == person.getId()) {
+            return;
+        }
+        Bucket old = entries.remove(person.getId());
+        if (null != old) {
+            Set<Person> people = getBucket(old.gender, old.birthYear, false);
+            if (null != people) {
+                people.remove(person);
+            }
+        }
+    }
+
+    /**
+     * @param gender       the gender of the people to find
+     * @param minBirthYear the earliest birth year to include
+     * @param maxBirthYear the latest birth year to include
+     * @return the unmarried active people trying to marry who have the given gender and were born
+     *         in the given years, ordered by birth year and then by id
+     */
+    public List<Person> getCandidates(int gender, int minBirthYear, int maxBirthYear) {
+        List<Person> candidates = new ArrayList<>();
+        NavigableMap<Integer, Set<Person>> byYear = buckets.get(gender);
+        if ((null != byYear) && (minBirthYear <= maxBirthYear)) {
+            for (Set<Person> people : byYear.subMap(minBirthYear, true, maxBirthYear, true).values()) {
+                candidates.addAll(people);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isSingle(Person person) {
+        return person.isTryingToMarry() && !person.hasSpouse() && person.isActive()
+                && (null != person.getBirthday());
+    }
+
+    private Set<Person> getBucket(int gender, int birthYear, boolean create) {
+        if (create) {
+            return buckets.computeIfAbsent(gender, k -> new ConcurrentSkipListMap<>())
+                    .computeIfAbsent(birthYear, k -> new ConcurrentSkipListSet<>(BY_ID));
+        }
+        NavigableMap<Integer, Set<Person>> byYear = buckets.get(gender);
+        return (null == byYear) ? null : byYear.get(birthYear);
+    }
+
+    private static final class Bucket {
+        private final int gender;
+        private final int birthYear;
+
+        private Bucket(int gender, int birthYear) {
+            this.gender = gender;
+            this.birthYear = birthYear;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Bucket)) {
+                return false;
+            }
+            Bucket other = (Bucket) o;
+            return (gender == other.gender) && (birthYear == other.birthYear);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * gender + birthYear;
+        }
+    }
+}
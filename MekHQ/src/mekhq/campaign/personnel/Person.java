@@ -29,7 +29,8 @@ import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.function.IntSupplier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -69,6 +70,11 @@ public class Person implements Serializable, MekHqXmlSerializable {
     //region Variable Declarations
     private static final long serialVersionUID = -847642980395311152L;
 
+    /* The ordinals of the tech skills, in the order getBestTechSkill prefers them on a tie */
+    private static final int[] TECH_SKILL_ORDINALS = {
+            SkillType.ORD_TECH_MECH, SkillType.ORD_TECH_AERO, SkillType.ORD_TECH_MECHANIC, SkillType.ORD_TECH_BA
+    };
+
     /* If any new roles are added they should go at the end. They should also be accounted for
      * in isCombatRole(int) or isSupportRole(int). You should also increase the value of T_NUM
      * if you add new roles.
@@ -140,17 +146,17 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     // This creates a random range of approximately six weeks with which to modify the standard pregnancy duration
     // To create randomized pregnancy duration
-    private static final IntSupplier PREGNANCY_MODIFY_DURATION = () -> {
-        double gaussian = Math.sqrt(-2 * Math.log(Math.nextUp(Math.random())))
-            * Math.cos(2.0 * Math.PI * Math.random());
+    private static final ToIntFunction<Random> PREGNANCY_MODIFY_DURATION = random -> {
+        double gaussian = Math.sqrt(-2 * Math.log(Math.nextUp(random.nextDouble())))
+            * Math.cos(2.0 * Math.PI * random.nextDouble());
         // To not get weird results, we limit the values to +/- 4.0 (almost 6 weeks)
         return (int) Math.round(Math.max(-4.0, Math.min(4.0, gaussian)) * 10);
     };
 
-    private static final IntSupplier PREGNANCY_SIZE = () -> {
+    private static final ToIntFunction<Random> PREGNANCY_SIZE = random -> {
         int children = 1;
         // Hellin's law says it's 1:89 chance, to not make it appear too seldom, we use 1:50
-        while(Compute.randomInt(50) == 0) {
+        while(random.nextInt(50) == 0) {
             ++ children;
         }
         return Math.min(children, 10); // Limit to decuplets, for the sake of sanity
@@ -219,8 +225,8 @@ public class Person implements Serializable, MekHqXmlSerializable {
     protected LocalDate dateOfDeath;
     protected LocalDate recruitment;
     protected LocalDate lastRankChangeDate;
-    protected List<LogEntry> personnelLog;
-    protected List<LogEntry> missionLog;
+    protected LazyLogStore personnelLog;
+    protected LazyLogStore missionLog;
 
     private Skills skills;
     private PersonnelOptions options;
@@ -446,8 +452,8 @@ public class Person implements Serializable, MekHqXmlSerializable {
         options = new PersonnelOptions();
         currentEdge = 0;
         techUnitIds = new ArrayList<>();
-        personnelLog = new ArrayList<>();
-        missionLog = new ArrayList<>();
+        personnelLog = new LazyLogStore();
+        missionLog = new LazyLogStore();
         awardController = new PersonAwardController(this);
         injuries = new ArrayList<>();
         founder = false;
@@ -923,6 +929,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public void setStatus(PersonnelStatus status) {
         this.status = status;
+        updateMarriageMarket();
     }
 
     public int getIdleMonths() {
@@ -1091,53 +1098,53 @@ public class Person implements Serializable, MekHqXmlSerializable {
             case (T_NONE):
                 return true;
             case (T_MECHWARRIOR):
-                return hasSkill(SkillType.S_GUN_MECH) && hasSkill(SkillType.S_PILOT_MECH);
+                return hasSkill(SkillType.ORD_GUN_MECH) && hasSkill(SkillType.ORD_PILOT_MECH);
             case (T_GVEE_DRIVER):
-                return hasSkill(SkillType.S_PILOT_GVEE);
+                return hasSkill(SkillType.ORD_PILOT_GVEE);
             case (T_NVEE_DRIVER):
-                return hasSkill(SkillType.S_PILOT_NVEE);
+                return hasSkill(SkillType.ORD_PILOT_NVEE);
             case (T_VTOL_PILOT):
-                return hasSkill(SkillType.S_PILOT_VTOL);
+                return hasSkill(SkillType.ORD_PILOT_VTOL);
             case (T_VEE_GUNNER):
-                return hasSkill(SkillType.S_GUN_VEE);
+                return hasSkill(SkillType.ORD_GUN_VEE);
             case (T_AERO_PILOT):
-                return hasSkill(SkillType.S_GUN_AERO) && hasSkill(SkillType.S_PILOT_AERO);
+                return hasSkill(SkillType.ORD_GUN_AERO) && hasSkill(SkillType.ORD_PILOT_AERO);
             case (T_CONV_PILOT):
-                return hasSkill(SkillType.S_GUN_JET) && hasSkill(SkillType.S_PILOT_JET);
+                return hasSkill(SkillType.ORD_GUN_JET) && hasSkill(SkillType.ORD_PILOT_JET);
             case (T_PROTO_PILOT):
-                return hasSkill(SkillType.S_GUN_PROTO);
+                return hasSkill(SkillType.ORD_GUN_PROTO);
             case (T_BA):
-                return hasSkill(SkillType.S_GUN_BA);
+                return hasSkill(SkillType.ORD_GUN_BA);
             case (T_INFANTRY):
-                return hasSkill(SkillType.S_SMALL_ARMS);
+                return hasSkill(SkillType.ORD_SMALL_ARMS);
             case (T_SPACE_PILOT):
-                return hasSkill(SkillType.S_PILOT_SPACE);
+                return hasSkill(SkillType.ORD_PILOT_SPACE);
             case (T_SPACE_CREW):
-                return hasSkill(SkillType.S_TECH_VESSEL);
+                return hasSkill(SkillType.ORD_TECH_VESSEL);
             case (T_SPACE_GUNNER):
-                return hasSkill(SkillType.S_GUN_SPACE);
+                return hasSkill(SkillType.ORD_GUN_SPACE);
             case (T_NAVIGATOR):
-                return hasSkill(SkillType.S_NAV);
+                return hasSkill(SkillType.ORD_NAV);
             case (T_MECH_TECH):
-                return hasSkill(SkillType.S_TECH_MECH) && getSkill(SkillType.S_TECH_MECH).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+                return hasSkill(SkillType.ORD_TECH_MECH) && getSkill(SkillType.ORD_TECH_MECH).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
             case (T_MECHANIC):
             case T_VEHICLE_CREW:
-                return hasSkill(SkillType.S_TECH_MECHANIC) && getSkill(SkillType.S_TECH_MECHANIC).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+                return hasSkill(SkillType.ORD_TECH_MECHANIC) && getSkill(SkillType.ORD_TECH_MECHANIC).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
             case (T_AERO_TECH):
-                return hasSkill(SkillType.S_TECH_AERO) && getSkill(SkillType.S_TECH_AERO).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+                return hasSkill(SkillType.ORD_TECH_AERO) && getSkill(SkillType.ORD_TECH_AERO).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
             case (T_BA_TECH):
-                return hasSkill(SkillType.S_TECH_BA) && getSkill(SkillType.S_TECH_BA).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+                return hasSkill(SkillType.ORD_TECH_BA) && getSkill(SkillType.ORD_TECH_BA).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
             case (T_ASTECH):
-                return hasSkill(SkillType.S_ASTECH);
+                return hasSkill(SkillType.ORD_ASTECH);
             case (T_DOCTOR):
-                return hasSkill(SkillType.S_DOCTOR) && getSkill(SkillType.S_DOCTOR).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+                return hasSkill(SkillType.ORD_DOCTOR) && getSkill(SkillType.ORD_DOCTOR).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
             case (T_MEDIC):
-                return hasSkill(SkillType.S_MEDTECH);
+                return hasSkill(SkillType.ORD_MEDTECH);
             case (T_ADMIN_COM):
             case (T_ADMIN_LOG):
             case (T_ADMIN_TRA):
             case (T_ADMIN_HR):
-                return hasSkill(SkillType.S_ADMIN);
+                return hasSkill(SkillType.ORD_ADMIN);
             default:
                 return false;
         }
@@ -1145,6 +1152,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public void setGender(int g) {
         this.gender = g;
+        updateMarriageMarket();
     }
 
     public int getGender() {
@@ -1153,6 +1161,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public void setBirthday(LocalDate date) {
         this.birthday = date;
+        updateMarriageMarket();
     }
 
     public LocalDate getBirthday() {
@@ -1295,34 +1304,46 @@ public class Person implements Serializable, MekHqXmlSerializable {
                 && !isChild() && (getAge(getCampaign().getLocalDate()) < 51);
     }
 
-    public void procreate() {
+    /**
+     * Rolls whether this person conceives today, and adds the pregnancy if they do
+     * @param random the random stream to roll with
+     */
+    public void procreate(Random random) {
         if (canProcreate()) {
             boolean conceived = false;
             if (hasSpouse()) {
                 if (!getSpouse().isDeployed() && !getSpouse().isDeadOrMIA() && !getSpouse().isChild()
                         && !(getSpouse().getGender() == getGender())) {
                     // setting is the decimal chance that this procreation attempt will create a child, base is 0.05%
-                    conceived = (Compute.randomFloat() < (campaign.getCampaignOptions().getChanceProcreation()));
+                    conceived = (random.nextFloat() < (campaign.getCampaignOptions().getChanceProcreation()));
                 }
             } else if (campaign.getCampaignOptions().useUnofficialProcreationNoRelationship()) {
                 // setting is the decimal chance that this procreation attempt will create a child, base is 0.005%
-                conceived = (Compute.randomFloat() < (campaign.getCampaignOptions().getChanceProcreationNoRelationship()));
+                conceived = (random.nextFloat() < (campaign.getCampaignOptions().getChanceProcreationNoRelationship()));
             }
 
             if (conceived) {
-                addPregnancy();
+                addPregnancy(random);
             }
         }
     }
 
     public void addPregnancy() {
+        addPregnancy(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Adds a pregnancy to this person, rolling its duration and size
+     * @param random the random stream to roll with
+     */
+    public void addPregnancy(Random random) {
         LocalDate dueDate = getCampaign().getLocalDate();
         dueDate = dueDate.plus(PREGNANCY_STANDARD_DURATION, ChronoUnit.DAYS);
         setExpectedDueDate(dueDate);
-        dueDate = dueDate.plus(PREGNANCY_MODIFY_DURATION.getAsInt(), ChronoUnit.DAYS);
+        dueDate = dueDate.plus(PREGNANCY_MODIFY_DURATION.applyAsInt(random), ChronoUnit.DAYS);
         setDueDate(dueDate);
 
-        int size = PREGNANCY_SIZE.getAsInt();
+        int size = PREGNANCY_SIZE.applyAsInt(random);
         extraData.set(PREGNANCY_CHILDREN_DATA, size);
         extraData.set(PREGNANCY_FATHER_DATA, (hasSpouse()) ? getSpouseId().toString() : null);
 
@@ -1348,6 +1369,15 @@ public class Person implements Serializable, MekHqXmlSerializable {
     }
 
     public Collection<Person> birth() {
+        return birth(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Delivers the babies of this person's pregnancy
+     * @param random the random stream to roll the gender and id of each baby with
+     * @return the babies, who still have to be recruited
+     */
+    public Collection<Person> birth(Random random) {
         int size = extraData.get(PREGNANCY_CHILDREN_DATA, 1);
         String fatherIdString = extraData.get(PREGNANCY_FATHER_DATA);
         UUID fatherId = (fatherIdString != null) ? UUID.fromString(fatherIdString) : null;
@@ -1362,11 +1392,21 @@ public class Person implements Serializable, MekHqXmlSerializable {
         // Cleanup
         removePregnancy();
 
+        // Roll everything up front, so the babies do not depend on the order the stream runs in
+        final int[] genders = random.ints(size, 0, 2)
+                .map(g -> (g == 0) ? Crew.G_MALE : Crew.G_FEMALE).toArray();
+        final UUID[] babyIds = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            byte[] idBytes = new byte[16];
+            random.nextBytes(idBytes);
+            babyIds[i] = UUID.nameUUIDFromBytes(idBytes);
+        }
+
         return IntStream.range(0, size).mapToObj(i -> {
-            Person baby = campaign.newDependent(T_NONE, true);
+            Person baby = campaign.newDependent(T_NONE, true, genders[i]);
             baby.setSurname(surname);
             baby.setBirthday(getCampaign().getLocalDate());
-            UUID babyId = UUID.randomUUID();
+            UUID babyId = babyIds[i];
 
             baby.setId(babyId);
             baby.setAncestorsId(ancId);
@@ -1400,6 +1440,17 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public void setTryingToMarry(boolean tryingToMarry) {
         this.tryingToMarry = tryingToMarry;
+        updateMarriageMarket();
+    }
+
+    /**
+     * Keeps the campaign's marriage market up to date after a change that may affect whether,
+     * or where, this person is in it
+     */
+    private void updateMarriageMarket() {
+        if ((campaign != null) && (getId() != null) && (campaign.getPerson(getId()) == this)) {
+            campaign.getMarriageMarket().update(this);
+        }
     }
 
     /**
@@ -1434,35 +1485,69 @@ public class Person implements Serializable, MekHqXmlSerializable {
         return (getAge(getCampaign().getLocalDate()) >= getCampaign().getCampaignOptions().getMinimumMarriageAge());
     }
 
-    public void randomMarriage() {
+    /**
+     * Rolls whether this person attempts a random marriage today. This only reads the campaign,
+     * so it may be called for several people in parallel.
+     * @param random the random stream to roll with
+     * @return the people this person could marry, or null if they are not marrying today
+     */
+    public List<Person> rollRandomMarriage(Random random) {
         // Don't attempt to generate is someone isn't trying to marry, has a spouse,
         // isn't old enough to marry, or is actively deployed
         if (!tryingToMarry || hasSpouse() || !oldEnoughToMarry() || isDeployed()) {
-            return;
+            return null;
         }
 
         // setting is the fractional chance that this attempt at finding a marriage will result in one
-        if (Compute.randomFloat() < (getCampaign().getCampaignOptions().getChanceRandomMarriages())) {
-            addRandomSpouse(false);
+        if (random.nextFloat() < (getCampaign().getCampaignOptions().getChanceRandomMarriages())) {
+            return getPotentialRandomSpouses(false);
         } else if (getCampaign().getCampaignOptions().useRandomSameSexMarriages()) {
-            if (Compute.randomFloat() < (getCampaign().getCampaignOptions().getChanceRandomSameSexMarriages())) {
-                addRandomSpouse(true);
+            if (random.nextFloat() < (getCampaign().getCampaignOptions().getChanceRandomSameSexMarriages())) {
+                return getPotentialRandomSpouses(true);
             }
         }
+        return null;
     }
 
-    public void addRandomSpouse(boolean sameSex) {
+    public List<Person> getPotentialRandomSpouses(boolean sameSex) {
         List<Person> potentials = new ArrayList<>();
         int gender = sameSex ? getGender() : (isMale() ? Crew.G_FEMALE : Crew.G_MALE);
-        for (Person p : getCampaign().getActivePersonnel()) {
+        // People whose ages are within the range in whole years were born at most one more year
+        // apart, and anyone born after the latest year is too young to marry
+        int range = getCampaign().getCampaignOptions().getMarriageAgeRange();
+        int birthYear = getBirthday().getYear();
+        int latestBirthYear = getCampaign().getLocalDate().getYear()
+                - getCampaign().getCampaignOptions().getMinimumMarriageAge();
+        for (Person p : getCampaign().getMarriageMarket().getCandidates(gender, birthYear - range - 1,
+                Math.min(birthYear + range + 1, latestBirthYear))) {
             if (isPotentialRandomSpouse(p, gender)) {
                 potentials.add(p);
             }
         }
+        return potentials;
+    }
 
-        int n = potentials.size();
+    /**
+     * Marries this person to one of the potential spouses found by {@link #rollRandomMarriage(Random)}.
+     * Anyone who has married since the potential spouses were found is skipped.
+     * @param potentials the potential spouses
+     * @param random the random stream to pick the spouse with
+     */
+    public void addRandomSpouse(List<Person> potentials, Random random) {
+        if (hasSpouse()) {
+            return;
+        }
+
+        List<Person> available = new ArrayList<>(potentials.size());
+        for (Person p : potentials) {
+            if (!p.hasSpouse()) {
+                available.add(p);
+            }
+        }
+
+        int n = available.size();
         if (n > 0) {
-            marry(potentials.get(Compute.randomInt(n)), SURNAME_WEIGHTED);
+            marry(available.get(random.nextInt(n)), SURNAME_WEIGHTED);
         }
     }
 
@@ -1941,16 +2026,12 @@ public class Person implements Serializable, MekHqXmlSerializable {
             }
             if (!personnelLog.isEmpty()) {
                 MekHqXmlUtil.writeSimpleXMLOpenIndentedLine(pw1, indent + 1, "personnelLog");
-                for (LogEntry entry : personnelLog) {
-                    entry.writeToXml(pw1, indent + 2);
-                }
+                personnelLog.writeToXml(pw1, indent + 2);
                 MekHqXmlUtil.writeSimpleXMLCloseIndentedLine(pw1, indent + 1, "personnelLog");
             }
             if (!missionLog.isEmpty()) {
                 MekHqXmlUtil.writeSimpleXMLOpenIndentedLine(pw1, indent + 1, "missionLog");
-                for (LogEntry entry : missionLog) {
-                    entry.writeToXml(pw1, indent + 2);
-                }
+                missionLog.writeToXml(pw1, indent + 2);
                 MekHqXmlUtil.writeSimpleXMLCloseIndentedLine(pw1, indent + 1, "missionLog");
             }
             if (!getAwardController().getAwards().isEmpty()) {
@@ -2252,19 +2333,19 @@ public class Person implements Serializable, MekHqXmlSerializable {
                             continue;
                         }
 
-                        LogEntry entry = LogEntryFactory.getInstance().generateInstanceFromXML(wn3);
-
                         // If the version of this campaign is earlier than 0.45.4,
                         // we didn't have the mission log separated from the personnel log,
                         // so we need to separate the log entries manually
                         if (version.isLowerThan("0.45.4")) {
+                            LogEntry entry = LogEntryFactory.getInstance().generateInstanceFromXML(wn3);
                             if (entry.getDesc().startsWith(getMissionParticipatedString())) {
                                 retVal.addMissionLogEntry(entry);
                             } else {
                                 retVal.addLogEntry(entry);
                             }
                         } else {
-                            retVal.addLogEntry(entry);
+                            // The entry is only loaded when the log is read
+                            retVal.personnelLog.addFromXml(wn3);
                         }
                     }
                 } else if (wn2.getNodeName().equalsIgnoreCase("missionLog")) {
@@ -2283,7 +2364,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
                                     "Unknown node type not loaded in mission log nodes: " + wn3.getNodeName()); //$NON-NLS-1$
                             continue;
                         }
-                        retVal.addMissionLogEntry(LogEntryFactory.getInstance().generateInstanceFromXML(wn3));
+                        retVal.missionLog.addFromXml(wn3);
                     }
                 } else if (wn2.getNodeName().equalsIgnoreCase("awards")){
                     NodeList nl2 = wn2.getChildNodes();
@@ -2367,16 +2448,16 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
             if (version.getMajorVersion() == 0 && version.getMinorVersion() == 3 && version.getSnapshot() < 1) {
                 //adjust for conventional fighter pilots
-                if (retVal.primaryRole == T_CONV_PILOT && retVal.hasSkill(SkillType.S_PILOT_SPACE) && !retVal.hasSkill(SkillType.S_PILOT_JET)) {
+                if (retVal.primaryRole == T_CONV_PILOT && retVal.hasSkill(SkillType.ORD_PILOT_SPACE) && !retVal.hasSkill(SkillType.ORD_PILOT_JET)) {
                     retVal.primaryRole += 1;
                 }
-                if (retVal.secondaryRole == T_CONV_PILOT && retVal.hasSkill(SkillType.S_PILOT_SPACE) && !retVal.hasSkill(SkillType.S_PILOT_JET)) {
+                if (retVal.secondaryRole == T_CONV_PILOT && retVal.hasSkill(SkillType.ORD_PILOT_SPACE) && !retVal.hasSkill(SkillType.ORD_PILOT_JET)) {
                     retVal.secondaryRole += 1;
                 }
-                if (retVal.primaryRole == T_AERO_PILOT && !retVal.hasSkill(SkillType.S_PILOT_SPACE) && retVal.hasSkill(SkillType.S_PILOT_JET)) {
+                if (retVal.primaryRole == T_AERO_PILOT && !retVal.hasSkill(SkillType.ORD_PILOT_SPACE) && retVal.hasSkill(SkillType.ORD_PILOT_JET)) {
                     retVal.primaryRole += 8;
                 }
-                if (retVal.secondaryRole == T_AERO_PILOT && !retVal.hasSkill(SkillType.S_PILOT_SPACE) && retVal.hasSkill(SkillType.S_PILOT_JET)) {
+                if (retVal.secondaryRole == T_AERO_PILOT && !retVal.hasSkill(SkillType.ORD_PILOT_SPACE) && retVal.hasSkill(SkillType.ORD_PILOT_JET)) {
                     retVal.secondaryRole += 8;
                 }
             }
@@ -2499,13 +2580,13 @@ public class Person implements Serializable, MekHqXmlSerializable {
         //if salary is negative, then use the standard amounts
         Money primaryBase = campaign.getCampaignOptions().getBaseSalaryMoney(getPrimaryRole());
         primaryBase = primaryBase.multipliedBy(campaign.getCampaignOptions().getSalaryXpMultiplier(getExperienceLevel(false)));
-        if (hasSkill(SkillType.S_ANTI_MECH) && (getPrimaryRole() == T_INFANTRY || getPrimaryRole() == T_BA)) {
+        if (hasSkill(SkillType.ORD_ANTI_MECH) && (getPrimaryRole() == T_INFANTRY || getPrimaryRole() == T_BA)) {
             primaryBase = primaryBase.multipliedBy(campaign.getCampaignOptions().getSalaryAntiMekMultiplier());
         }
 
         Money secondaryBase = campaign.getCampaignOptions().getBaseSalaryMoney(getSecondaryRole()).dividedBy(2);
         secondaryBase = secondaryBase.multipliedBy(campaign.getCampaignOptions().getSalaryXpMultiplier(getExperienceLevel(true)));
-        if (hasSkill(SkillType.S_ANTI_MECH) && (getSecondaryRole() == T_INFANTRY || getSecondaryRole() == T_BA)) {
+        if (hasSkill(SkillType.ORD_ANTI_MECH) && (getSecondaryRole() == T_INFANTRY || getSecondaryRole() == T_BA)) {
             secondaryBase = secondaryBase.multipliedBy(campaign.getCampaignOptions().getSalaryAntiMekMultiplier());
         }
 
@@ -2794,179 +2875,179 @@ public class Person implements Serializable, MekHqXmlSerializable {
         }
         switch (role) {
             case T_MECHWARRIOR:
-                if (hasSkill(SkillType.S_GUN_MECH) && hasSkill(SkillType.S_PILOT_MECH)) {
+                if (hasSkill(SkillType.ORD_GUN_MECH) && hasSkill(SkillType.ORD_PILOT_MECH)) {
                     /* Attempt to use higher precision averaging, but if it doesn't provide a clear result
                     due to non-standard experience thresholds then fall back on lower precision averaging
                     See Bug #140 */
                     if (campaign.getCampaignOptions().useAltQualityAveraging()) {
                         int rawScore = (int) Math.floor(
-                            (getSkill(SkillType.S_GUN_MECH).getLevel() + getSkill(SkillType.S_PILOT_MECH).getLevel()) / 2.0
+                            (getSkill(SkillType.ORD_GUN_MECH).getLevel() + getSkill(SkillType.ORD_PILOT_MECH).getLevel()) / 2.0
                         );
-                        if (getSkill(SkillType.S_GUN_MECH).getType().getExperienceLevel(rawScore) ==
-                            getSkill(SkillType.S_PILOT_MECH).getType().getExperienceLevel(rawScore)) {
-                            return getSkill(SkillType.S_GUN_MECH).getType().getExperienceLevel(rawScore);
+                        if (getSkill(SkillType.ORD_GUN_MECH).getType().getExperienceLevel(rawScore) ==
+                            getSkill(SkillType.ORD_PILOT_MECH).getType().getExperienceLevel(rawScore)) {
+                            return getSkill(SkillType.ORD_GUN_MECH).getType().getExperienceLevel(rawScore);
                         }
                     }
 
-                    return (int) Math.floor((getSkill(SkillType.S_GUN_MECH).getExperienceLevel()
-                                             + getSkill(SkillType.S_PILOT_MECH).getExperienceLevel()) / 2.0);
+                    return (int) Math.floor((getSkill(SkillType.ORD_GUN_MECH).getExperienceLevel()
+                                             + getSkill(SkillType.ORD_PILOT_MECH).getExperienceLevel()) / 2.0);
                 } else {
                     return -1;
                 }
             case T_GVEE_DRIVER:
-                if (hasSkill(SkillType.S_PILOT_GVEE)) {
-                    return getSkill(SkillType.S_PILOT_GVEE).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_PILOT_GVEE)) {
+                    return getSkill(SkillType.ORD_PILOT_GVEE).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_NVEE_DRIVER:
-                if (hasSkill(SkillType.S_PILOT_NVEE)) {
-                    return getSkill(SkillType.S_PILOT_NVEE).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_PILOT_NVEE)) {
+                    return getSkill(SkillType.ORD_PILOT_NVEE).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_VTOL_PILOT:
-                if (hasSkill(SkillType.S_PILOT_VTOL)) {
-                    return getSkill(SkillType.S_PILOT_VTOL).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_PILOT_VTOL)) {
+                    return getSkill(SkillType.ORD_PILOT_VTOL).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_VEE_GUNNER:
-                if (hasSkill(SkillType.S_GUN_VEE)) {
-                    return getSkill(SkillType.S_GUN_VEE).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_GUN_VEE)) {
+                    return getSkill(SkillType.ORD_GUN_VEE).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_AERO_PILOT:
-                if (hasSkill(SkillType.S_GUN_AERO) && hasSkill(SkillType.S_PILOT_AERO)) {
+                if (hasSkill(SkillType.ORD_GUN_AERO) && hasSkill(SkillType.ORD_PILOT_AERO)) {
                     if (campaign.getCampaignOptions().useAltQualityAveraging()) {
                         int rawScore = (int) Math.floor(
-                            (getSkill(SkillType.S_GUN_AERO).getLevel() + getSkill(SkillType.S_PILOT_AERO)
+                            (getSkill(SkillType.ORD_GUN_AERO).getLevel() + getSkill(SkillType.ORD_PILOT_AERO)
                                     .getLevel()) / 2.0
                         );
-                        if (getSkill(SkillType.S_GUN_AERO).getType().getExperienceLevel(rawScore) ==
-                            getSkill(SkillType.S_PILOT_AERO).getType().getExperienceLevel(rawScore)) {
-                            return getSkill(SkillType.S_GUN_AERO).getType().getExperienceLevel(rawScore);
+                        if (getSkill(SkillType.ORD_GUN_AERO).getType().getExperienceLevel(rawScore) ==
+                            getSkill(SkillType.ORD_PILOT_AERO).getType().getExperienceLevel(rawScore)) {
+                            return getSkill(SkillType.ORD_GUN_AERO).getType().getExperienceLevel(rawScore);
                         }
                     }
 
-                    return (int) Math.floor((getSkill(SkillType.S_GUN_AERO).getExperienceLevel()
-                                                 + getSkill(SkillType.S_PILOT_AERO).getExperienceLevel()) / 2.0);
+                    return (int) Math.floor((getSkill(SkillType.ORD_GUN_AERO).getExperienceLevel()
+                                                 + getSkill(SkillType.ORD_PILOT_AERO).getExperienceLevel()) / 2.0);
                 } else {
                     return -1;
                 }
             case T_CONV_PILOT:
-                if (hasSkill(SkillType.S_GUN_JET) && hasSkill(SkillType.S_PILOT_JET)) {
+                if (hasSkill(SkillType.ORD_GUN_JET) && hasSkill(SkillType.ORD_PILOT_JET)) {
                     if (campaign.getCampaignOptions().useAltQualityAveraging()) {
                         int rawScore = (int) Math.floor(
-                            (getSkill(SkillType.S_GUN_JET).getLevel() + getSkill(SkillType.S_PILOT_JET)
+                            (getSkill(SkillType.ORD_GUN_JET).getLevel() + getSkill(SkillType.ORD_PILOT_JET)
                                     .getLevel()) / 2.0
                         );
-                        if (getSkill(SkillType.S_GUN_JET).getType().getExperienceLevel(rawScore) ==
-                            getSkill(SkillType.S_PILOT_JET).getType().getExperienceLevel(rawScore)) {
-                            return getSkill(SkillType.S_GUN_JET).getType().getExperienceLevel(rawScore);
+                        if (getSkill(SkillType.ORD_GUN_JET).getType().getExperienceLevel(rawScore) ==
+                            getSkill(SkillType.ORD_PILOT_JET).getType().getExperienceLevel(rawScore)) {
+                            return getSkill(SkillType.ORD_GUN_JET).getType().getExperienceLevel(rawScore);
                         }
                     }
 
-                    return (int) Math.floor((getSkill(SkillType.S_GUN_JET).getExperienceLevel()
-                                             + getSkill(SkillType.S_PILOT_JET).getExperienceLevel()) / 2.0);
+                    return (int) Math.floor((getSkill(SkillType.ORD_GUN_JET).getExperienceLevel()
+                                             + getSkill(SkillType.ORD_PILOT_JET).getExperienceLevel()) / 2.0);
                 } else {
                     return -1;
                 }
             case T_BA:
-                if (hasSkill(SkillType.S_GUN_BA) && hasSkill(SkillType.S_ANTI_MECH)) {
+                if (hasSkill(SkillType.ORD_GUN_BA) && hasSkill(SkillType.ORD_ANTI_MECH)) {
                     if (campaign.getCampaignOptions().useAltQualityAveraging()) {
                         int rawScore = (int) Math.floor(
-                            (getSkill(SkillType.S_GUN_BA).getLevel() + getSkill(SkillType.S_ANTI_MECH)
+                            (getSkill(SkillType.ORD_GUN_BA).getLevel() + getSkill(SkillType.ORD_ANTI_MECH)
                                     .getLevel()) / 2.0
                         );
-                        if (getSkill(SkillType.S_GUN_BA).getType().getExperienceLevel(rawScore) ==
-                            getSkill(SkillType.S_ANTI_MECH).getType().getExperienceLevel(rawScore)) {
-                            return getSkill(SkillType.S_GUN_BA).getType().getExperienceLevel(rawScore);
+                        if (getSkill(SkillType.ORD_GUN_BA).getType().getExperienceLevel(rawScore) ==
+                            getSkill(SkillType.ORD_ANTI_MECH).getType().getExperienceLevel(rawScore)) {
+                            return getSkill(SkillType.ORD_GUN_BA).getType().getExperienceLevel(rawScore);
                         }
                     }
 
-                    return (int) Math.floor((getSkill(SkillType.S_GUN_BA).getExperienceLevel()
-                                             + getSkill(SkillType.S_ANTI_MECH).getExperienceLevel()) / 2.0);
+                    return (int) Math.floor((getSkill(SkillType.ORD_GUN_BA).getExperienceLevel()
+                                             + getSkill(SkillType.ORD_ANTI_MECH).getExperienceLevel()) / 2.0);
                 } else {
                     return -1;
                 }
             case T_PROTO_PILOT:
-                if (hasSkill(SkillType.S_GUN_PROTO)) {
-                    return getSkill(SkillType.S_GUN_PROTO).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_GUN_PROTO)) {
+                    return getSkill(SkillType.ORD_GUN_PROTO).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_INFANTRY:
-                if (hasSkill(SkillType.S_SMALL_ARMS)) {
-                    return getSkill(SkillType.S_SMALL_ARMS).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_SMALL_ARMS)) {
+                    return getSkill(SkillType.ORD_SMALL_ARMS).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_SPACE_PILOT:
-                if (hasSkill(SkillType.S_PILOT_SPACE)) {
-                    return getSkill(SkillType.S_PILOT_SPACE).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_PILOT_SPACE)) {
+                    return getSkill(SkillType.ORD_PILOT_SPACE).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_SPACE_CREW:
-                if (hasSkill(SkillType.S_TECH_VESSEL)) {
-                    return getSkill(SkillType.S_TECH_VESSEL).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_TECH_VESSEL)) {
+                    return getSkill(SkillType.ORD_TECH_VESSEL).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_SPACE_GUNNER:
-                if (hasSkill(SkillType.S_GUN_SPACE)) {
-                    return getSkill(SkillType.S_GUN_SPACE).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_GUN_SPACE)) {
+                    return getSkill(SkillType.ORD_GUN_SPACE).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_NAVIGATOR:
-                if (hasSkill(SkillType.S_NAV)) {
-                    return getSkill(SkillType.S_NAV).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_NAV)) {
+                    return getSkill(SkillType.ORD_NAV).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_MECH_TECH:
-                if (hasSkill(SkillType.S_TECH_MECH)) {
-                    return getSkill(SkillType.S_TECH_MECH).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_TECH_MECH)) {
+                    return getSkill(SkillType.ORD_TECH_MECH).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_MECHANIC:
             case T_VEHICLE_CREW:
-                if (hasSkill(SkillType.S_TECH_MECHANIC)) {
-                    return getSkill(SkillType.S_TECH_MECHANIC).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_TECH_MECHANIC)) {
+                    return getSkill(SkillType.ORD_TECH_MECHANIC).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_AERO_TECH:
-                if (hasSkill(SkillType.S_TECH_AERO)) {
-                    return getSkill(SkillType.S_TECH_AERO).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_TECH_AERO)) {
+                    return getSkill(SkillType.ORD_TECH_AERO).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_BA_TECH:
-                if (hasSkill(SkillType.S_TECH_BA)) {
-                    return getSkill(SkillType.S_TECH_BA).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_TECH_BA)) {
+                    return getSkill(SkillType.ORD_TECH_BA).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_ASTECH:
-                if (hasSkill(SkillType.S_ASTECH)) {
-                    return getSkill(SkillType.S_ASTECH).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_ASTECH)) {
+                    return getSkill(SkillType.ORD_ASTECH).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_DOCTOR:
-                if (hasSkill(SkillType.S_DOCTOR)) {
-                    return getSkill(SkillType.S_DOCTOR).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_DOCTOR)) {
+                    return getSkill(SkillType.ORD_DOCTOR).getExperienceLevel();
                 } else {
                     return -1;
                 }
             case T_MEDIC:
-                if (hasSkill(SkillType.S_MEDTECH)) {
-                    return getSkill(SkillType.S_MEDTECH).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_MEDTECH)) {
+                    return getSkill(SkillType.ORD_MEDTECH).getExperienceLevel();
                 } else {
                     return -1;
                 }
@@ -2974,8 +3055,8 @@ public class Person implements Serializable, MekHqXmlSerializable {
             case T_ADMIN_LOG:
             case T_ADMIN_TRA:
             case T_ADMIN_HR:
-                if (hasSkill(SkillType.S_ADMIN)) {
-                    return getSkill(SkillType.S_ADMIN).getExperienceLevel();
+                if (hasSkill(SkillType.ORD_ADMIN)) {
+                    return getSkill(SkillType.ORD_ADMIN).getExperienceLevel();
                 } else {
                     return -1;
                 }
@@ -3085,6 +3166,14 @@ public class Person implements Serializable, MekHqXmlSerializable {
         return skills.hasSkill(skillName);
     }
 
+    /**
+     * @param ordinal The {@link SkillType#getOrdinal(String) ordinal} of the skill.
+     * @return True if and only if the person has the skill.
+     */
+    public boolean hasSkill(int ordinal) {
+        return skills.hasSkill(ordinal);
+    }
+
     public Skills getSkills() {
         return skills;
     }
@@ -3094,6 +3183,15 @@ public class Person implements Serializable, MekHqXmlSerializable {
         return skills.getSkill(skillName);
     }
 
+    /**
+     * @param ordinal The {@link SkillType#getOrdinal(String) ordinal} of the skill.
+     * @return The person's {@link Skill}, if they have it, otherwise null.
+     */
+    @Nullable
+    public Skill getSkill(int ordinal) {
+        return skills.getSkill(ordinal);
+    }
+
     public void addSkill(String skillName, Skill skill) {
         skills.addSkill(skillName, skill);
     }
@@ -3374,67 +3472,67 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public boolean canDrive(Entity ent) {
         if (ent instanceof LandAirMech) {
-            return hasSkill(SkillType.S_PILOT_MECH) && hasSkill(SkillType.S_PILOT_AERO);
+            return hasSkill(SkillType.ORD_PILOT_MECH) && hasSkill(SkillType.ORD_PILOT_AERO);
         } else if (ent instanceof Mech) {
-            return hasSkill(SkillType.S_PILOT_MECH);
+            return hasSkill(SkillType.ORD_PILOT_MECH);
         } else if (ent instanceof VTOL) {
-            return hasSkill(SkillType.S_PILOT_VTOL);
+            return hasSkill(SkillType.ORD_PILOT_VTOL);
         } else if (ent instanceof Tank) {
             if (ent.getMovementMode() == EntityMovementMode.NAVAL
                 || ent.getMovementMode() == EntityMovementMode.HYDROFOIL
                 || ent.getMovementMode() == EntityMovementMode.SUBMARINE) {
-                return hasSkill(SkillType.S_PILOT_NVEE);
+                return hasSkill(SkillType.ORD_PILOT_NVEE);
             } else {
-                return hasSkill(SkillType.S_PILOT_GVEE);
+                return hasSkill(SkillType.ORD_PILOT_GVEE);
             }
         } else if (ent instanceof ConvFighter) {
-            return hasSkill(SkillType.S_PILOT_JET) || hasSkill(SkillType.S_PILOT_AERO);
+            return hasSkill(SkillType.ORD_PILOT_JET) || hasSkill(SkillType.ORD_PILOT_AERO);
         } else if (ent instanceof SmallCraft || ent instanceof Jumpship) {
-            return hasSkill(SkillType.S_PILOT_SPACE);
+            return hasSkill(SkillType.ORD_PILOT_SPACE);
         } else if (ent instanceof Aero) {
-            return hasSkill(SkillType.S_PILOT_AERO);
+            return hasSkill(SkillType.ORD_PILOT_AERO);
         } else if (ent instanceof BattleArmor) {
-            return hasSkill(SkillType.S_GUN_BA);
+            return hasSkill(SkillType.ORD_GUN_BA);
         } else if (ent instanceof Infantry) {
-            return hasSkill(SkillType.S_SMALL_ARMS);
+            return hasSkill(SkillType.ORD_SMALL_ARMS);
         } else if (ent instanceof Protomech) {
-            return hasSkill(SkillType.S_GUN_PROTO);
+            return hasSkill(SkillType.ORD_GUN_PROTO);
         }
         return false;
     }
 
     public boolean canGun(Entity ent) {
         if (ent instanceof LandAirMech) {
-            return hasSkill(SkillType.S_GUN_MECH) && hasSkill(SkillType.S_GUN_AERO);
+            return hasSkill(SkillType.ORD_GUN_MECH) && hasSkill(SkillType.ORD_GUN_AERO);
         } else if (ent instanceof Mech) {
-            return hasSkill(SkillType.S_GUN_MECH);
+            return hasSkill(SkillType.ORD_GUN_MECH);
         } else if (ent instanceof Tank) {
-            return hasSkill(SkillType.S_GUN_VEE);
+            return hasSkill(SkillType.ORD_GUN_VEE);
         } else if (ent instanceof ConvFighter) {
-            return hasSkill(SkillType.S_GUN_JET) || hasSkill(SkillType.S_GUN_AERO);
+            return hasSkill(SkillType.ORD_GUN_JET) || hasSkill(SkillType.ORD_GUN_AERO);
         } else if (ent instanceof SmallCraft || ent instanceof Jumpship) {
-            return hasSkill(SkillType.S_GUN_SPACE);
+            return hasSkill(SkillType.ORD_GUN_SPACE);
         } else if (ent instanceof Aero) {
-            return hasSkill(SkillType.S_GUN_AERO);
+            return hasSkill(SkillType.ORD_GUN_AERO);
         } else if (ent instanceof BattleArmor) {
-            return hasSkill(SkillType.S_GUN_BA);
+            return hasSkill(SkillType.ORD_GUN_BA);
         } else if (ent instanceof Infantry) {
-            return hasSkill(SkillType.S_SMALL_ARMS);
+            return hasSkill(SkillType.ORD_SMALL_ARMS);
         } else if (ent instanceof Protomech) {
-            return hasSkill(SkillType.S_GUN_PROTO);
+            return hasSkill(SkillType.ORD_GUN_PROTO);
         }
         return false;
     }
 
     public boolean canTech(Entity ent) {
         if (ent instanceof Mech || ent instanceof Protomech) {
-            return hasSkill(SkillType.S_TECH_MECH);
+            return hasSkill(SkillType.ORD_TECH_MECH);
         } else if (ent instanceof Aero) {
-            return hasSkill(SkillType.S_TECH_AERO);
+            return hasSkill(SkillType.ORD_TECH_AERO);
         } else if (ent instanceof BattleArmor) {
-            return hasSkill(SkillType.S_TECH_BA);
+            return hasSkill(SkillType.ORD_TECH_BA);
         } else if (ent instanceof Tank) {
-            return hasSkill(SkillType.S_TECH_MECHANIC);
+            return hasSkill(SkillType.ORD_TECH_MECHANIC);
         }
         return false;
     }
@@ -3553,35 +3651,31 @@ public class Person implements Serializable, MekHqXmlSerializable {
     public Skill getBestTechSkill() {
         Skill skill = null;
         int lvl = -1;
-        if (hasSkill(SkillType.S_TECH_MECH) && getSkill(SkillType.S_TECH_MECH).getExperienceLevel() > lvl) {
-            skill = getSkill(SkillType.S_TECH_MECH);
-            lvl = getSkill(SkillType.S_TECH_MECH).getExperienceLevel();
-        }
-        if (hasSkill(SkillType.S_TECH_AERO) && getSkill(SkillType.S_TECH_AERO).getExperienceLevel() > lvl) {
-            skill = getSkill(SkillType.S_TECH_AERO);
-            lvl = getSkill(SkillType.S_TECH_AERO).getExperienceLevel();
-        }
-        if (hasSkill(SkillType.S_TECH_MECHANIC) && getSkill(SkillType.S_TECH_MECHANIC).getExperienceLevel() > lvl) {
-            skill = getSkill(SkillType.S_TECH_MECHANIC);
-            lvl = getSkill(SkillType.S_TECH_MECHANIC).getExperienceLevel();
-        }
-        if (hasSkill(SkillType.S_TECH_BA) && getSkill(SkillType.S_TECH_BA).getExperienceLevel() > lvl) {
-            skill = getSkill(SkillType.S_TECH_BA);
+        for (int ordinal : TECH_SKILL_ORDINALS) {
+            Skill techSkill = skills.getSkill(ordinal);
+            if ((null != techSkill) && (techSkill.getExperienceLevel() > lvl)) {
+                skill = techSkill;
+                lvl = techSkill.getExperienceLevel();
+            }
         }
         return skill;
     }
 
     public boolean isTech() {
         //type must be correct and you must be more than ultra-green in the skill
-        boolean isMechTech = hasSkill(SkillType.S_TECH_MECH) && getSkill(SkillType.S_TECH_MECH).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
-        boolean isAeroTech = hasSkill(SkillType.S_TECH_AERO) && getSkill(SkillType.S_TECH_AERO).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
-        boolean isMechanic = hasSkill(SkillType.S_TECH_MECHANIC) && getSkill(SkillType.S_TECH_MECHANIC).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
-        boolean isBATech = hasSkill(SkillType.S_TECH_BA) && getSkill(SkillType.S_TECH_BA).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN;
+        boolean hasTechSkill = false;
+        for (int ordinal : TECH_SKILL_ORDINALS) {
+            Skill techSkill = skills.getSkill(ordinal);
+            if ((null != techSkill) && (techSkill.getExperienceLevel() > SkillType.EXP_ULTRA_GREEN)) {
+                hasTechSkill = true;
+                break;
+            }
+        }
         // At some point we may want to re-write things to include this
-        /*boolean isEngineer = hasSkill(SkillType.S_TECH_VESSEL) && getSkill(SkillType.S_TECH_VESSEL).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN
+        /*boolean isEngineer = hasSkill(SkillType.ORD_TECH_VESSEL) && getSkill(SkillType.ORD_TECH_VESSEL).getExperienceLevel() > SkillType.EXP_ULTRA_GREEN
                 && campaign.getUnit(getUnitId()).getEngineer() != null
                 && campaign.getUnit(getUnitId()).getEngineer().equals(this);*/
-        return (isTechPrimary() || isTechSecondary()) && (isMechTech || isAeroTech || isMechanic || isBATech);
+        return (isTechPrimary() || isTechSecondary()) && hasTechSkill;
     }
 
     public boolean isTechPrimary() {
@@ -3605,27 +3699,27 @@ public class Person implements Serializable, MekHqXmlSerializable {
         }
         //check spare parts
         //return the best one
-        if (part.isRightTechType(SkillType.S_TECH_MECH) && hasSkill(SkillType.S_TECH_MECH)) {
-            skill = getSkill(SkillType.S_TECH_MECH);
+        if (part.isRightTechType(SkillType.S_TECH_MECH) && hasSkill(SkillType.ORD_TECH_MECH)) {
+            skill = getSkill(SkillType.ORD_TECH_MECH);
         }
-        if (part.isRightTechType(SkillType.S_TECH_BA) && hasSkill(SkillType.S_TECH_BA)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_BA).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_BA);
+        if (part.isRightTechType(SkillType.S_TECH_BA) && hasSkill(SkillType.ORD_TECH_BA)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_BA).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_BA);
             }
         }
-        if (part.isRightTechType(SkillType.S_TECH_AERO) && hasSkill(SkillType.S_TECH_AERO)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_AERO).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_AERO);
+        if (part.isRightTechType(SkillType.S_TECH_AERO) && hasSkill(SkillType.ORD_TECH_AERO)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_AERO).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_AERO);
             }
         }
-        if (part.isRightTechType(SkillType.S_TECH_MECHANIC) && hasSkill(SkillType.S_TECH_MECHANIC)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_MECHANIC).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_MECHANIC);
+        if (part.isRightTechType(SkillType.S_TECH_MECHANIC) && hasSkill(SkillType.ORD_TECH_MECHANIC)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_MECHANIC).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_MECHANIC);
             }
         }
-        if (part.isRightTechType(SkillType.S_TECH_VESSEL) && hasSkill(SkillType.S_TECH_VESSEL)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_VESSEL).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_VESSEL);
+        if (part.isRightTechType(SkillType.S_TECH_VESSEL) && hasSkill(SkillType.ORD_TECH_VESSEL)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_VESSEL).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_VESSEL);
             }
         }
         if (null != skill) {
@@ -3633,22 +3727,22 @@ public class Person implements Serializable, MekHqXmlSerializable {
         }
         //if we are still here then we didn't have the right tech skill, so return the highest
         //of any tech skills that we do have
-        if (hasSkill(SkillType.S_TECH_MECH)) {
-            skill = getSkill(SkillType.S_TECH_MECH);
+        if (hasSkill(SkillType.ORD_TECH_MECH)) {
+            skill = getSkill(SkillType.ORD_TECH_MECH);
         }
-        if (hasSkill(SkillType.S_TECH_BA)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_BA).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_BA);
+        if (hasSkill(SkillType.ORD_TECH_BA)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_BA).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_BA);
             }
         }
-        if (hasSkill(SkillType.S_TECH_MECHANIC)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_MECHANIC).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_MECHANIC);
+        if (hasSkill(SkillType.ORD_TECH_MECHANIC)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_MECHANIC).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_MECHANIC);
             }
         }
-        if (hasSkill(SkillType.S_TECH_AERO)) {
-            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.S_TECH_AERO).getFinalSkillValue()) {
-                skill = getSkill(SkillType.S_TECH_AERO);
+        if (hasSkill(SkillType.ORD_TECH_AERO)) {
+            if (null == skill || skill.getFinalSkillValue() > getSkill(SkillType.ORD_TECH_AERO).getFinalSkillValue()) {
+                skill = getSkill(SkillType.ORD_TECH_AERO);
             }
         }
         return skill;
@@ -3659,24 +3753,24 @@ public class Person implements Serializable, MekHqXmlSerializable {
             return null;
         }
         if ((unit.getEntity() instanceof Mech || unit.getEntity() instanceof Protomech)
-            && hasSkill(SkillType.S_TECH_MECH)) {
-            return getSkill(SkillType.S_TECH_MECH);
+            && hasSkill(SkillType.ORD_TECH_MECH)) {
+            return getSkill(SkillType.ORD_TECH_MECH);
         }
-        if (unit.getEntity() instanceof BattleArmor && hasSkill(SkillType.S_TECH_BA)) {
-            return getSkill(SkillType.S_TECH_BA);
+        if (unit.getEntity() instanceof BattleArmor && hasSkill(SkillType.ORD_TECH_BA)) {
+            return getSkill(SkillType.ORD_TECH_BA);
         }
-        if (unit.getEntity() instanceof Tank && hasSkill(SkillType.S_TECH_MECHANIC)) {
-            return getSkill(SkillType.S_TECH_MECHANIC);
+        if (unit.getEntity() instanceof Tank && hasSkill(SkillType.ORD_TECH_MECHANIC)) {
+            return getSkill(SkillType.ORD_TECH_MECHANIC);
         }
         if ((unit.getEntity() instanceof Dropship || unit.getEntity() instanceof Jumpship)
-            && hasSkill(SkillType.S_TECH_VESSEL)) {
-            return getSkill(SkillType.S_TECH_VESSEL);
+            && hasSkill(SkillType.ORD_TECH_VESSEL)) {
+            return getSkill(SkillType.ORD_TECH_VESSEL);
         }
         if (unit.getEntity() instanceof Aero
             && !(unit.getEntity() instanceof Dropship)
             && !(unit.getEntity() instanceof Jumpship)
-            && hasSkill(SkillType.S_TECH_AERO)) {
-            return getSkill(SkillType.S_TECH_AERO);
+            && hasSkill(SkillType.ORD_TECH_AERO)) {
+            return getSkill(SkillType.ORD_TECH_AERO);
         }
         return null;
     }
@@ -3693,10 +3787,10 @@ public class Person implements Serializable, MekHqXmlSerializable {
 
     public int getBestTechLevel() {
         int lvl = -1;
-        Skill mechSkill = getSkill(SkillType.S_TECH_MECH);
-        Skill mechanicSkill = getSkill(SkillType.S_TECH_MECHANIC);
-        Skill baSkill = getSkill(SkillType.S_TECH_BA);
-        Skill aeroSkill = getSkill(SkillType.S_TECH_AERO);
+        Skill mechSkill = getSkill(SkillType.ORD_TECH_MECH);
+        Skill mechanicSkill = getSkill(SkillType.ORD_TECH_MECHANIC);
+        Skill baSkill = getSkill(SkillType.ORD_TECH_BA);
+        Skill aeroSkill = getSkill(SkillType.ORD_TECH_AERO);
         if (null != mechSkill && mechSkill.getLevel() > lvl) {
             lvl = mechSkill.getLevel();
         }
@@ -3715,26 +3809,26 @@ public class Person implements Serializable, MekHqXmlSerializable {
     public boolean isRightTechTypeFor(IPartWork part) {
         Unit unit = part.getUnit();
         if (null == unit) {
-            return (hasSkill(SkillType.S_TECH_MECH) && part.isRightTechType(SkillType.S_TECH_MECH))
-                    || (hasSkill(SkillType.S_TECH_AERO) && part.isRightTechType(SkillType.S_TECH_AERO))
-                    || (hasSkill(SkillType.S_TECH_MECHANIC) && part.isRightTechType(SkillType.S_TECH_MECHANIC))
-                    || (hasSkill(SkillType.S_TECH_BA) && part.isRightTechType(SkillType.S_TECH_BA))
-                    || (hasSkill(SkillType.S_TECH_VESSEL) && part.isRightTechType(SkillType.S_TECH_VESSEL));
+            return (hasSkill(SkillType.ORD_TECH_MECH) && part.isRightTechType(SkillType.S_TECH_MECH))
+                    || (hasSkill(SkillType.ORD_TECH_AERO) && part.isRightTechType(SkillType.S_TECH_AERO))
+                    || (hasSkill(SkillType.ORD_TECH_MECHANIC) && part.isRightTechType(SkillType.S_TECH_MECHANIC))
+                    || (hasSkill(SkillType.ORD_TECH_BA) && part.isRightTechType(SkillType.S_TECH_BA))
+                    || (hasSkill(SkillType.ORD_TECH_VESSEL) && part.isRightTechType(SkillType.S_TECH_VESSEL));
         }
         if (unit.getEntity() instanceof Mech || unit.getEntity() instanceof Protomech) {
-            return hasSkill(SkillType.S_TECH_MECH);
+            return hasSkill(SkillType.ORD_TECH_MECH);
         }
         if (unit.getEntity() instanceof BattleArmor) {
-            return hasSkill(SkillType.S_TECH_BA);
+            return hasSkill(SkillType.ORD_TECH_BA);
         }
         if (unit.getEntity() instanceof Tank || unit.getEntity() instanceof Infantry) {
-            return hasSkill(SkillType.S_TECH_MECHANIC);
+            return hasSkill(SkillType.ORD_TECH_MECHANIC);
         }
         if (unit.getEntity() instanceof Dropship || unit.getEntity() instanceof Jumpship) {
-            return hasSkill(SkillType.S_TECH_VESSEL);
+            return hasSkill(SkillType.ORD_TECH_VESSEL);
         }
         if (unit.getEntity() instanceof Aero) {
-            return hasSkill(SkillType.S_TECH_AERO);
+            return hasSkill(SkillType.ORD_TECH_AERO);
         }
         return false;
     }
@@ -3744,7 +3838,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
     }
 
     public boolean isDoctor() {
-        return hasSkill(SkillType.S_DOCTOR) && (primaryRole == T_DOCTOR || secondaryRole == T_DOCTOR);
+        return hasSkill(SkillType.ORD_DOCTOR) && (primaryRole == T_DOCTOR || secondaryRole == T_DOCTOR);
     }
 
     public int getToughness() {
@@ -3779,13 +3873,11 @@ public class Person implements Serializable, MekHqXmlSerializable {
     }
 
     public List<LogEntry> getPersonnelLog() {
-        personnelLog.sort(Comparator.comparing(LogEntry::getDate));
-        return personnelLog;
+        return personnelLog.getEntries();
     }
 
     public List<LogEntry> getMissionLog() {
-        missionLog.sort(Comparator.comparing(LogEntry::getDate));
-        return missionLog;
+        return missionLog.getEntries();
     }
 
     public void addLogEntry(LogEntry entry) {
@@ -4105,7 +4197,11 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @param id is the new ancestor id for the current person
      */
     public void setAncestorsId(UUID id) {
+        UUID oldId = ancestorsId;
         ancestorsId = id;
+        if ((campaign != null) && (getId() != null) && (campaign.getPerson(getId()) == this)) {
+            campaign.getFamilyGraph().changeAncestors(getId(), oldId, id);
+        }
     }
 
     /**
@@ -4114,6 +4210,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
      */
     public void setSpouseId(UUID spouse) {
         this.spouse = spouse;
+        updateMarriageMarket();
     }
 
     /**
@@ -4156,14 +4253,7 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @return true if the person has at least one kid, false otherwise
      */
     public boolean hasChildren() {
-        if (getId() != null) {
-            for (Ancestors a : campaign.getAncestors()) {
-                if (getId().equals(a.getMotherId()) || getId().equals(a.getFatherId())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return !campaign.getFamilyGraph().getAncestorsOfParent(getId()).isEmpty();
     }
 
     /**
@@ -4171,15 +4261,9 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @return true if the person has at least one grandchild, false otherwise
      */
     public boolean hasGrandchildren() {
-        for (Ancestors a : campaign.getAncestors()) {
-            if (getId().equals(a.getMotherId()) || getId().equals(a.getFatherId())) {
-                for (Person p : campaign.getPersonnel()) {
-                    if (a.getId().equals(p.getAncestorsId())) {
-                        if (p.hasChildren()) {
-                            return true;
-                        }
-                    }
-                }
+        for (Person p : getChildren()) {
+            if (p.hasChildren()) {
+                return true;
             }
         }
         return false;
@@ -4356,20 +4440,23 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @return a list of Person objects for all children of the current person
      */
     public List<Person> getChildren() {
-        List<UUID> ancestors = new ArrayList<>();
-        for (Ancestors a : campaign.getAncestors()) {
-            if ((a != null) && (getId().equals(a.getMotherId()) || getId().equals(a.getFatherId()))) {
-                ancestors.add(a.getId());
-            }
-        }
+        return getChildrenOf(campaign.getFamilyGraph().getAncestorsOfParent(getId()));
+    }
 
+    /**
+     * @param ancestors the ids of ancestors entries
+     * @return the people in the campaign descended from those entries
+     */
+    private List<Person> getChildrenOf(Collection<UUID> ancestors) {
         List<Person> children = new ArrayList<>();
-        for (Person p : campaign.getPersonnel()) {
-            if (ancestors.contains(p.getAncestorsId())) {
-                children.add(p);
+        for (UUID ancestorsId : ancestors) {
+            for (UUID childId : campaign.getFamilyGraph().getChildren(ancestorsId)) {
+                Person child = campaign.getPerson(childId);
+                if (child != null) {
+                    children.add(child);
+                }
             }
         }
-
         return children;
     }
 
@@ -4377,16 +4464,12 @@ public class Person implements Serializable, MekHqXmlSerializable {
         List<Person> grandchildren = new ArrayList<>();
         List<Person> tempChildList;
 
-        for (Ancestors a : campaign.getAncestors()) {
-            if ((a != null) && (getId().equals(a.getMotherId()) || getId().equals(a.getFatherId()))) {
-                for (Person p : campaign.getPersonnel()) {
-                    if ((a.getId().equals(p.getAncestorsId())) && p.hasChildren()) {
-                        tempChildList = p.getChildren();
-                        //prevents duplicates, if anyone uses a small number of depth for their ancestry
-                        tempChildList.removeAll(grandchildren);
-                        grandchildren.addAll(tempChildList);
-                    }
-                }
+        for (Person p : getChildren()) {
+            if (p.hasChildren()) {
+                tempChildList = p.getChildren();
+                //prevents duplicates, if anyone uses a small number of depth for their ancestry
+                tempChildList.removeAll(grandchildren);
+                grandchildren.addAll(tempChildList);
             }
         }
 
@@ -4424,27 +4507,37 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @return a list of Person objects for all the siblings of the current person
      */
     public List<Person> getSiblings() {
-        List<UUID> parents = new ArrayList<>();
-        List<Person> siblings = new ArrayList<>();
+        List<Person> siblings = getChildrenOf(getParentsAncestors());
+        siblings.removeIf(p -> p.getId().equals(getId()));
+        return siblings;
+    }
+
+    /**
+     * @return the ids of the ancestors entries with this person's father as the father or this
+     *         person's mother as the mother
+     */
+    private Set<UUID> getParentsAncestors() {
+        Set<UUID> parents = new LinkedHashSet<>();
         Person father = getFather();
         Person mother = getMother();
 
-        for (Ancestors a : campaign.getAncestors()) {
-            if ((a != null)
-                    && (((father != null) && father.getId().equals(a.getFatherId()))
-                        || ((mother != null) && mother.getId().equals(a.getMotherId())))) {
-
-                parents.add(a.getId());
+        if (father != null) {
+            for (UUID ancestorsId : campaign.getFamilyGraph().getAncestorsOfParent(father.getId())) {
+                Ancestors a = campaign.getAncestors(ancestorsId);
+                if ((a != null) && father.getId().equals(a.getFatherId())) {
+                    parents.add(ancestorsId);
+                }
             }
         }
-
-        for (Person p : campaign.getPersonnel()) {
-            if (parents.contains(p.getAncestorsId()) && !(p.getId().equals(getId()))) {
-                siblings.add(p);
+        if (mother != null) {
+            for (UUID ancestorsId : campaign.getFamilyGraph().getAncestorsOfParent(mother.getId())) {
+                Ancestors a = campaign.getAncestors(ancestorsId);
+                if ((a != null) && mother.getId().equals(a.getMotherId())) {
+                    parents.add(ancestorsId);
+                }
             }
         }
-
-        return siblings;
+        return parents;
     }
 
     /**
@@ -4452,27 +4545,12 @@ public class Person implements Serializable, MekHqXmlSerializable {
      * @return a list of the person's siblings with spouses (if any
      */
     public List<Person> getSiblingsAndSpouses(){
-        List<UUID> parents = new ArrayList<>();
         List<Person> siblingsAndSpouses = new ArrayList<>();
 
-        Person father = getFather();
-        Person mother = getMother();
-
-        for (Ancestors a : campaign.getAncestors()) {
-            if ((a != null)
-                    && (((father != null) && father.getId().equals(a.getFatherId()))
-                        || ((mother != null) && mother.getId().equals(a.getMotherId())))) {
-
-                parents.add(a.getId());
-            }
-        }
-
-        for (Person p : campaign.getPersonnel()) {
-            if (parents.contains(p.getAncestorsId()) && !(p.getId().equals(getId()))) {
-                siblingsAndSpouses.add(p);
-                if (p.hasSpouse()) {
-                    siblingsAndSpouses.add(campaign.getPerson(p.getSpouseId()));
-                }
+        for (Person p : getSiblings()) {
+            siblingsAndSpouses.add(p);
+            if (p.hasSpouse()) {
+                siblingsAndSpouses.add(campaign.getPerson(p.getSpouseId()));
             }
         }
 
@@ -24,14 +24,18 @@ package mekhq.campaign.personnel;
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import mekhq.campaign.finances.FinancialReport;
 import mekhq.campaign.finances.Money;
@@ -42,6 +46,7 @@ import org.w3c.dom.NodeList;
 
 import megamek.common.Compute;
 import megamek.common.TargetRoll;
+import megamek.common.event.Subscribe;
 import megamek.common.options.IOption;
 import megamek.common.options.PilotOptions;
 import mekhq.MekHQ;
@@ -49,8 +54,15 @@ import mekhq.MekHqXmlSerializable;
 import mekhq.MekHqXmlUtil;
 import mekhq.Utilities;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.event.DeploymentChangedEvent;
+import mekhq.campaign.event.MissionEvent;
+import mekhq.campaign.event.OptionsChangedEvent;
+import mekhq.campaign.event.OrganizationChangedEvent;
+import mekhq.campaign.event.PersonEvent;
+import mekhq.campaign.event.UnitEvent;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.Mission;
+import mekhq.campaign.unit.Unit;
 
 /**
  * @author Neoancient
@@ -77,6 +89,13 @@ public class RetirementDefectionTracker implements Serializable, MekHqXmlSeriali
     private HashMap<UUID, Payout> payouts;
     private GregorianCalendar lastRetirementRoll;
 
+    /* The target numbers from the last call to calculateTargetNumbers, until something they
+     * depend on changes
+     */
+    private transient Map<UUID, TargetRoll> cachedTargets;
+    private transient Integer cachedContractId;
+    private transient LocalDate cachedDate;
+
     public RetirementDefectionTracker() {
         rollRequired = new HashSet<>();
         unresolvedPersonnel = new HashMap<>();
@@ -126,84 +145,208 @@ public class RetirementDefectionTracker implements Serializable, MekHqXmlSeriali
      */
     public HashMap<UUID, TargetRoll> calculateTargetNumbers(AtBContract contract,
             Campaign campaign) {
-        HashMap <UUID, TargetRoll> targets = new HashMap<>();
-        int combatLeadershipMod = 0;
-        int supportLeadershipMod = 0;
-
         if (null != contract) {
             rollRequired.add(contract.getId());
         }
 
-        if (campaign.getCampaignOptions().getUseLeadership()) {
-            int combat = 0;
-            int proto = 0;
-            int support = 0;
-            for (Person p : campaign.getPersonnel()) {
-                if (!p.isActive() || p.getPrimaryRole() == Person.T_NONE ||
-                        p.isDependent() || p.isPrisoner() || p.isBondsman()) {
-                    continue;
-                }
-                if (p.getPrimaryRole() >= Person.T_MECH_TECH) {
-                    support++;
-                } else if (null == p.getUnitId() ||
-                        (null != campaign.getUnit(p.getUnitId()) && campaign.getUnit(p.getUnitId()).isCommander(p))) {
-                    /* The AtB rules do not state that crews count as a
-                     * single person for leadership purposes, but to do otherwise
-                     * would tax all but the most exceptional commanders of
-                     * vehicle or infantry units.
-                     */
-                    if (p.getPrimaryRole() == Person.T_PROTO_PILOT) {
-                        proto++;
-                    } else {
-                        combat++;
+        Map<UUID, TargetRoll> targets = getCachedTargets(contract, campaign);
+        if (null == targets) {
+            final RetirementContext context = new RetirementContext(contract, campaign);
+            targets = campaign.getPersonnel().parallelStream()
+                    .filter(p -> context.isEligible(p, campaign))
+                    .collect(Collectors.toMap(Person::getId, p -> context.getTargetRoll(p, campaign)));
+            cacheTargets(contract, campaign, targets);
+        }
+
+        // The dialog adds its own modifiers, so it gets copies of the cached rolls
+        HashMap<UUID, TargetRoll> retVal = new HashMap<>();
+        for (Map.Entry<UUID, TargetRoll> entry : targets.entrySet()) {
+            TargetRoll target = new TargetRoll();
+            target.append(entry.getValue());
+            retVal.put(entry.getKey(), target);
+        }
+        return retVal;
+    }
+
+    private synchronized Map<UUID, TargetRoll> getCachedTargets(AtBContract contract, Campaign campaign) {
+        if ((null == cachedTargets)
+                || !Objects.equals(cachedContractId, (null == contract) ? null : contract.getId())
+                || !campaign.getLocalDate().equals(cachedDate)) {
+            return null;
+        }
+        return cachedTargets;
+    }
+
+    private synchronized void cacheTargets(AtBContract contract, Campaign campaign, Map<UUID, TargetRoll> targets) {
+        cachedTargets = targets;
+        cachedContractId = (null == contract) ? null : contract.getId();
+        cachedDate = campaign.getLocalDate();
+    }
+
+    /**
+     * Drops the cached target numbers, so the next call to
+     * {@link #calculateTargetNumbers(AtBContract, Campaign)} works them out again.
+     */
+    public synchronized void invalidateTargetNumbers() {
+        cachedTargets = null;
+    }
+
+    @Subscribe
+    public void handle(PersonEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    @Subscribe
+    public void handle(UnitEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    @Subscribe
+    public void handle(MissionEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    @Subscribe
+    public void handle(OrganizationChangedEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    @Subscribe
+    public void handle(DeploymentChangedEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    @Subscribe
+    public void handle(OptionsChangedEvent ev) {
+        invalidateTargetNumbers();
+    }
+
+    /**
+     * The parts of the retirement target numbers that are the same for everyone in the
+     * campaign, worked out once before the personnel are evaluated.
+     */
+    private static class RetirementContext {
+        private final boolean foundersNeverRetire;
+        private final int unitRatingMod;
+        private final boolean failedMission;
+        private final int fatigueMod;
+        private final boolean pirate;
+        private final boolean useSharesMod;
+        private final int sharesMod;
+        private final int combatLeadershipMod;
+        private final int supportLeadershipMod;
+        private final LocalDate today;
+
+        private RetirementContext(AtBContract contract, Campaign campaign) {
+            foundersNeverRetire = campaign.getCampaignOptions().getFoundersNeverRetire();
+            unitRatingMod = campaign.getUnitRatingMod();
+            /* Retirement rolls are made before the contract status is set */
+            failedMission = (null != contract) && ((contract.getStatus() == Mission.S_FAILED)
+                    || (contract.getStatus() == Mission.S_BREACH));
+            fatigueMod = (campaign.getCampaignOptions().getTrackUnitFatigue()
+                    && (campaign.getFatigueLevel() >= 10)) ? campaign.getFatigueLevel() / 10 : 0;
+            pirate = campaign.getFactionCode().equals("PIR");
+            today = campaign.getLocalDate();
+
+            boolean useShares = false;
+            int shares = 0;
+            if (campaign.getCampaignOptions().getUseShareSystem()) {
+                /* If this retirement roll is not being made at the end
+                 * of a contract (e.g. >12 months since last roll), the
+                 * share percentage should still apply. In the case of multiple
+                 * active contracts, pick the one with the best percentage.
+                 */
+                AtBContract c = contract;
+                if (null == c) {
+                    for (Mission m : campaign.getMissions()) {
+                        if (m.isActive() && m instanceof AtBContract &&
+                                (null == c || c.getSharesPct() < ((AtBContract)m).getSharesPct())) {
+                            c = (AtBContract)m;
+                        }
                     }
                 }
+                if (null != c && c.getSharesPct() > 20) {
+                    useShares = true;
+                    shares = -((c.getSharesPct() - 20) / 10);
+                }
+            } else {
+                //Bonus payments handled by dialog
             }
-            combat += proto / 5;
-            int max = 12;
-            if (null != campaign.getFlaggedCommander() &&
-                    null != campaign.getFlaggedCommander().getSkill(SkillType.S_LEADER)) {
-                max += 6 * campaign.getFlaggedCommander().getSkill(SkillType.S_LEADER).getLevel();
-            }
-            if (combat > 2 * max) {
-                combatLeadershipMod = 2;
-            } else if (combat > max) {
-                combatLeadershipMod = 1;
-            }
-            if (support > 2 * max) {
-                supportLeadershipMod = 2;
-            } else if (support > max) {
-                supportLeadershipMod = 1;
+            useSharesMod = useShares;
+            sharesMod = shares;
+
+            int combatLeadership = 0;
+            int supportLeadership = 0;
+            if (campaign.getCampaignOptions().getUseLeadership()) {
+                int combat = 0;
+                int proto = 0;
+                int support = 0;
+                for (Person p : campaign.getPersonnel()) {
+                    if (!p.isActive() || p.getPrimaryRole() == Person.T_NONE ||
+                            p.isDependent() || p.isPrisoner() || p.isBondsman()) {
+                        continue;
+                    }
+                    if (p.getPrimaryRole() >= Person.T_MECH_TECH) {
+                        support++;
+                    } else if (null == p.getUnitId() ||
+                            (null != campaign.getUnit(p.getUnitId()) && campaign.getUnit(p.getUnitId()).isCommander(p))) {
+                        /* The AtB rules do not state that crews count as a
+                         * single person for leadership purposes, but to do otherwise
+                         * would tax all but the most exceptional commanders of
+                         * vehicle or infantry units.
+                         */
+                        if (p.getPrimaryRole() == Person.T_PROTO_PILOT) {
+                            proto++;
+                        } else {
+                            combat++;
+                        }
+                    }
+                }
+                combat += proto / 5;
+                int max = 12;
+                if (null != campaign.getFlaggedCommander() &&
+                        null != campaign.getFlaggedCommander().getSkill(SkillType.S_LEADER)) {
+                    max += 6 * campaign.getFlaggedCommander().getSkill(SkillType.S_LEADER).getLevel();
+                }
+                if (combat > 2 * max) {
+                    combatLeadership = 2;
+                } else if (combat > max) {
+                    combatLeadership = 1;
+                }
+                if (support > 2 * max) {
+                    supportLeadership = 2;
+                } else if (support > max) {
+                    supportLeadership = 1;
+                }
             }
+            combatLeadershipMod = combatLeadership;
+            supportLeadershipMod = supportLeadership;
         }
 
-        for (Person p : campaign.getPersonnel()) {
+        private boolean isEligible(Person p, Campaign campaign) {
             if (!p.isActive() || p.isDependent()
                     || p.isPrisoner()
                     || p.isBondsman()
                     || p.isDeployed()
-                    || (p.isFounder() && campaign.getCampaignOptions().getFoundersNeverRetire())) {
-                continue;
+                    || (p.isFounder() && foundersNeverRetire)) {
+                return false;
             }
             /* Infantry units retire or defect by platoon */
-            if (null != p.getUnitId() && null != campaign.getUnit(p.getUnitId()) && campaign.getUnit(p.getUnitId()).usesSoldiers() &&
-                    !campaign.getUnit(p.getUnitId()).isCommander(p)) {
-                continue;
-            }
+            Unit unit = (null == p.getUnitId()) ? null : campaign.getUnit(p.getUnitId());
+            return (null == unit) || !unit.usesSoldiers() || unit.isCommander(p);
+        }
+
+        private TargetRoll getTargetRoll(Person p, Campaign campaign) {
             TargetRoll target = new TargetRoll(5, "Target");
-            target.addModifier(p.getExperienceLevel(false) - campaign.getUnitRatingMod(),
+            target.addModifier(p.getExperienceLevel(false) - unitRatingMod,
                     "Experience");
-            /* Retirement rolls are made before the contract status is set */
-            if (null != contract && (
-                    contract.getStatus() == Mission.S_FAILED ||
-                    contract.getStatus() == Mission.S_BREACH)) {
+            if (failedMission) {
                 target.addModifier(1, "Failed mission");
             }
-            if (campaign.getCampaignOptions().getTrackUnitFatigue()
-                    && campaign.getFatigueLevel() >= 10) {
-                target.addModifier(campaign.getFatigueLevel() / 10, "Fatigue");
+            if (fatigueMod != 0) {
+                target.addModifier(fatigueMod, "Fatigue");
             }
-            if (campaign.getFactionCode().equals("PIR")) {
+            if (pirate) {
                 target.addModifier(1, "Pirate");
             }
             if (p.getRank().isOfficer()) {
@@ -219,29 +362,11 @@ public class RetirementDefectionTracker implements Serializable, MekHqXmlSeriali
                     }
                 }
             }
-            if (p.getAge(campaign.getLocalDate()) >= 50) {
+            if (p.getAge(today) >= 50) {
                 target.addModifier(1, "Over 50");
             }
-            if (campaign.getCampaignOptions().getUseShareSystem()) {
-                /* If this retirement roll is not being made at the end
-                 * of a contract (e.g. >12 months since last roll), the
-                 * share percentage should still apply. In the case of multiple
-                 * active contracts, pick the one with the best percentage.
-                 */
-                AtBContract c = contract;
-                if (null == c) {
-                    for (Mission m : campaign.getMissions()) {
-                        if (m.isActive() && m instanceof AtBContract &&
-                                (null == c || c.getSharesPct() < ((AtBContract)m).getSharesPct())) {
-                            c = (AtBContract)m;
-                        }
-                    }
-                }
-                if (null != c && c.getSharesPct() > 20) {
-                    target.addModifier(-((c.getSharesPct() - 20) / 10), "Shares");
-                }
-            } else {
-                //Bonus payments handled by dialog
+            if (useSharesMod) {
+                target.addModifier(sharesMod, "Shares");
             }
             if (p.getPrimaryRole() == Person.T_INFANTRY) {
                 target.addModifier(-1, "Infantry");
@@ -261,10 +386,8 @@ public class RetirementDefectionTracker implements Serializable, MekHqXmlSeriali
             if (supportLeadershipMod != 0 && p.getPrimaryRole() >= Person.T_MECH_TECH) {
                 target.addModifier(supportLeadershipMod, "Leadership");
             }
-
-            targets.put(p.getId(), target);
+            return target;
         }
-        return targets;
     }
 
     /**
@@ -23,7 +23,10 @@ package mekhq.campaign.personnel;
 
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Node;
@@ -106,6 +109,53 @@ public class SkillType implements Serializable {
 
     public static Hashtable<String, SkillType> lookupHash;
 
+    /* skill name -> dense ordinal, assigned the first time each name is registered */
+    private static final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    /* ordinal -> skill name; replaced, never changed, when a name is registered */
+    private static volatile String[] namesByOrdinal = new String[0];
+    /* ordinal -> skill type; replaced, never changed, when a type is registered */
+    private static volatile SkillType[] typesByOrdinal = new SkillType[0];
+
+    static {
+        for (String name : skillList) {
+            registerOrdinal(name);
+        }
+    }
+
+    /* The ordinals of the skills in skillList, for looking skills up without hashing their names */
+    public static final int ORD_PILOT_MECH    = getOrdinal(S_PILOT_MECH);
+    public static final int ORD_PILOT_AERO    = getOrdinal(S_PILOT_AERO);
+    public static final int ORD_PILOT_JET     = getOrdinal(S_PILOT_JET);
+    public static final int ORD_PILOT_GVEE    = getOrdinal(S_PILOT_GVEE);
+    public static final int ORD_PILOT_VTOL    = getOrdinal(S_PILOT_VTOL);
+    public static final int ORD_PILOT_NVEE    = getOrdinal(S_PILOT_NVEE);
+    public static final int ORD_PILOT_SPACE   = getOrdinal(S_PILOT_SPACE);
+    public static final int ORD_GUN_MECH      = getOrdinal(S_GUN_MECH);
+    public static final int ORD_GUN_AERO      = getOrdinal(S_GUN_AERO);
+    public static final int ORD_GUN_JET       = getOrdinal(S_GUN_JET);
+    public static final int ORD_GUN_VEE       = getOrdinal(S_GUN_VEE);
+    public static final int ORD_GUN_SPACE     = getOrdinal(S_GUN_SPACE);
+    public static final int ORD_GUN_BA        = getOrdinal(S_GUN_BA);
+    public static final int ORD_GUN_PROTO     = getOrdinal(S_GUN_PROTO);
+    public static final int ORD_ARTILLERY     = getOrdinal(S_ARTILLERY);
+    public static final int ORD_SMALL_ARMS    = getOrdinal(S_SMALL_ARMS);
+    public static final int ORD_ANTI_MECH     = getOrdinal(S_ANTI_MECH);
+    public static final int ORD_TACTICS       = getOrdinal(S_TACTICS);
+    public static final int ORD_TECH_MECH     = getOrdinal(S_TECH_MECH);
+    public static final int ORD_TECH_MECHANIC = getOrdinal(S_TECH_MECHANIC);
+    public static final int ORD_TECH_AERO     = getOrdinal(S_TECH_AERO);
+    public static final int ORD_TECH_BA       = getOrdinal(S_TECH_BA);
+    public static final int ORD_TECH_VESSEL   = getOrdinal(S_TECH_VESSEL);
+    public static final int ORD_ASTECH        = getOrdinal(S_ASTECH);
+    public static final int ORD_DOCTOR        = getOrdinal(S_DOCTOR);
+    public static final int ORD_MEDTECH       = getOrdinal(S_MEDTECH);
+    public static final int ORD_NAV           = getOrdinal(S_NAV);
+    public static final int ORD_ADMIN         = getOrdinal(S_ADMIN);
+    public static final int ORD_NEG           = getOrdinal(S_NEG);
+    public static final int ORD_LEADER        = getOrdinal(S_LEADER);
+    public static final int ORD_SCROUNGE      = getOrdinal(S_SCROUNGE);
+    public static final int ORD_STRATEGY      = getOrdinal(S_STRATEGY);
+
     public static final int SKILL_NONE = 0;
 
     public static final int EXP_ULTRA_GREEN = 0;
@@ -128,7 +178,7 @@ public class SkillType implements Serializable {
         //was created
         for(String name : skillList) {
             if(null != skills.get(name)) {
-                lookupHash.put(name, skills.get(name));
+                register(name, skills.get(name));
             }
         }
     }
@@ -141,6 +191,77 @@ public class SkillType implements Serializable {
         return skillList;
     }
 
+    /**
+     * Gets the ordinal of a skill name, assigning the next one if the name has not been seen before.
+     * The skills in {@link #skillList} have the ordinals matching their place in it.
+     * @param name The skill name.
+     * @return The ordinal of the skill name.
+     */
+    public static int registerOrdinal(String name) {
+        Integer ordinal = ordinals.get(name);
+        if (null != ordinal) {
+            return ordinal;
+        }
+        synchronized (SkillType.class) {
+            ordinal = ordinals.get(name);
+            if (null == ordinal) {
+                String[] names = Arrays.copyOf(namesByOrdinal, namesByOrdinal.length + 1);
+                ordinal = names.length - 1;
+                names[ordinal] = name;
+                namesByOrdinal = names;
+                ordinals.put(name, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
+    /**
+     * @param name The skill name.
+     * @return The ordinal of the skill name, or -1 if no skill has that name.
+     */
+    public static int getOrdinal(String name) {
+        Integer ordinal = (null == name) ? null : ordinals.get(name);
+        return (null == ordinal) ? -1 : ordinal;
+    }
+
+    /**
+     * @param ordinal A skill ordinal.
+     * @return The name of the skill with the ordinal, or null if there is none.
+     */
+    public static String getName(int ordinal) {
+        String[] names = namesByOrdinal;
+        return ((ordinal >= 0) && (ordinal < names.length)) ? names[ordinal] : null;
+    }
+
+    /**
+     * @return The number of ordinals assigned so far, which is one more than the highest ordinal.
+     */
+    public static int getOrdinalCount() {
+        return namesByOrdinal.length;
+    }
+
+    /**
+     * @param ordinal A skill ordinal.
+     * @return The skill type with the ordinal, or null if there is none.
+     */
+    public static SkillType getType(int ordinal) {
+        SkillType[] types = typesByOrdinal;
+        return ((ordinal >= 0) && (ordinal < types.length)) ? types[ordinal] : null;
+    }
+
+    private static synchronized void register(String name, SkillType type) {
+        lookupHash.put(name, type);
+        int ordinal = registerOrdinal(name);
+        SkillType[] types = typesByOrdinal;
+        if (ordinal >= types.length) {
+            types = Arrays.copyOf(types, getOrdinalCount());
+        } else {
+            types = types.clone();
+        }
+        types[ordinal] = type;
+        typesByOrdinal = types;
+    }
+
     /** Creates new SkillType */
     public SkillType() {
         greenLvl = 1;
@@ -154,6 +275,13 @@ public class SkillType implements Serializable {
         return name;
     }
 
+    /**
+     * @return The ordinal of this skill type's name.
+     */
+    public int getOrdinal() {
+        return registerOrdinal(name);
+    }
+
     public int getTarget() {
         return target;
     }
@@ -276,47 +404,50 @@ public class SkillType implements Serializable {
     }
 
     public static void initializeTypes() {
-        lookupHash = new Hashtable<String, SkillType>();
-        lookupHash.put(S_PILOT_MECH, createPilotingMech());
-        lookupHash.put(S_GUN_MECH, createGunneryMech());
-        lookupHash.put(S_PILOT_AERO, createPilotingAero());
-        lookupHash.put(S_GUN_AERO, createGunneryAero());
-        lookupHash.put(S_PILOT_JET, createPilotingJet());
-        lookupHash.put(S_GUN_JET, createGunneryJet());
-        lookupHash.put(S_PILOT_SPACE, createPilotingSpace());
-        lookupHash.put(S_GUN_SPACE, createGunnerySpace());
-        lookupHash.put(S_PILOT_GVEE, createPilotingGroundVee());
-        lookupHash.put(S_PILOT_NVEE, createPilotingNavalVee());
-        lookupHash.put(S_PILOT_VTOL, createPilotingVTOL());
-        lookupHash.put(S_GUN_VEE, createGunneryVehicle());
-        lookupHash.put(S_ARTILLERY, createArtillery());
-        lookupHash.put(S_GUN_BA, createGunneryBA());
-        lookupHash.put(S_GUN_PROTO, createGunneryProto());
-        lookupHash.put(S_SMALL_ARMS, createSmallArms());
-        lookupHash.put(S_ANTI_MECH, createAntiMech());
-        lookupHash.put(S_TECH_MECH, createTechMech());
-        lookupHash.put(S_TECH_MECHANIC, createTechMechanic());
-        lookupHash.put(S_TECH_AERO, createTechAero());
-        lookupHash.put(S_TECH_BA, createTechBA());
-        lookupHash.put(S_TECH_VESSEL, createTechVessel());
-        lookupHash.put(S_ASTECH, createAstech());
-        lookupHash.put(S_DOCTOR, createDoctor());
-        lookupHash.put(S_MEDTECH, createMedtech());
-        lookupHash.put(S_NAV, createNav());
-        lookupHash.put(S_TACTICS, createTactics());
-        lookupHash.put(S_STRATEGY, createStrategy());
-        lookupHash.put(S_ADMIN, createAdmin());
-        lookupHash.put(S_LEADER, createLeadership());
-        lookupHash.put(S_NEG, createNegotiation());
-        lookupHash.put(S_SCROUNGE, createScrounge());
+        synchronized (SkillType.class) {
+            lookupHash = new Hashtable<String, SkillType>();
+            typesByOrdinal = new SkillType[getOrdinalCount()];
+        }
+        register(S_PILOT_MECH, createPilotingMech());
+        register(S_GUN_MECH, createGunneryMech());
+        register(S_PILOT_AERO, createPilotingAero());
+        register(S_GUN_AERO, createGunneryAero());
+        register(S_PILOT_JET, createPilotingJet());
+        register(S_GUN_JET, createGunneryJet());
+        register(S_PILOT_SPACE, createPilotingSpace());
+        register(S_GUN_SPACE, createGunnerySpace());
+        register(S_PILOT_GVEE, createPilotingGroundVee());
+        register(S_PILOT_NVEE, createPilotingNavalVee());
+        register(S_PILOT_VTOL, createPilotingVTOL());
+        register(S_GUN_VEE, createGunneryVehicle());
+        register(S_ARTILLERY, createArtillery());
+        register(S_GUN_BA, createGunneryBA());
+        register(S_GUN_PROTO, createGunneryProto());
+        register(S_SMALL_ARMS, createSmallArms());
+        register(S_ANTI_MECH, createAntiMech());
+        register(S_TECH_MECH, createTechMech());
+        register(S_TECH_MECHANIC, createTechMechanic());
+        register(S_TECH_AERO, createTechAero());
+        register(S_TECH_BA, createTechBA());
+        register(S_TECH_VESSEL, createTechVessel());
+        register(S_ASTECH, createAstech());
+        register(S_DOCTOR, createDoctor());
+        register(S_MEDTECH, createMedtech());
+        register(S_NAV, createNav());
+        register(S_TACTICS, createTactics());
+        register(S_STRATEGY, createStrategy());
+        register(S_ADMIN, createAdmin());
+        register(S_LEADER, createLeadership());
+        register(S_NEG, createNegotiation());
+        register(S_SCROUNGE, createScrounge());
     }
 
     public static SkillType getType(String t) {
         //legacy check for typo in earlier version
         if(t.equalsIgnoreCase("administation")) {
-            return lookupHash.get(S_ADMIN);
+            return getType(getOrdinal(S_ADMIN));
         }
-        return lookupHash.get(t);
+        return getType(getOrdinal(t));
     }
 
     public static String getExperienceLevelName(int level) {
@@ -494,7 +625,7 @@ public class SkillType implements Serializable {
                     retVal.target = 10;
                 }
             }
-            lookupHash.put(retVal.name, retVal);
+            register(retVal.name, retVal);
         } catch (Exception ex) {
             // Errrr, apparently either the class name was invalid...
             // Or the listed name doesn't exist.
@@ -18,31 +18,49 @@
  */
 package mekhq.campaign.personnel;
 
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import megamek.common.annotations.Nullable;
 
 /**
- * Tracks skills for a {@link Person}.
+ * Tracks skills for a {@link Person}. The skills are kept in an array indexed by
+ * {@link SkillType#getOrdinal(String) skill ordinal}, so looking a skill up by ordinal does not
+ * need any hashing.
  */
 public class Skills {
-    private final Map<String, Skill> skills = new HashMap<>();
+    private Skill[] skills = new Skill[SkillType.getOrdinalCount()];
+    private int size = 0;
+    private final Collection<String> skillNames = new SkillsView<String>() {
+        @Override
+        protected String get(int ordinal) {
+            return SkillType.getName(ordinal);
+        }
+    };
+    private final Collection<Skill> skillValues = new SkillsView<Skill>() {
+        @Override
+        protected Skill get(int ordinal) {
+            return skills[ordinal];
+        }
+    };
 
     /**
      * Gets the number of skills.
      * @return The number of skills.
      */
     public int size() {
-        return skills.size();
+        return size;
     }
 
     /**
      * Removes all of the skills.
      */
     public void clear() {
-        skills.clear();
+        Arrays.fill(skills, null);
+        size = 0;
     }
 
     /**
@@ -51,7 +69,16 @@ public class Skills {
      * @return True if and only if the skill is active.
      */
     public boolean hasSkill(String name) {
-        return skills.containsKey(name);
+        return null != getSkill(name);
+    }
+
+    /**
+     * Gets a value indicating if a certain skill is possessed.
+     * @param ordinal The ordinal of the skill.
+     * @return True if and only if the skill is active.
+     */
+    public boolean hasSkill(int ordinal) {
+        return null != getSkill(ordinal);
     }
 
     /**
@@ -61,7 +88,17 @@ public class Skills {
      */
     @Nullable
     public Skill getSkill(String name) {
-        return skills.get(name);
+        return getSkill(SkillType.getOrdinal(name));
+    }
+
+    /**
+     * Gets a {@link Skill} by ordinal.
+     * @param ordinal The ordinal of the skill.
+     * @return The {@link Skill}, if one exists, otherwise null.
+     */
+    @Nullable
+    public Skill getSkill(int ordinal) {
+        return ((ordinal >= 0) && (ordinal < skills.length)) ? skills[ordinal] : null;
     }
 
     /**
@@ -70,7 +107,14 @@ public class Skills {
      * @param skill The {@link Skill} to track.
      */
     public void addSkill(String name, Skill skill) {
-        skills.put(name, skill);
+        int ordinal = SkillType.registerOrdinal(name);
+        if (ordinal >= skills.length) {
+            skills = Arrays.copyOf(skills, SkillType.getOrdinalCount());
+        }
+        if (null == skills[ordinal]) {
+            size++;
+        }
+        skills[ordinal] = skill;
     }
 
     /**
@@ -79,15 +123,21 @@ public class Skills {
      * @return True if the skill was removed, otherwise false.
      */
     public boolean removeSkill(String name) {
-        return skills.remove(name) != null;
+        int ordinal = SkillType.getOrdinal(name);
+        if (null == getSkill(ordinal)) {
+            return false;
+        }
+        skills[ordinal] = null;
+        size--;
+        return true;
     }
 
     /**
      * Gets a collection of skill names.
      * @return A collection of skill names.
      */
-	public Collection<String> getSkillNames() {
-		return skills.keySet();
+    public Collection<String> getSkillNames() {
+        return skillNames;
     }
 
     /**
@@ -95,6 +145,50 @@ public class Skills {
      * @return A collection of {@link Skill} objects.
      */
     public Collection<Skill> getSkills() {
-        return skills.values();
+        return skillValues;
+    }
+
+    /**
+     * A read-only view of the skills, or their names, in ordinal order. Like the views of a map,
+     * it reflects later changes, and skills added or removed while iterating do not break the
+     * iteration.
+     */
+    private abstract class SkillsView<T> extends AbstractCollection<T> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int next = findFrom(0);
+
+                private int findFrom(int ordinal) {
+                    while ((ordinal < skills.length) && (null == skills[ordinal])) {
+                        ordinal++;
+                    }
+                    return ordinal;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < skills.length;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T value = get(next);
+                    next = findFrom(next + 1);
+                    return value;
+                }
+            };
+        }
+
+        /** @return the value for the skill with the ordinal */
+        protected abstract T get(int ordinal);
     }
 }
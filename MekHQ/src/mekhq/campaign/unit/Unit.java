@@ -4512,6 +4512,9 @@ public class Unit implements MekHqXmlSerializable, ITechnology {
             //start maintenance cycle over again
             resetDaysSinceMaintenance();
         }
+        if (null != getCampaign()) {
+            getCampaign().getMaintenanceSchedule().unschedule(getId());
+        }
     }
 
     /**
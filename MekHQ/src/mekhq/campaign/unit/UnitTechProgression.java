@@ -13,11 +13,30 @@
  */
 package mekhq.campaign.unit;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import megamek.common.Entity;
 import megamek.common.ITechnology;
@@ -27,6 +46,8 @@ import megamek.common.MechSummaryCache;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.logging.LogLevel;
 import mekhq.MekHQ;
+import mekhq.StartupTasks;
+import mekhq.io.AllowedClassesInputStream;
 
 /**
  * Provides an ITechnology interface for every MechSummary, optionally customized for a particular
@@ -34,17 +55,48 @@ import mekhq.MekHQ;
  * runs once when the campaign is loaded after the faction is set but also needs to run if date from
  * another faction is needed. This is usually a result of changing the faction or changing the option
  * to use faction-specific tech, but the data can be calculated for multiple factions and used, for example,
- * for a tracked OpFor. The calculation is performed on a separate thread and only blocks if the data is
- * needed before the task completes. There is also a non-blocking call.
+ * for a tracked OpFor. The calculation is split across a pool of its own, so it does not hold up the startup
+ * loaders, and only blocks if the data is needed before the task completes. There is also a non-blocking call.
+ *
+ * The data of the most recently used factions is kept. Tasks are never cancelled, since other threads may
+ * be waiting for them; a faction is only dropped once its task is done. If the {@link #PERSIST_PROPERTY} system property is set, the data is also saved to
+ * the user's cache directory and reused by later runs as long as the unit cache has not changed. Only the classes the
+ * data is made of are read back from the saved file.
  *
  * @author Neoancient
  *
  */
 public class UnitTechProgression {
 
+    /** Set this system property to <code>true</code> to keep the calculated data between runs */
+    public static final String PERSIST_PROPERTY = "mekhq.persistTechProgression"; //$NON-NLS-1$
+
+    /* The number of factions whose data is kept at the same time */
+    private static final int MAX_FACTIONS = 4;
+    /* The number of entities each part of the calculation loads */
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final String UNIT_CACHE_DIR = "data/mechfiles"; //$NON-NLS-1$
+    private static final String UNIT_CACHE_FILE = "units.cache"; //$NON-NLS-1$
+    /* The classes the saved data is made of */
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            "java.lang.Boolean", "java.lang.Enum", "java.lang.Integer", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "java.lang.Number", "java.lang.String", //$NON-NLS-1$ //$NON-NLS-2$
+            "java.util.ArrayList", "java.util.HashMap", //$NON-NLS-1$ //$NON-NLS-2$
+            "megamek.common.SimpleTechLevel")); //$NON-NLS-1$
+    /* CompositeTechLevel and its nested classes */
+    private static final String[] ALLOWED_PREFIXES = {
+            "megamek.common.CompositeTechLevel" //$NON-NLS-1$
+    };
+    /* Increase whenever the format of the saved data changes */
+    private static final int CACHE_VERSION = 1;
+
     private final static UnitTechProgression instance = new UnitTechProgression();
 
-    private Map<Integer, FutureTask<Map<MechSummary,ITechnology>>> techMap = new HashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), StartupTasks.daemonThreads("Tech Progression")); //$NON-NLS-1$
+
+    /* in access order, so the least recently used faction is dropped first */
+    private final Map<Integer, FactionTask> techMap = new LinkedHashMap<>(16, 0.75f, true);
 
     /**
      * Initializes the data for a particular faction
@@ -54,20 +106,36 @@ public class UnitTechProgression {
     }
 
     /**
-     * Find the FutureTask associated with a particular faction. If no data has been generated for the
-     * faction, start a thread to do so.
+     * Find the task associated with a particular faction. If no data has been generated for the
+     * faction, start calculating it.
      *
      * @param techFaction The faction for which to calculate progression data.
      * @return            The task responsible for calculating the data for the faction.
      */
-    private FutureTask<Map<MechSummary,ITechnology>> getTask(int techFaction) {
-        FutureTask<Map<MechSummary,ITechnology>> task = instance.techMap.get(techFaction);
-        if (null == task) {
-            task = new FutureTask<>(new BuildMapTask(techFaction));
-            new Thread(task).start();
-            instance.techMap.put(techFaction, task);
+    private FactionTask getTask(int techFaction) {
+        synchronized (techMap) {
+            FactionTask task = techMap.get(techFaction);
+            if (null == task) {
+                task = new FactionTask(techFaction);
+                techMap.put(techFaction, task);
+                dropUnusedFactions();
+            }
+            return task;
+        }
+    }
+
+    /**
+     * Drops the least recently used factions whose tasks are done until no more than
+     * {@link #MAX_FACTIONS} are kept. Factions still being calculated are kept, and dropped by a
+     * later call once they are done.
+     */
+    private void dropUnusedFactions() {
+        Iterator<FactionTask> iter = techMap.values().iterator();
+        while ((techMap.size() > MAX_FACTIONS) && iter.hasNext()) {
+            if (iter.next().future.isDone()) {
+                iter.remove();
+            }
         }
-        return task;
     }
 
     /**
@@ -105,18 +173,16 @@ public class UnitTechProgression {
      *                      block is false, or there was an exception processing the task, null is returned.
      */
     public static ITechnology getProgression(final MechSummary ms, final int techFaction, final boolean block) {
-        FutureTask<Map<MechSummary,ITechnology>> task = instance.getTask(techFaction);
-        if (!block && !task.isDone()) {
+        FactionTask task = instance.getTask(techFaction);
+        if (!block && !task.future.isDone()) {
             return null;
         }
         try {
-            Map<MechSummary,ITechnology> map = task.get();
-            if (!map.containsKey(ms)) {
-                map.put(ms, calcTechProgression(ms, techFaction));
-            }
-            return map.get(ms);
+            Map<MechSummary, Optional<ITechnology>> map = task.future.get();
+            return map.computeIfAbsent(ms, k -> Optional.ofNullable(calcTechProgression(k, techFaction)))
+                    .orElse(null);
         } catch (InterruptedException e) {
-            task.cancel(true);
+            Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
             MekHQ.getLogger().error(UnitTechProgression.class, "getProgression(MechSummary,int,boolean)", e);
         }
@@ -128,36 +194,114 @@ public class UnitTechProgression {
         try {
             Entity en = new MechFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
             if (null == en) {
-                MekHQ.getLogger().log(BuildMapTask.class, METHOD_NAME, LogLevel.ERROR, "Entity was null: " + ms.getName());
+                MekHQ.getLogger().log(FactionTask.class, METHOD_NAME, LogLevel.ERROR, "Entity was null: " + ms.getName());
                 return null;
             }
             return en.factionTechLevel(techFaction);
         } catch (EntityLoadingException ex) {
-            MekHQ.getLogger().log(BuildMapTask.class, METHOD_NAME, LogLevel.ERROR, "Exception loading entity " + ms.getName());
-            MekHQ.getLogger().error(BuildMapTask.class, METHOD_NAME, ex);
+            MekHQ.getLogger().log(FactionTask.class, METHOD_NAME, LogLevel.ERROR, "Exception loading entity " + ms.getName());
+            MekHQ.getLogger().error(FactionTask.class, METHOD_NAME, ex);
             return null;
         }
     }
 
     /**
      * Goes through all the entries in MechSummaryCache, loads them, and calculates the composite
-     * tech level of all the equipment and construction options for a specific faction.
+     * tech level of all the equipment and construction options for a specific faction. The entries
+     * are split into chunks that are calculated in parallel once the unit cache is loaded.
      */
-    private static class BuildMapTask implements Callable<Map<MechSummary,ITechnology>> {
-        private int techFaction;
+    private static class FactionTask {
+        private final int techFaction;
+        private final CompletableFuture<Map<MechSummary, Optional<ITechnology>>> future;
 
-        BuildMapTask(int techFaction) {
+        FactionTask(int techFaction) {
             this.techFaction = techFaction;
+            future = StartupTasks.getInstance().get(StartupTasks.UNITS)
+                    .thenApplyAsync(v -> MechSummaryCache.getInstance().getAllMechs(), EXECUTOR)
+                    .thenCompose(mechs -> {
+                        Map<MechSummary, Optional<ITechnology>> saved = readCache(mechs);
+                        return (null != saved) ? CompletableFuture.completedFuture(saved) : build(mechs);
+                    });
         }
 
-        // Load all the Entities in the MechSummaryCache and calculate the tech level for the given faction.
-        @Override
-        public Map<MechSummary, ITechnology> call() throws Exception {
-            Map<MechSummary,ITechnology> map = new HashMap<MechSummary,ITechnology>();
-            for (MechSummary ms : MechSummaryCache.getInstance().getAllMechs()) {
-                map.put(ms, calcTechProgression(ms, techFaction));
+        private CompletableFuture<Map<MechSummary, Optional<ITechnology>>> build(MechSummary[] mechs) {
+            final Map<MechSummary, Optional<ITechnology>> map = new ConcurrentHashMap<>(mechs.length);
+            final int chunkSize = Math.max(MIN_CHUNK_SIZE,
+                    mechs.length / (4 * Runtime.getRuntime().availableProcessors()) + 1);
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int start = 0; start < mechs.length; start += chunkSize) {
+                final int from = start;
+                final int to = Math.min(start + chunkSize, mechs.length);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = from; i < to; i++) {
+                        map.put(mechs[i], Optional.ofNullable(calcTechProgression(mechs[i], techFaction)));
+                    }
+                }, EXECUTOR));
             }
-            return map;
+            return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+                writeCache(map);
+                return map;
+            });
         }
-    };
+
+        private File getCacheFile() {
+            return new File(MekHQ.CACHE_DIRECTORY, "techprogression_" + techFaction + ".cache"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        /**
+         * @return the saved data, or <code>null</code> if it is not enabled, missing or out of date
+         */
+        @SuppressWarnings("unchecked")
+        private Map<MechSummary, Optional<ITechnology>> readCache(MechSummary[] mechs) {
+            File file = getCacheFile();
+            if (!Boolean.getBoolean(PERSIST_PROPERTY) || !file.isFile()) {
+                return null;
+            }
+            try (ObjectInputStream ois = new AllowedClassesInputStream(new BufferedInputStream(new FileInputStream(file)),
+                    ALLOWED_CLASSES, ALLOWED_PREFIXES)) {
+                if ((ois.readInt() != CACHE_VERSION)
+                        || (ois.readLong() != new File(UNIT_CACHE_DIR, UNIT_CACHE_FILE).lastModified())
+                        || (ois.readInt() != mechs.length)) {
+                    return null;
+                }
+                Map<String, ITechnology> saved = (Map<String, ITechnology>) ois.readObject();
+                Map<MechSummary, Optional<ITechnology>> map = new ConcurrentHashMap<>(mechs.length);
+                for (MechSummary ms : mechs) {
+                    if (!saved.containsKey(ms.getName())) {
+                        return null;
+                    }
+                    map.put(ms, Optional.ofNullable(saved.get(ms.getName())));
+                }
+                return map;
+            } catch (Exception e) {
+                MekHQ.getLogger().error(getClass(), "readCache(MechSummary[])", e); //$NON-NLS-1$
+                return null;
+            }
+        }
+
+        private void writeCache(Map<MechSummary, Optional<ITechnology>> map) {
+            if (!Boolean.getBoolean(PERSIST_PROPERTY)) {
+                return;
+            }
+            Map<String, ITechnology> saved = new HashMap<>();
+            map.forEach((ms, tech) -> saved.put(ms.getName(), tech.orElse(null)));
+            File file = getCacheFile();
+            File tempFile = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+            try {
+                Files.createDirectories(file.getParentFile().toPath());
+                try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                    oos.writeInt(CACHE_VERSION);
+                    oos.writeLong(new File(UNIT_CACHE_DIR, UNIT_CACHE_FILE).lastModified());
+                    oos.writeInt(map.size());
+                    oos.writeObject(saved);
+                }
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (Exception e) {
+                MekHQ.getLogger().error(getClass(), "writeCache(Map<MechSummary,Optional<ITechnology>>)", e); //$NON-NLS-1$
+                if (!tempFile.delete()) {
+                    tempFile.deleteOnExit();
+                }
+            }
+        }
+    }
 }
@@ -53,6 +53,12 @@ import mekhq.campaign.event.NewDayEvent;
  * Changes in campaign date or location will update automatically on each new campaign day if the instance
  * is registered with the event bus.
  *
+ * When only the date has changed, the recalculation is incremental: the systems with planetary events
+ * between the last calculated date and the new one are checked for a change of ownership, and only the
+ * borders of the factions that gained or lost a system are rebuilt. If the systems have been reloaded
+ * or their events changed since the last calculation, everything is rebuilt. The border systems between pairs of
+ * factions are calculated in parallel.
+ *
  * @author Neoancient
  *
  */
@@ -76,6 +82,14 @@ public class FactionBorderTracker {
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
     private volatile boolean invalid = true;
     private volatile boolean cancelTask = false;
+    private volatile boolean borderSizeChanged = false;
+
+    /* The systems in the region and their owners as of lastUpdate, or null if they need to be rebuilt */
+    private List<PlanetarySystem> regionSystems;
+    private Map<PlanetarySystem, Set<Faction>> systemOwners;
+    /* The systems instance and its event version the region and owners were taken from */
+    private Systems regionSource;
+    private int regionEventVersion;
 
     /**
      * Constructs a FactionBorderTracker with the default region of a 1000 ly radius around Terra.
@@ -387,6 +401,7 @@ public class FactionBorderTracker {
         } else {
             factionBorderSize.remove(faction);
         }
+        borderSizeChanged = true;
     }
 
     /**
@@ -402,6 +417,7 @@ public class FactionBorderTracker {
         isBorderSize = is;
         peripheryBorderSize = periphery;
         clanBorderSize = clan;
+        borderSizeChanged = true;
     }
 
     /**
@@ -419,57 +435,76 @@ public class FactionBorderTracker {
      * @return A collection of all available planets.
      */
     protected Collection<PlanetarySystem> getSystemList() {
-        return Systems.getInstance().getSystems().values();
+        return getSystems().getSystems().values();
+    }
+
+    /**
+     * Allows a child class to provide its own source of planets. The borders are rebuilt in full
+     * whenever the instance returned or its event version changes.
+     *
+     * @return The systems the planets are taken from.
+     */
+    protected Systems getSystems() {
+        return Systems.getInstance();
     }
 
     /**
      * The task that checks all planets within the region and notes which are controlled by which factions
-     * and which are within a certain distance of another faction's systems.
+     * and which are within a certain distance of another faction's systems. If the region is the same as
+     * the last completed calculation only the factions whose systems changed hands are updated.
      */
     private synchronized void rebuildBorderData() {
         cancelTask = false;
+        // Cleared until the update completes, so a canceled or failed update is followed by a full one
+        List<PlanetarySystem> lastRegion = regionSystems;
+        Map<PlanetarySystem, Set<Faction>> owners = systemOwners;
+        regionSystems = null;
+        systemOwners = null;
         try {
+            // Taken before the systems are read, so a change made while reading them is picked up
+            // by the next update
+            final Systems source = getSystems();
+            final int eventVersion = source.getEventVersion();
             List<PlanetarySystem> systemList = new ArrayList<>();
-            Set<Faction> factionSet = new HashSet<>();
-            Set<Faction> oldFactions = new HashSet<>(borders.keySet());
             for (PlanetarySystem system : getSystemList()) {
                 if ((regionHex.radius < 0)
                         || regionHex.contains(system.getX(), system.getY())) {
                     systemList.add(system);
-                    factionSet.addAll(system.getFactionSet(now));
                 }
                 if (cancelTask) {
                     return;
                 }
             }
-            for (Faction f : factionSet) {
-                borders.put(f, new FactionBorders(f, now, systemList));
-                oldFactions.remove(f);
-            }
-            for (Faction f : oldFactions) {
-                borders.remove(f);
-                borderSystems.remove(f);
+            final boolean allPairs = borderSizeChanged;
+            borderSizeChanged = false;
+
+            Set<Faction> changed;
+            // Systems are equal by id, so a reloaded system would match the one it replaces
+            if ((null != owners) && (source == regionSource) && (eventVersion == regionEventVersion)
+                    && systemList.equals(lastRegion)) {
+                changed = updateSystemOwners(systemList, owners);
+                updateBorders(changed, systemList);
+            } else {
+                owners = new HashMap<>();
+                changed = new HashSet<>();
+                for (PlanetarySystem system : systemList) {
+                    Set<Faction> factions = system.getFactionSet(now);
+                    owners.put(system, factions);
+                    changed.addAll(factions);
+                }
+                rebuildBorders(changed, systemList);
             }
             if (cancelTask) {
                 return;
             }
-            for (Faction us : factionSet) {
-                Map<Faction, List<PlanetarySystem>> borderMap = new HashMap<>();
-                for (Faction them : factionSet) {
-                    if (!us.equals(them)) {
-                        double borderSize = Math.max(getBorderSize(us), getBorderSize(them));
-                        List<PlanetarySystem> systems = borders.get(us).getBorderSystems(borders.get(them), borderSize);
-                        borderMap.put(them, systems);
-                    }
-                }
-                borderSystems.put(us, borderMap);
-                if (cancelTask) {
-                    return;
-                }
-            }
+            updateBorderSystems(changed, allPairs);
             if (cancelTask) {
                 return;
             }
+            regionSystems = systemList;
+            systemOwners = owners;
+            regionSource = source;
+            regionEventVersion = eventVersion;
             lastUpdate = now;
         } catch (Exception ex) {
             MekHQ.getLogger().error(getClass(), "recalculate()", ex.getMessage());
@@ -479,6 +514,96 @@ public class FactionBorderTracker {
         }
     }
 
+    /**
+     * Updates the owners of the systems with planetary events between the date of the last calculation
+     * and the current date.
+     *
+     * @param systemList The systems in the region
+     * @param owners     The owners of each system as of the last calculation, updated to the current date
+     * @return           The factions that have gained or lost a system
+     */
+    private Set<Faction> updateSystemOwners(List<PlanetarySystem> systemList,
+            Map<PlanetarySystem, Set<Faction>> owners) {
+        final DateTime from = lastUpdate.isBefore(now) ? lastUpdate : now;
+        final DateTime to = lastUpdate.isBefore(now) ? now : lastUpdate;
+        Set<Faction> changed = new HashSet<>();
+        for (PlanetarySystem system : systemList) {
+            DateTime next = system.getNextEventDate(from);
+            if ((null == next) || next.isAfter(to)) {
+                continue;
+            }
+            Set<Faction> factions = system.getFactionSet(now);
+            Set<Faction> previous = owners.put(system, factions);
+            if (!factions.equals(previous)) {
+                changed.addAll(factions);
+                if (null != previous) {
+                    changed.addAll(previous);
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces the borders of all factions with those of the factions present in the region.
+     */
+    private void rebuildBorders(Set<Faction> factionSet, List<PlanetarySystem> systemList) {
+        Set<Faction> oldFactions = new HashSet<>(borders.keySet());
+        for (Faction f : factionSet) {
+            borders.put(f, new FactionBorders(f, now, systemList));
+            oldFactions.remove(f);
+        }
+        for (Faction f : oldFactions) {
+            borders.remove(f);
+            borderSystems.remove(f);
+        }
+    }
+
+    /**
+     * Rebuilds the borders of the factions that have gained or lost a system, dropping those that no
+     * longer control any system in the region.
+     */
+    private void updateBorders(Set<Faction> changed, List<PlanetarySystem> systemList) {
+        for (Faction f : changed) {
+            FactionBorders factionBorders = new FactionBorders(f, now, systemList);
+            if (factionBorders.getSystems().isEmpty()) {
+                borders.remove(f);
+                borderSystems.remove(f);
+            } else {
+                borders.put(f, factionBorders);
+            }
+        }
+    }
+
+    /**
+     * Calculates the border systems between each pair of factions that includes a changed faction,
+     * working on the faction pairs in parallel.
+     *
+     * @param changed  The factions whose borders have been rebuilt
+     * @param allPairs Whether to recalculate all pairs rather than just those including a changed faction
+     */
+    private void updateBorderSystems(Set<Faction> changed, boolean allPairs) {
+        final List<Faction> factions = new ArrayList<>(borders.keySet());
+        factions.parallelStream().forEach(us -> {
+            if (cancelTask) {
+                return;
+            }
+            final boolean allOfUs = allPairs || changed.contains(us);
+            Map<Faction, List<PlanetarySystem>> borderMap = new HashMap<>();
+            if (!allOfUs && borderSystems.containsKey(us)) {
+                borderMap.putAll(borderSystems.get(us));
+                borderMap.keySet().retainAll(factions);
+            }
+            for (Faction them : factions) {
+                if (!us.equals(them) && (allOfUs || changed.contains(them))) {
+                    double borderSize = Math.max(getBorderSize(us), getBorderSize(them));
+                    borderMap.put(them, borders.get(us).getBorderSystems(borders.get(them), borderSize));
+                }
+            }
+            borderSystems.put(us, borderMap);
+        });
+    }
+
     /**
      * If this instance has been registered with the event bus, listens for new day events and
      * starts the recalculation process.
@@ -23,12 +23,14 @@ import java.io.InputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -202,6 +204,47 @@ public class FactionHints {
                 && !isAtWarWith(faction, opponent, date);
     }
 
+    /**
+     * Finds the first date after the given one on which a war or alliance involving a faction
+     * starts or ends. As hints only apply strictly between their dates, both the boundary date
+     * and the day after it are considered changes.
+     *
+     * @param faction The faction
+     * @param date    The current campaign date
+     * @return        The first date after <code>date</code> on which the faction's wars or
+     *                alliances may change, or {@code null} if they never change again
+     */
+    @Nullable public Date getNextChangeDate(Faction faction, Date date) {
+        Date next = null;
+        for (Map<Faction, Map<Faction, List<FactionHint>>> hints : Arrays.asList(wars, alliances)) {
+            for (Map.Entry<Faction, Map<Faction, List<FactionHint>>> entry : hints.entrySet()) {
+                for (Map.Entry<Faction, List<FactionHint>> other : entry.getValue().entrySet()) {
+                    if (!faction.equals(entry.getKey()) && !faction.equals(other.getKey())) {
+                        continue;
+                    }
+                    for (FactionHint fh : other.getValue()) {
+                        next = earliestChangeAfter(next, fh.start, date);
+                        next = earliestChangeAfter(next, fh.end, date);
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    private static Date earliestChangeAfter(Date current, Date boundary, Date date) {
+        if (boundary == null) {
+            return current;
+        }
+        Date dayAfter = new Date(boundary.getTime() + TimeUnit.DAYS.toMillis(1));
+        for (Date candidate : Arrays.asList(boundary, dayAfter)) {
+            if (candidate.after(date) && ((current == null) || candidate.before(current))) {
+                current = candidate;
+            }
+        }
+        return current;
+    }
+
     private boolean hintApplies(Map<Faction, Map<Faction, List<FactionHint>>> hints,
                 Faction f1, Faction f2, Date date) {
         if (hints.get(f1) != null && hints.get(f1).get(f2) != null) {
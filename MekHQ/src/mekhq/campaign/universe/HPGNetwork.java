@@ -0,0 +1,195 @@
+/*
+ * HPGNetwork.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeComparator;
+
+import megamek.common.EquipmentType;
+
+/**
+ * The HPG links between systems over the whole history of the planetary data.
+ *
+ * HPG ratings only change on the dates of planetary events, so the rating of each system is
+ * kept as a timeline of changes, and each link between an HPG-A system and a neighbor is kept
+ * with the dates it starts and stops existing. The network for a given date is then the links
+ * whose interval contains that date.
+ */
+public class HPGNetwork {
+    /** The range of an HPG-A station, in light years */
+    public static final int HPG_RANGE = 50;
+
+    private static final DateTimeComparator DATE_ONLY = DateTimeComparator.getDateOnlyInstance();
+
+    /** A link, with the first day it exists and the first day it no longer exists */
+    private static final class LinkInterval {
+        private final Systems.HPGLink link;
+        /* null if the link exists since the start of the data */
+        private final DateTime from;
+        /* null if the link exists until the end of the data */
+        private final DateTime to;
+
+        private LinkInterval(Systems.HPGLink link, DateTime from, DateTime to) {
+            this.link = link;
+            this.from = from;
+            this.to = to;
+        }
+
+        private boolean contains(DateTime when) {
+            return ((null == from) || (DATE_ONLY.compare(when, from) >= 0))
+                    && ((null == to) || (DATE_ONLY.compare(when, to) < 0));
+        }
+    }
+
+    /** The HPG rating of a system from each of the dates it changes */
+    private static final class RatingTimeline {
+        /* the first entry is null, standing for the time before the first event */
+        private final List<DateTime> dates = new ArrayList<>();
+        private final List<Integer> ratings = new ArrayList<>();
+
+        private RatingTimeline(PlanetarySystem system) {
+            Set<DateTime> eventDates = new TreeSet<>(DATE_ONLY);
+            for (Planet planet : system.getPlanets()) {
+                List<Planet.PlanetaryEvent> events = planet.getEvents();
+                if (null != events) {
+                    for (Planet.PlanetaryEvent event : events) {
+                        if (null != event.date) {
+                            eventDates.add(event.date);
+                        }
+                    }
+                }
+            }
+
+            int current = getRating(system, eventDates.isEmpty() ? null : eventDates.iterator().next().minusDays(1));
+            dates.add(null);
+            ratings.add(current);
+            for (DateTime date : eventDates) {
+                int rating = getRating(system, date);
+                if (rating != current) {
+                    dates.add(date);
+                    ratings.add(rating);
+                    current = rating;
+                }
+            }
+        }
+
+        private static int getRating(PlanetarySystem system, DateTime when) {
+            Integer rating = system.getHPG(when);
+            return (null != rating) ? rating : EquipmentType.RATING_X;
+        }
+
+        private boolean everRated(int rating) {
+            return ratings.contains(rating);
+        }
+
+        /** @return the rating on the given date, or before the first event if the date is null */
+        private int getRating(DateTime when) {
+            int index = 0;
+            if (null != when) {
+                while ((index + 1 < dates.size()) && (DATE_ONLY.compare(dates.get(index + 1), when) <= 0)) {
+                    index++;
+                }
+            }
+            return ratings.get(index);
+        }
+    }
+
+    private final List<LinkInterval> links = new ArrayList<>();
+
+    /**
+     * Creates the network of the given systems.
+     * @param systems all the systems
+     * @param index a spatial index of the same systems, used to find the neighbors of each HPG-A
+     */
+    public HPGNetwork(Collection<PlanetarySystem> systems, SystemIndex index) {
+        Map<PlanetarySystem, RatingTimeline> timelines = new HashMap<>();
+        for (PlanetarySystem system : systems) {
+            if ((null == system.getX()) || (null == system.getY())) {
+                continue;
+            }
+            RatingTimeline timeline = timelines.computeIfAbsent(system, RatingTimeline::new);
+            if (!timeline.everRated(EquipmentType.RATING_A)) {
+                continue;
+            }
+            index.visitWithin(system.getX(), system.getY(), HPG_RANGE,
+                    neighbor -> addLinks(system, timeline, neighbor,
+                            timelines.computeIfAbsent(neighbor, RatingTimeline::new)));
+        }
+    }
+
+    /**
+     * Adds the intervals during which a system is an HPG-A, linked to a neighbor with the rating
+     * the neighbor had at the time.
+     */
+    private void addLinks(PlanetarySystem primary, RatingTimeline primaryTimeline,
+            PlanetarySystem secondary, RatingTimeline secondaryTimeline) {
+        Set<DateTime> changes = new TreeSet<>(DATE_ONLY);
+        changes.addAll(primaryTimeline.dates.subList(1, primaryTimeline.dates.size()));
+        changes.addAll(secondaryTimeline.dates.subList(1, secondaryTimeline.dates.size()));
+        List<DateTime> starts = new ArrayList<>(changes.size() + 1);
+        starts.add(null);
+        starts.addAll(changes);
+
+        Integer linkRating = null;
+        DateTime linkFrom = null;
+        for (DateTime start : starts) {
+            Integer rating = (primaryTimeline.getRating(start) == EquipmentType.RATING_A)
+                    ? secondaryTimeline.getRating(start) : null;
+            if (!Objects.equals(rating, linkRating)) {
+                if (null != linkRating) {
+                    links.add(new LinkInterval(new Systems.HPGLink(primary, secondary, linkRating), linkFrom, start));
+                }
+                linkRating = rating;
+                linkFrom = start;
+            }
+        }
+        if (null != linkRating) {
+            links.add(new LinkInterval(new Systems.HPGLink(primary, secondary, linkRating), linkFrom, null));
+        }
+    }
+
+    /**
+     * @param when the date
+     * @return the links between each HPG-A system and every system within its range on the date
+     */
+    public Set<Systems.HPGLink> getLinks(DateTime when) {
+        Set<Systems.HPGLink> result = new HashSet<>();
+        if (null == when) {
+            return result;
+        }
+        for (LinkInterval interval : links) {
+            if (interval.contains(when)) {
+                result.add(interval.link);
+            }
+        }
+        return result;
+    }
+}
@@ -2,9 +2,12 @@ package mekhq.campaign.universe;
 
 import java.io.FileInputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -23,9 +26,9 @@ import mekhq.MekHQ;
 import mekhq.MekHqXmlUtil;
 
 /**
- * Instead of making this a static like Planets, we are just going to reload a years
- * worth of news items at the start of every year, to cut down on memory usage. If this
- * slows things down too much on year turn over we can reconsider
+ * The news items of the XML file are parsed once and kept by year. At the start of every
+ * year the items for that year are copied and their dates finalized, so the random dates
+ * of imprecise items differ between years and campaigns.
  * @author Jay Lawson
  *
  */
@@ -53,6 +56,9 @@ public class News {
     private Map<DateTime, List<NewsItem>> archive;
     private Map<Integer, NewsItem> news;
 
+    /* All the news items of the XML file by year, shared by all the campaigns */
+    private static Map<Integer, List<NewsItem>> newsByYear;
+
     public News(int year, long seed) {
         loadNewsFor(year, seed);
     }
@@ -78,80 +84,98 @@ public class News {
             archive = new HashMap<>();
             news = new HashMap<>();
             int id = 0;
+            if(null == newsByYear) {
+                newsByYear = loadNewsByYear();
+            }
+
+            // Items with a decade precision are stored under the first year of their decade
+            Set<Integer> keys = new LinkedHashSet<>();
+            keys.add(year);
+            keys.add((year / 10) * 10);
+            for(Integer key : keys) {
+                for(NewsItem template : newsByYear.getOrDefault(key, Collections.emptyList())) {
+                    if(!template.isInYear(year)) {
+                        continue;
+                    }
+                    NewsItem newsItem = new NewsItem(template);
+                    newsItem.finalizeDate();
+                    archive.computeIfAbsent(newsItem.getDate(), d -> new ArrayList<>()).add(newsItem);
+                    newsItem.setId(id);
+                    news.put(id, newsItem);
+                    ++ id;
+                }
+            }
             MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.INFO,
-                    "Starting load of news data for " + year + " from XML..."); //$NON-NLS-1$
+                    "loaded " + archive.size() + " days of news items for " + year); //$NON-NLS-1$
+        }
+    }
 
-            // Initialize variables.
-            Document xmlDoc;
+    /**
+     * Parses all the news items from the XML file, so changing the year only needs to copy the
+     * items of the new year.
+     *
+     * @return the news items by the year of their date
+     */
+    private static Map<Integer, List<NewsItem>> loadNewsByYear() {
+        final String METHOD_NAME = "loadNewsByYear()"; //$NON-NLS-1$
+        Map<Integer, List<NewsItem>> retVal = new HashMap<>();
+        MekHQ.getLogger().log(News.class, METHOD_NAME, LogLevel.INFO,
+                "Starting load of news data from XML..."); //$NON-NLS-1$
+
+        // Initialize variables.
+        Document xmlDoc;
+
+        try(FileInputStream fis = new FileInputStream("data/universe/news.xml")) {
+            // Using factory get an instance of document builder
+            DocumentBuilder db = MekHqXmlUtil.newSafeDocumentBuilder();
+
+            // Parse using builder to get DOM representation of the XML file
+            xmlDoc = db.parse(fis);
+        } catch (Exception ex) {
+            MekHQ.getLogger().error(News.class, METHOD_NAME, ex);
+            return retVal;
+        }
 
-            try(FileInputStream fis = new FileInputStream("data/universe/news.xml")) {
-                // Using factory get an instance of document builder
-                DocumentBuilder db = MekHqXmlUtil.newSafeDocumentBuilder();
+        Element newsEle = xmlDoc.getDocumentElement();
+        NodeList nl = newsEle.getChildNodes();
 
-                // Parse using builder to get DOM representation of the XML file
-                xmlDoc = db.parse(fis);
-            } catch (Exception ex) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, ex);
-                return;
-            }
+        // Get rid of empty text nodes and adjacent text nodes...
+        // Stupid weird parsing of XML.  At least this cleans it up.
+        newsEle.normalize();
+
+        // Okay, lets iterate through the children, eh?
+        for (int x = 0; x < nl.getLength(); x++) {
+            Node wn = nl.item(x);
+
+            if (wn.getParentNode() != newsEle)
+                continue;
+
+            int xc = wn.getNodeType();
 
-            Element newsEle = xmlDoc.getDocumentElement();
-            NodeList nl = newsEle.getChildNodes();
-
-            // Get rid of empty text nodes and adjacent text nodes...
-            // Stupid weird parsing of XML.  At least this cleans it up.
-            newsEle.normalize();
-
-            // Okay, lets iterate through the children, eh?
-            for (int x = 0; x < nl.getLength(); x++) {
-                Node wn = nl.item(x);
-
-                if (wn.getParentNode() != newsEle)
-                    continue;
-
-                int xc = wn.getNodeType();
-
-                if (xc == Node.ELEMENT_NODE) {
-                    // This is what we really care about.
-                    // All the meat of our document is in this node type, at this
-                    // level.
-                    // Okay, so what element is it?
-                    String xn = wn.getNodeName();
-
-                    if (xn.equalsIgnoreCase("newsItem")) {
-                        NewsItem newsItem = null;
-                        try {
-                            newsItem = (NewsItem) unmarshaller.unmarshal(wn);
-                        } catch(JAXBException e) {
-                            MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-                            continue;
-                        }
-                        if(null == newsItem.getDate()) {
-                            MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.ERROR,
-                                    "The date is null for news Item " + newsItem.getHeadline()); //$NON-NLS-1$
-                        }
-                        if(!newsItem.isInYear(year)) {
-                            continue;
-                        }
-                        List<NewsItem> items;
-                        newsItem.finalizeDate();
-                        if(null == archive.get(newsItem.getDate())) {
-                            items = new ArrayList<NewsItem>();
-                            items.add(newsItem);
-                            archive.put(newsItem.getDate(), items);
-                        } else {
-                            items = archive.get(newsItem.getDate());
-                            items.add(newsItem);
-                            archive.put(newsItem.getDate(), items);
-                        }
-                        newsItem.setId(id);
-                        news.put(id, newsItem);
-                        ++ id;
+            if (xc == Node.ELEMENT_NODE) {
+                // This is what we really care about.
+                // All the meat of our document is in this node type, at this
+                // level.
+                // Okay, so what element is it?
+                String xn = wn.getNodeName();
+
+                if (xn.equalsIgnoreCase("newsItem")) {
+                    NewsItem newsItem = null;
+                    try {
+                        newsItem = (NewsItem) unmarshaller.unmarshal(wn);
+                    } catch(JAXBException e) {
+                        MekHQ.getLogger().error(News.class, METHOD_NAME, e);
+                        continue;
+                    }
+                    if(null == newsItem.getDate()) {
+                        MekHQ.getLogger().log(News.class, METHOD_NAME, LogLevel.ERROR,
+                                "The date is null for news Item " + newsItem.getHeadline()); //$NON-NLS-1$
+                        continue;
                     }
+                    retVal.computeIfAbsent(newsItem.getYear(), y -> new ArrayList<>()).add(newsItem);
                 }
             }
-            MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.INFO,
-                    "loaded " + archive.size() + " days of news items for " + year); //$NON-NLS-1$
         }
+        return retVal;
     }
 }
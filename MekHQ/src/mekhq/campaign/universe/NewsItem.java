@@ -75,6 +75,19 @@ public class NewsItem {
         this.service = null;
     }
     
+    /**
+     * Creates a copy of a news item, so a parsed item can be reused with a different final date.
+     */
+    NewsItem(NewsItem other) {
+        this.date = other.date;
+        this.datePrecision = other.datePrecision;
+        this.headline = other.headline;
+        this.description = other.description;
+        this.service = other.service;
+        this.location = other.location;
+        this.dateString = other.dateString;
+    }
+    
     public String getHeadline() {
         return headline;
     }
@@ -181,7 +181,7 @@ public class Planet implements Serializable {
      * or the current date moved backwards.
      */
     @XmlTransient
-    CurrentEvents currentEvents;
+    transient CurrentEvents currentEvents;
 
     //a hash to keep track of dynamic garrison changes
     //TreeMap<DateTime, List<String>> garrisonHistory;
@@ -514,6 +514,14 @@ public class Planet implements Serializable {
         return new ArrayList<PlanetaryEvent>(events.values());
     }
 
+    /** @return the date of the first event after the given date, or <code>null</code> if there is none */
+    public DateTime getNextEventDate(DateTime when) {
+        if((null == when) || (null == events)) {
+            return null;
+        }
+        return events.higherKey(when);
+    }
+
     public List<PlanetaryEvent> getCustomEvents() {
         List<PlanetaryEvent> customEvents = new ArrayList<>();
         if (events != null) {
@@ -1128,7 +1136,9 @@ public class Planet implements Serializable {
 
     /** A class representing some event, possibly changing planetary information */
     @XmlRootElement(name="event")
-    public static final class PlanetaryEvent {
+    public static final class PlanetaryEvent implements Serializable {
+        private static final long serialVersionUID = -4085316588254637384L;
+
         @XmlJavaTypeAdapter(DateAdapter.class)
         public DateTime date;
         public String message;
@@ -1137,7 +1147,7 @@ public class Planet implements Serializable {
         @XmlJavaTypeAdapter(StringListAdapter.class)
         public List<String> faction;
         @XmlTransient
-        public Set<Faction> factions;
+        public transient Set<Faction> factions;
         @XmlJavaTypeAdapter(LifeFormAdapter.class)
         public LifeForm lifeForm;
         @XmlJavaTypeAdapter(ClimateAdapter.class)
@@ -1218,7 +1228,9 @@ public class Planet implements Serializable {
         }
     }
 
-    public static final class FactionChange {
+    public static final class FactionChange implements Serializable {
+        private static final long serialVersionUID = 2858231468591046322L;
+
         @XmlJavaTypeAdapter(DateAdapter.class)
         public DateTime date;
         @XmlJavaTypeAdapter(StringListAdapter.class)
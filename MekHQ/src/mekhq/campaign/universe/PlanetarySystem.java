@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
@@ -157,6 +158,13 @@ public class PlanetarySystem implements Serializable {
     @XmlElement(name = "event")
     private List<PlanetarySystemEvent> eventList;
 
+    /* The recharge stations and times over the events, built on first use. See refreshEvents() */
+    @XmlTransient
+    private transient volatile RechargeTimeline rechargeTimeline;
+    /* The time from the primary planet to the jump point at 1g, computed on first use */
+    @XmlTransient
+    private transient volatile Double timeToJumpPoint;
+
     public PlanetarySystem() {
     }
 
@@ -288,11 +296,13 @@ public class PlanetarySystem implements Serializable {
     }
 
     public Boolean isNadirCharge(DateTime when) {
-        return getEventData(when, nadirCharge, e -> e.nadirCharge);
+        RechargeTimeline timeline = getRechargeTimeline();
+        return timeline.nadirCharge[timeline.indexOf(when)];
     }
 
     public boolean isZenithCharge(DateTime when) {
-        return getEventData(when, zenithCharge, e -> e.zenithCharge);
+        RechargeTimeline timeline = getRechargeTimeline();
+        return timeline.zenithCharge[timeline.indexOf(when)];
     }
 
     public int getNumberRechargeStations(DateTime when) {
@@ -315,12 +325,25 @@ public class PlanetarySystem implements Serializable {
 
     /** Recharge time in hours (assuming the usage of the fastest charing method available) */
     public double getRechargeTime(DateTime when) {
-        if(isZenithCharge(when) || isNadirCharge(when)) {
-        	//The 176 value comes from pg. 87-88 and 138 of StratOps
-            return Math.min(176.0, getSolarRechargeTime());
-        } else {
-            return getSolarRechargeTime();
+        RechargeTimeline timeline = getRechargeTimeline();
+        return timeline.rechargeTime[timeline.indexOf(when)];
+    }
+
+    private RechargeTimeline getRechargeTimeline() {
+        RechargeTimeline timeline = rechargeTimeline;
+        if(null == timeline) {
+            timeline = new RechargeTimeline(this);
+            rechargeTimeline = timeline;
         }
+        return timeline;
+    }
+
+    /**
+     * This method signals that the cached recharge data should be rebuilt. It should be called
+     * when any field on a system event is updated, or if any events are added or removed.
+     */
+    public void refreshEvents() {
+        rechargeTimeline = null;
     }
 
     /** Recharge time in hours using solar radiation alone (at jump point and 100% efficiency) */
@@ -351,7 +374,16 @@ public class PlanetarySystem implements Serializable {
 
     /** @return the average travel time from low orbit to the jump point at 1g, in Terran days for a given planetary position*/
     public double getTimeToJumpPoint(double acceleration) {
-        return getTimeToJumpPoint(acceleration, getPrimaryPlanetPosition());
+        if(acceleration != 1.0) {
+            return getTimeToJumpPoint(acceleration, getPrimaryPlanetPosition());
+        }
+        // Travel at 1g is what path finding, transit and contract travel times use
+        Double time = timeToJumpPoint;
+        if(null == time) {
+            time = getTimeToJumpPoint(acceleration, getPrimaryPlanetPosition());
+            timeToJumpPoint = time;
+        }
+        return time;
     }
 
     /** @return the average travel time from low orbit to the jump point at 1g, in Terran days for a given planetary position*/
@@ -486,6 +518,7 @@ public class PlanetarySystem implements Serializable {
             event.date = when;
             events.put(when, event);
         }
+        rechargeTimeline = null;
         return event;
     }
 
@@ -525,6 +558,24 @@ public class PlanetarySystem implements Serializable {
         return new ArrayList<>(events.values());
     }
 
+    /**
+     * @return the date of the first event of this system or any of its planets after the given
+     *         date, or <code>null</code> if there is none
+     */
+    public DateTime getNextEventDate(DateTime when) {
+        if( null == when ) {
+            return null;
+        }
+        DateTime next = (null == events) ? null : events.higherKey(when);
+        for( Planet planet : getPlanets() ) {
+            DateTime planetNext = planet.getNextEventDate(when);
+            if( (null != planetNext) && ((null == next) || planetNext.isBefore(next)) ) {
+                next = planetNext;
+            }
+        }
+        return next;
+    }
+
     /** Includes a parser for spectral type strings */
     protected void setSpectralType(String type) {
         SpectralDefinition scDef = StarUtil.parseSpectralType(type);
@@ -616,6 +667,8 @@ public class PlanetarySystem implements Serializable {
                     }
                 }
             }
+            rechargeTimeline = null;
+            timeToJumpPoint = null;
         }
     }
 
@@ -634,6 +687,73 @@ public class PlanetarySystem implements Serializable {
         }
     }
 
+    /**
+     * The recharge stations of a system from each date they change, along with the resulting
+     * recharge time. Systems have few or no events, so a date is found by a binary search over a
+     * handful of entries instead of walking the events on every call.
+     */
+    private static final class RechargeTimeline {
+        /* The first date each entry applies to; the first entry applies before any event */
+        private final long[] dates;
+        private final Boolean[] nadirCharge;
+        private final Boolean[] zenithCharge;
+        private final double[] rechargeTime;
+
+        private RechargeTimeline(PlanetarySystem system) {
+            final int size = 1 + ((null == system.events) ? 0 : system.events.size());
+            dates = new long[size];
+            nadirCharge = new Boolean[size];
+            zenithCharge = new Boolean[size];
+            rechargeTime = new double[size];
+            final double solarRechargeTime = system.getSolarRechargeTime();
+
+            Boolean nadir = system.nadirCharge;
+            Boolean zenith = system.zenithCharge;
+            dates[0] = Long.MIN_VALUE;
+            set(0, nadir, zenith, solarRechargeTime);
+            if(null != system.events) {
+                int i = 1;
+                for(Map.Entry<DateTime, PlanetarySystemEvent> entry : system.events.entrySet()) {
+                    nadir = Utilities.nonNull(entry.getValue().nadirCharge, nadir);
+                    zenith = Utilities.nonNull(entry.getValue().zenithCharge, zenith);
+                    dates[i] = entry.getKey().getMillis();
+                    set(i, nadir, zenith, solarRechargeTime);
+                    ++ i;
+                }
+            }
+        }
+
+        private void set(int index, Boolean nadir, Boolean zenith, double solarRechargeTime) {
+            nadirCharge[index] = nadir;
+            zenithCharge[index] = zenith;
+            if(Boolean.TRUE.equals(zenith) || Boolean.TRUE.equals(nadir)) {
+                //The 176 value comes from pg. 87-88 and 138 of StratOps
+                rechargeTime[index] = Math.min(176.0, solarRechargeTime);
+            } else {
+                rechargeTime[index] = solarRechargeTime;
+            }
+        }
+
+        /** @return the index of the entry in effect on the given date */
+        private int indexOf(DateTime when) {
+            if((null == when) || (dates.length == 1)) {
+                return 0;
+            }
+            final long millis = when.getMillis();
+            int low = 0;
+            int high = dates.length - 1;
+            while(low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if(dates[mid] <= millis) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
  // @FunctionalInterface in Java 8, or just use Function<PlanetaryEvent, T>
     private interface EventGetter<T> {
         T get(PlanetarySystemEvent e);
@@ -641,7 +761,9 @@ public class PlanetarySystem implements Serializable {
 
     /** A class representing some event, possibly changing planetary information */
     @XmlRootElement(name="event")
-    public static final class PlanetarySystemEvent {
+    public static final class PlanetarySystemEvent implements Serializable {
+        private static final long serialVersionUID = 6382549134072836171L;
+
     	@XmlJavaTypeAdapter(DateAdapter.class)
         public DateTime date;
         public Boolean nadirCharge;
@@ -34,6 +34,7 @@ import megamek.common.EntityMovementMode;
 import megamek.common.MechSummary;
 import megamek.common.UnitType;
 import mekhq.MekHQ;
+import mekhq.StartupTasks;
 
 /**
  * Provides access to RATGenerator through IUnitGenerator interface.
@@ -43,13 +44,7 @@ import mekhq.MekHQ;
 public class RATGeneratorConnector extends AbstractUnitGenerator implements IUnitGenerator {
     /* Initialize RATGenerator and load the data for the current game year */
     public RATGeneratorConnector(int year) {
-        while (!RATGenerator.getInstance().isInitialized()) {
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                MekHQ.getLogger().error(getClass(), "RATGeneratorConnector", e);
-            }
-        }
+        StartupTasks.await(StartupTasks.whenInitialized(() -> RATGenerator.getInstance().isInitialized()));
         RATGenerator.getInstance().loadYear(year);
     }
 
@@ -53,6 +53,7 @@ import megamek.common.event.Subscribe;
 import megamek.common.logging.LogLevel;
 import mekhq.MekHQ;
 import mekhq.MekHqXmlUtil;
+import mekhq.StartupTasks;
 import mekhq.campaign.event.OptionsChangedEvent;
 
 /**
@@ -142,13 +143,7 @@ public class RATManager extends AbstractUnitGenerator implements IUnitGenerator
             return false;
         }
         /* Need RUG to be loaded for validation */
-        while (!RandomUnitGenerator.getInstance().isInitialized()) {
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-        }
+        StartupTasks.await(StartupTasks.whenInitialized(() -> RandomUnitGenerator.getInstance().isInitialized()));
         File f = new File(RATINFO_DIR, fileNames.get(name));
         FileInputStream fis;
 
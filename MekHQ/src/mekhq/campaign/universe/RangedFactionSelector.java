@@ -23,12 +23,12 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 import org.joda.time.DateTime;
 
 import mekhq.Utilities;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignRandom;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.Contract;
 import mekhq.campaign.universe.Faction.Tag;
@@ -111,7 +111,8 @@ public class RangedFactionSelector extends AbstractFactionSelector {
             createLookupMap(campaign);
         }
 
-        double random = ThreadLocalRandom.current().nextDouble(cachedFactions.lastKey());
+        double random = campaign.getRandom().getStream(CampaignRandom.Stream.ORIGIN, campaign.getLocalDate())
+                .nextDouble() * cachedFactions.lastKey();
         return cachedFactions.ceilingEntry(random).getValue();
     }
 
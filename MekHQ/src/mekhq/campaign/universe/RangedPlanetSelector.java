@@ -22,12 +22,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 import org.joda.time.DateTime;
 
 import mekhq.Utilities;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignRandom;
 import mekhq.campaign.universe.Faction.Tag;
 
 /**
@@ -160,7 +160,8 @@ public class RangedPlanetSelector extends AbstractPlanetSelector {
         }
 
         TreeMap<Double, Planet> planets = cachedPlanets.get(faction);
-        double random = ThreadLocalRandom.current().nextDouble(planets.lastKey());
+        double random = campaign.getRandom().getStream(CampaignRandom.Stream.ORIGIN, campaign.getLocalDate())
+                .nextDouble() * planets.lastKey();
         return planets.ceilingEntry(random).getValue();
     }
 
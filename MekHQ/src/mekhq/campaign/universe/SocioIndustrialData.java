@@ -22,10 +22,14 @@
 
 package mekhq.campaign.universe;
 
+import java.io.Serializable;
+
 import megamek.common.EquipmentType;
 import megamek.common.ITechnology;
 
-public class SocioIndustrialData {
+public class SocioIndustrialData implements Serializable {
+    private static final long serialVersionUID = -2580778309464329214L;
+
     public static final SocioIndustrialData NONE = new SocioIndustrialData();
     static {
         NONE.tech = EquipmentType.RATING_X;
@@ -0,0 +1,230 @@
+/*
+ * SystemIndex.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An immutable spatial index of planetary systems, used to find nearby systems without
+ * iterating through every system.
+ *
+ * The systems are bucketed into a dense grid of square cells. The coordinates of the
+ * systems are copied into primitive arrays ordered by cell, so a query only reads the
+ * arrays of the cells overlapping its circle and never boxes a coordinate.
+ */
+public class SystemIndex {
+    /** The default size of a grid cell, in light years */
+    public static final double DEFAULT_CELL_SIZE = 30.0;
+
+    private final double cellSize;
+    private final int minCellX;
+    private final int minCellY;
+    private final int columns;
+    private final int rows;
+
+    /** The first entry of each cell in the arrays below, by row then column, plus an end marker */
+    private final int[] cellStart;
+    private final double[] xs;
+    private final double[] ys;
+    private final PlanetarySystem[] systems;
+
+    /**
+     * Creates an index of the given systems. Systems without coordinates are skipped.
+     * @param systemList the systems to index
+     * @param cellSize the size of a grid cell, in light years
+     */
+    public SystemIndex(Collection<PlanetarySystem> systemList, double cellSize) {
+        this.cellSize = cellSize;
+
+        List<PlanetarySystem> located = new ArrayList<>(systemList.size());
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (PlanetarySystem system : systemList) {
+            if ((null == system) || (null == system.getX()) || (null == system.getY())) {
+                continue;
+            }
+            located.add(system);
+            int cellX = toCell(system.getX());
+            int cellY = toCell(system.getY());
+            minX = Math.min(minX, cellX);
+            minY = Math.min(minY, cellY);
+            maxX = Math.max(maxX, cellX);
+            maxY = Math.max(maxY, cellY);
+        }
+
+        if (located.isEmpty()) {
+            minCellX = 0;
+            minCellY = 0;
+            columns = 0;
+            rows = 0;
+            cellStart = new int[] { 0 };
+            xs = new double[0];
+            ys = new double[0];
+            systems = new PlanetarySystem[0];
+            return;
+        }
+
+        minCellX = minX;
+        minCellY = minY;
+        columns = maxX - minX + 1;
+        rows = maxY - minY + 1;
+
+        // Counting sort of the systems by cell
+        cellStart = new int[columns * rows + 1];
+        int[] cells = new int[located.size()];
+        for (int i = 0; i < cells.length; i++) {
+            PlanetarySystem system = located.get(i);
+            cells[i] = (toCell(system.getY()) - minCellY) * columns + toCell(system.getX()) - minCellX;
+            cellStart[cells[i] + 1]++;
+        }
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] next = Arrays.copyOf(cellStart, cellStart.length - 1);
+        xs = new double[cells.length];
+        ys = new double[cells.length];
+        systems = new PlanetarySystem[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            int pos = next[cells[i]]++;
+            PlanetarySystem system = located.get(i);
+            xs[pos] = system.getX();
+            ys[pos] = system.getY();
+            systems[pos] = system;
+        }
+    }
+
+    /** @return the number of indexed systems */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * Visits every system within a distance of a point, in no particular order.
+     * @param centerX the x coordinate of the point
+     * @param centerY the y coordinate of the point
+     * @param distance the maximum distance, in light years
+     * @param visitor the consumer to call for each system found
+     */
+    public void visitWithin(double centerX, double centerY, double distance, Consumer<PlanetarySystem> visitor) {
+        final double distanceSq = distance * distance;
+        final int fromX = Math.max(toCell(centerX - distance) - minCellX, 0);
+        final int toX = Math.min(toCell(centerX + distance) - minCellX, columns - 1);
+        final int fromY = Math.max(toCell(centerY - distance) - minCellY, 0);
+        final int toY = Math.min(toCell(centerY + distance) - minCellY, rows - 1);
+        if ((fromX > toX) || (fromY > toY)) {
+            return;
+        }
+        for (int y = fromY; y <= toY; y++) {
+            // The cells of a row are contiguous in the arrays
+            final int end = cellStart[y * columns + toX + 1];
+            for (int i = cellStart[y * columns + fromX]; i < end; i++) {
+                final double dx = xs[i] - centerX;
+                final double dy = ys[i] - centerY;
+                if (dx * dx + dy * dy <= distanceSq) {
+                    visitor.accept(systems[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every system within a distance of a point.
+     * @param centerX the x coordinate of the point
+     * @param centerY the y coordinate of the point
+     * @param distance the maximum distance, in light years
+     * @return the systems found, nearest first
+     */
+    public List<PlanetarySystem> getWithin(double centerX, double centerY, double distance) {
+        final double distanceSq = distance * distance;
+        final int fromX = Math.max(toCell(centerX - distance) - minCellX, 0);
+        final int toX = Math.min(toCell(centerX + distance) - minCellX, columns - 1);
+        final int fromY = Math.max(toCell(centerY - distance) - minCellY, 0);
+        final int toY = Math.min(toCell(centerY + distance) - minCellY, rows - 1);
+        if ((fromX > toX) || (fromY > toY)) {
+            return new ArrayList<>();
+        }
+
+        // Each hit is packed as its distance in the high bits and its position in the low bits,
+        // so sorting the primitive keys sorts the hits by distance. The bits of a non-negative
+        // float sort the same way as its value.
+        long[] hits = new long[16];
+        int count = 0;
+        for (int y = fromY; y <= toY; y++) {
+            final int end = cellStart[y * columns + toX + 1];
+            for (int i = cellStart[y * columns + fromX]; i < end; i++) {
+                final double dx = xs[i] - centerX;
+                final double dy = ys[i] - centerY;
+                final double distSq = dx * dx + dy * dy;
+                if (distSq <= distanceSq) {
+                    if (count == hits.length) {
+                        hits = Arrays.copyOf(hits, count * 2);
+                    }
+                    hits[count++] = ((long) Float.floatToIntBits((float) distSq) << 32) | i;
+                }
+            }
+        }
+        Arrays.sort(hits, 0, count);
+
+        List<PlanetarySystem> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(systems[(int) hits[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the systems nearest to a point.
+     * @param centerX the x coordinate of the point
+     * @param centerY the y coordinate of the point
+     * @param count the number of systems to find
+     * @return up to <code>count</code> systems, nearest first
+     */
+    public List<PlanetarySystem> getNearest(double centerX, double centerY, int count) {
+        if ((count <= 0) || (systems.length == 0)) {
+            return Collections.emptyList();
+        }
+        count = Math.min(count, systems.length);
+
+        // Grow the search circle until it holds enough systems; the nearest systems are then
+        // the first ones within it
+        final double maxDistance = cellSize * (Math.max(columns, rows) + 1)
+                + Math.hypot(centerX - (minCellX + columns / 2.0) * cellSize,
+                        centerY - (minCellY + rows / 2.0) * cellSize);
+        double distance = cellSize;
+        List<PlanetarySystem> found = getWithin(centerX, centerY, distance);
+        while ((found.size() < count) && (distance < maxDistance)) {
+            distance *= 2.0;
+            found = getWithin(centerX, centerY, distance);
+        }
+        return (found.size() > count) ? new ArrayList<>(found.subList(0, count)) : found;
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+}
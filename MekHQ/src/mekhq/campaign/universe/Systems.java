@@ -18,6 +18,7 @@
  */
 package mekhq.campaign.universe;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
@@ -29,14 +30,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
@@ -50,13 +50,14 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeComparator;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Node;
 
-import megamek.common.EquipmentType;
 import megamek.common.logging.LogLevel;
 import mekhq.MekHQ;
 import mekhq.MekHqXmlUtil;
+import mekhq.StartupTasks;
 import mekhq.Utilities;
 
 /**
@@ -109,14 +110,8 @@ public class Systems {
         }
         if(!systems.initialized && !systems.initializing) {
             systems.initializing = true;
-            systems.loader = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    systems.initialize();
-                }
-            }, "Planet Loader");
-            systems.loader.setPriority(Thread.NORM_PRIORITY - 1);
-            systems.loader.start();
+            final Systems loading = systems;
+            systems.loader = CompletableFuture.runAsync(loading::initialize, StartupTasks.getExecutor());
         }
         return systems;
     }
@@ -124,25 +119,27 @@ public class Systems {
     private ConcurrentMap<String, PlanetarySystem> systemList = new ConcurrentHashMap<>();
     /* organizes systems into a grid of 30lyx30ly squares so we can find
      * nearby systems without iterating through the entire planet list. */
-    private HashMap<Integer, Map<Integer, Set<PlanetarySystem>>> systemGrid = new HashMap<>();
+    private volatile SystemIndex systemIndex = new SystemIndex(Collections.emptyList(), SystemIndex.DEFAULT_CELL_SIZE);
+
+    /* incremented whenever the systems or their events change, so caches of derived data
+     * can tell when they are stale */
+    private volatile int eventVersion = 0;
+
+    /* the planets with a news message among their events, by the date of the event */
+    private Map<DateTime, List<Planet>> planetaryNewsIndex = new TreeMap<>(DateTimeComparator.getDateOnlyInstance());
 
-    // HPG Network cache (to not recalculate all the damn time)
+    // HPG Network over the whole history, and the links of the last date asked for
+    private HPGNetwork hpgNetwork = null;
+    private int hpgNetworkVersion;
     private Collection<Systems.HPGLink> hpgNetworkCache = null;
     private DateTime hpgNetworkCacheDate = null;
 
-    private Thread loader;
+    private CompletableFuture<Void> loader = CompletableFuture.completedFuture(null);
     private boolean initialized = false;
     private boolean initializing = false;
 
     private Systems() {}
 
-    private Set<PlanetarySystem> getSystemGrid(int x, int y) {
-        if( !systemGrid.containsKey(x) ) {
-            return null;
-        }
-        return systemGrid.get(x).get(y);
-    }
-
     /** Return the planet by given name at a given time point */
     public PlanetarySystem getSystemByName(String name, DateTime when) {
         if(null == name) {
@@ -160,24 +157,26 @@ public class Systems {
         return null;
     }
 
+    /** @return the systems within the given distance of a point, nearest first */
     public List<PlanetarySystem> getNearbySystems(final double centerX, final double centerY, int distance) {
-    	 List<PlanetarySystem> neighbors = new ArrayList<>();
-
-         visitNearbySystems(centerX, centerY, distance, neighbors::add);
-
-         Collections.sort(neighbors, new Comparator<PlanetarySystem>() {
-             @Override
-             public int compare(PlanetarySystem o1, PlanetarySystem o2) {
-                 return Double.compare(o1.getDistanceTo(centerX, centerY), o2.getDistanceTo(centerX, centerY));
-             }
-         });
-         return neighbors;
+        return systemIndex.getWithin(centerX, centerY, distance);
     }
 
+    /** @return the systems within the given distance of a system, nearest first */
     public List<PlanetarySystem> getNearbySystems(final PlanetarySystem system, int distance) {
         return getNearbySystems(system.getX(), system.getY(), distance);
     }
 
+    /** @return the given number of systems nearest to a point, nearest first */
+    public List<PlanetarySystem> getNearestSystems(final double centerX, final double centerY, int count) {
+        return systemIndex.getNearest(centerX, centerY, count);
+    }
+
+    /** @return a number that changes whenever the systems or their events are updated */
+    public int getEventVersion() {
+        return eventVersion;
+    }
+
     public ConcurrentMap<String, PlanetarySystem> getSystems() {
         return systemList;
     }
@@ -230,53 +229,70 @@ public class Systems {
 
     public List<NewsItem> getPlanetaryNews(DateTime when) {
         List<NewsItem> news = new ArrayList<>();
+        for(Planet p : getPlanetsWithNews(when)) {
+            Planet.PlanetaryEvent event = p.getEvent(when);
+            if((null != event) && (null != event.message)) {
+                NewsItem item = new NewsItem();
+                item.setHeadline(event.message);
+                item.setDate(event.date);
+                item.setLocation(p.getPrintableName(when));
+                news.add(item);
+            }
+        }
+        return news;
+    }
+
+    /** @return the planets with a news message on the given date */
+    private synchronized List<Planet> getPlanetsWithNews(DateTime when) {
+        List<Planet> planets = (null != when) ? planetaryNewsIndex.get(when) : null;
+        return (null != planets) ? new ArrayList<>(planets) : Collections.emptyList();
+    }
+
+    /** Indexes the events with a news message of all the planets by their date */
+    private synchronized void rebuildPlanetaryNewsIndex() {
+        planetaryNewsIndex = new TreeMap<>(DateTimeComparator.getDateOnlyInstance());
         for(PlanetarySystem system : systemList.values()) {
-            if(null != system) {
-                Planet.PlanetaryEvent event;
-                for(Planet p : system.getPlanets()) {
-                    event = p.getEvent(when);
-                    if((null != event) && (null != event.message)) {
-                        NewsItem item = new NewsItem();
-                        item.setHeadline(event.message);
-                        item.setDate(event.date);
-                        item.setLocation(p.getPrintableName(when));
-                        news.add(item);
+            for(Planet p : system.getPlanets()) {
+                List<Planet.PlanetaryEvent> events = p.getEvents();
+                if(null != events) {
+                    for(Planet.PlanetaryEvent event : events) {
+                        indexPlanetaryNews(p, event);
                     }
                 }
             }
         }
-        return news;
+    }
+
+    private synchronized void indexPlanetaryNews(Planet planet, Planet.PlanetaryEvent event) {
+        if((null == event.date) || (null == event.message)) {
+            return;
+        }
+        List<Planet> planets = planetaryNewsIndex.computeIfAbsent(event.date, d -> new ArrayList<>());
+        if(!planets.contains(planet)) {
+            planets.add(planet);
+        }
     }
 
     /** Clean up the local HPG network cache */
-    public void recalcHPGNetwork() {
+    public synchronized void recalcHPGNetwork() {
+        hpgNetwork = null;
         hpgNetworkCacheDate = null;
     }
 
-    public Collection<Systems.HPGLink> getHPGNetwork(DateTime when) {
+    public synchronized Collection<Systems.HPGLink> getHPGNetwork(DateTime when) {
+        // The network covers all dates, so it only needs rebuilding when the events change
+        if((null == hpgNetwork) || (hpgNetworkVersion != eventVersion)) {
+            hpgNetworkVersion = eventVersion;
+            hpgNetwork = new HPGNetwork(systemList.values(), systemIndex);
+            hpgNetworkCacheDate = null;
+        }
         if((null != when) && when.equals(hpgNetworkCacheDate)) {
             return hpgNetworkCache;
         }
 
-        Set<HPGLink> result = new HashSet<>();
-        for(PlanetarySystem system : systemList.values()) {
-            Integer hpg = system.getHPG(when);
-            if((null != hpg) && (hpg.intValue() == EquipmentType.RATING_A)) {
-                Collection<PlanetarySystem> neighbors = getNearbySystems(system, 50);
-                for(PlanetarySystem neighbor : neighbors) {
-                    hpg = neighbor.getHPG(when);
-                    if(null != hpg) {
-                        HPGLink link = new HPGLink(system, neighbor, hpg.intValue());
-                        if(!result.contains(link)) {
-                            result.add(link);
-                        }
-                    }
-                }
-            }
-        }
-        hpgNetworkCache = result;
+        hpgNetworkCache = hpgNetwork.getLinks(when);
         hpgNetworkCacheDate = when;
-        return result;
+        return hpgNetworkCache;
     }
 
 // Data loading methods
@@ -298,6 +314,14 @@ public class Systems {
         return initialized;
     }
 
+    /**
+     * @return a future completed when the systems started loading by {@link #getInstance()} are
+     *         loaded, or failed to load
+     */
+    public CompletableFuture<Void> getLoadingFuture() {
+        return loader;
+    }
+
     private void updateSystems(FileInputStream source) {
         final String METHOD_NAME = "updateSystems(FileInputStream)"; //$NON-NLS-1$
         // JAXB unmarshaller closes the stream it doesn't own. Bad JAXB. BAD.
@@ -337,10 +361,11 @@ public class Systems {
     }
 
     private void generateSystems() throws DOMException, ParseException {
-        generateSystems("data/universe/planetary_systems", "data/universe/systems.xml");
+        generateSystems("data/universe/planetary_systems", "data/universe/systems.xml", //$NON-NLS-1$ //$NON-NLS-2$
+                MekHQ.CACHE_DIRECTORY + "systems.cache"); //$NON-NLS-1$
     }
 
-    private void generateSystems(String planetsPath, String defaultFilePath) throws DOMException, ParseException {
+    private void generateSystems(String planetsPath, String defaultFilePath, String cachePath) throws DOMException, ParseException {
         final String METHOD_NAME = "generateSystems()"; //NON-NLS-1$
 
         MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.INFO,
@@ -352,32 +377,31 @@ public class Systems {
                 systemList = new ConcurrentHashMap<>();
             }
             systemList.clear();
-            if( null == systemGrid ) {
-                systemGrid = new HashMap<>();
-            }
-            // Be nice to the garbage collector
-            for( Map.Entry<Integer, Map<Integer, Set<PlanetarySystem>>> systemGridColumn : systemGrid.entrySet() ) {
-                for( Map.Entry<Integer, Set<PlanetarySystem>> systemGridElement : systemGridColumn.getValue().entrySet() ) {
-                    if( null != systemGridElement.getValue() ) {
-                        systemGridElement.getValue().clear();
-                    }
+            systemIndex = new SystemIndex(Collections.emptyList(), SystemIndex.DEFAULT_CELL_SIZE);
+            rebuildPlanetaryNewsIndex();
+
+            // Use the snapshot of the parsed systems if the data files haven't changed since
+            SystemsCache cache = new SystemsCache(new File(cachePath), defaultFilePath, planetsPath);
+            List<String> fingerprint = cache.getFingerprint();
+            List<PlanetarySystem> cachedSystems = cache.read(fingerprint);
+            if(null != cachedSystems) {
+                for(PlanetarySystem system : cachedSystems) {
+                    systemList.put(system.getId(), system);
                 }
-                if( null != systemGridColumn.getValue() ) {
-                    systemGridColumn.getValue().clear();
+                MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.INFO,
+                        "Read the systems from " + cachePath); //$NON-NLS-1$
+            } else {
+                // Step 2: Read the default file
+                try(FileInputStream fis = new FileInputStream(defaultFilePath)) { //$NON-NLS-1$
+                    updateSystems(fis);
+                } catch (Exception ex) {
+                    MekHQ.getLogger().error(getClass(), METHOD_NAME, ex);
                 }
-            }
-            systemGrid.clear();
 
-            // Step 2: Read the default file
-            try(FileInputStream fis = new FileInputStream(defaultFilePath)) { //$NON-NLS-1$
-                updateSystems(fis);
-            } catch (Exception ex) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, ex);
+                // Step 3: Load all the xml files within the planets subdirectory, if it exists
+                Utilities.parseXMLFiles(planetsPath, this::updateSystems);
             }
 
-            // Step 3: Load all the xml files within the planets subdirectory, if it exists
-            Utilities.parseXMLFiles(planetsPath, this::updateSystems);
-
             List<PlanetarySystem> toRemove = new ArrayList<>();
             for (PlanetarySystem system : systemList.values()) {
                 if((null == system.getX()) || (null == system.getY())) {
@@ -393,21 +417,16 @@ public class Systems {
                     toRemove.add(system);
                     continue;
                 }
-                int x = (int)(system.getX()/30.0);
-                int y = (int)(system.getY()/30.0);
-                if (systemGrid.get(x) == null) {
-                    systemGrid.put(x, new HashMap<Integer, Set<PlanetarySystem>>());
-                }
-                if (systemGrid.get(x).get(y) == null) {
-                    systemGrid.get(x).put(y, new HashSet<PlanetarySystem>());
-                }
-                if( !systemGrid.get(x).get(y).contains(system) ) {
-                    systemGrid.get(x).get(y).add(system);
-                }
             }
             for(PlanetarySystem system : toRemove) {
                 systemList.remove(system.getId());
             }
+            if(null == cachedSystems) {
+                cache.write(fingerprint, systemList.values());
+            }
+            systemIndex = new SystemIndex(systemList.values(), SystemIndex.DEFAULT_CELL_SIZE);
+            rebuildPlanetaryNewsIndex();
+            eventVersion++;
             done();
         }
         MekHQ.getLogger().log(getClass(), METHOD_NAME, LogLevel.INFO,
@@ -491,21 +510,7 @@ public class Systems {
     }
 
     public void visitNearbySystems(final double centerX, final double centerY, final int distance, Consumer<PlanetarySystem> visitor) {
-        int gridRadius = (int)Math.ceil(distance / 30.0);
-        int gridX = (int)(centerX / 30.0);
-        int gridY = (int)(centerY / 30.0);
-        for (int x = gridX - gridRadius; x <= gridX + gridRadius; x++) {
-            for (int y = gridY - gridRadius; y <= gridY + gridRadius; y++) {
-                Set<PlanetarySystem> grid = getSystemGrid(x, y);
-                if (null != grid) {
-                    for (PlanetarySystem p : grid) {
-                        if (p.getDistanceTo(centerX, centerY) <= distance) {
-                            visitor.accept(p);
-                        }
-                    }
-                }
-            }
-        }
+        systemIndex.visitWithin(centerX, centerY, distance, visitor);
     }
 
     public void visitNearbySystems(final PlanetarySystem system, final int distance, Consumer<PlanetarySystem> visitor) {
@@ -572,13 +577,7 @@ public class Systems {
         systems = null;
         getInstance();
         if(waitForFinish) {
-            try {
-                while(!systems.isInitialized()) {
-                    Thread.sleep(10);
-                }
-            } catch(InterruptedException iex) {
-                MekHQ.getLogger().error(Systems.class, "reload(boolean)", iex); //$NON-NLS-1$
-            }
+            StartupTasks.await(systems.getLoadingFuture());
         }
     }
 
@@ -626,8 +625,10 @@ public class Systems {
                     } else {
                         planetaryEvent.copyDataFrom(event);
                     }
+                    indexPlanetaryNews(system.getPlanet(position), planetaryEvent);
                 }
             }
+            eventVersion++;
         }
         return true;
     }
@@ -658,6 +659,8 @@ public class Systems {
                     }
                 }
             }
+            system.refreshEvents();
+            eventVersion++;
         }
         return true;
     }
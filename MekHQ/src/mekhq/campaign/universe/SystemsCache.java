@@ -0,0 +1,272 @@
+/*
+ * SystemsCache.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.universe;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import megamek.common.annotations.Nullable;
+import mekhq.MekHQ;
+import mekhq.io.AllowedClassesInputStream;
+
+/**
+ * A binary snapshot of the parsed planetary systems, so later startups can skip parsing the XML
+ * data files.
+ *
+ * The file starts with a header listing the size and SHA-256 hash of each source file the
+ * systems were parsed from. The snapshot is only used if the source files are still the same,
+ * in which case the serialized systems are read from a memory mapped view of the file. Only the
+ * classes that make up the systems are accepted when reading it, so a tampered snapshot cannot
+ * be used to create other objects.
+ */
+class SystemsCache {
+    private static final int MAGIC = 0x4D485153; // "MHQS"
+    /* Increase whenever the serialized form of the systems, planets or events changes */
+    private static final int VERSION = 1;
+
+    /* The classes the serialized systems are made of, besides those of ALLOWED_PACKAGES */
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            "java.lang.Boolean", "java.lang.Double", "java.lang.Enum", "java.lang.Integer", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+            "java.lang.Long", "java.lang.Number", "java.lang.String", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "java.util.ArrayList", "java.util.Arrays$ArrayList", "java.util.HashMap", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "java.util.HashSet", "java.util.TreeMap", "java.util.UUID")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    /* The packages whose classes may be part of the serialized systems */
+    private static final String[] ALLOWED_PACKAGES = {
+            "mekhq.campaign.universe.", "org.joda.time." //$NON-NLS-1$ //$NON-NLS-2$
+    };
+
+    private final File cacheFile;
+    private final List<File> sourceFiles;
+
+    /**
+     * @param cacheFile       the snapshot file
+     * @param defaultFilePath the main systems file
+     * @param planetsPath     the directory of additional system files
+     */
+    SystemsCache(File cacheFile, String defaultFilePath, String planetsPath) {
+        this.cacheFile = cacheFile;
+        sourceFiles = new ArrayList<>();
+        sourceFiles.add(new File(defaultFilePath));
+        // The same files, in the same order, as Utilities.parseXMLFiles
+        File[] files = new File(planetsPath).listFiles((dir, name) -> name.toLowerCase(Locale.ROOT).endsWith(".xml")); //$NON-NLS-1$
+        if (null != files) {
+            Arrays.sort(files, Comparator.comparing(File::getPath));
+            for (File file : files) {
+                if (file.isFile()) {
+                    sourceFiles.add(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the size and hash of each source file, or <code>null</code> if they could not be read
+     */
+    @Nullable List<String> getFingerprint() {
+        try {
+            List<String> retVal = new ArrayList<>(sourceFiles.size());
+            byte[] buffer = new byte[65536];
+            for (File file : sourceFiles) {
+                if (!file.isFile()) {
+                    retVal.add(file.getPath() + ":missing"); //$NON-NLS-1$
+                    continue;
+                }
+                MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+                try (InputStream is = new DigestInputStream(new FileInputStream(file), digest)) {
+                    while (is.read(buffer) >= 0) {
+                        // just digesting
+                    }
+                }
+                StringBuilder sb = new StringBuilder(file.getPath()).append(':').append(file.length()).append(':');
+                for (byte b : digest.digest()) {
+                    sb.append(String.format("%02x", b)); //$NON-NLS-1$
+                }
+                retVal.add(sb.toString());
+            }
+            return retVal;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            MekHQ.getLogger().error(getClass(), "getFingerprint()", e); //$NON-NLS-1$
+            return null;
+        }
+    }
+
+    /**
+     * Reads the systems from the snapshot.
+     *
+     * @param fingerprint the fingerprint of the current source files
+     * @return the systems, or <code>null</code> if there is no snapshot of the current source files
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable List<PlanetarySystem> read(List<String> fingerprint) {
+        final String METHOD_NAME = "read(List<String>)"; //$NON-NLS-1$
+        if ((null == fingerprint) || !cacheFile.isFile()) {
+            return null;
+        }
+        try (FileChannel channel = new FileInputStream(cacheFile).getChannel()) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            if (channel.read(length, 0) < 4) {
+                return null;
+            }
+            length.flip();
+            int headerLength = length.getInt();
+            if ((headerLength <= 0) || (headerLength > channel.size() - 4)) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(headerLength);
+            channel.read(header, 4);
+            if (!fingerprint.equals(readHeader(header.array()))) {
+                return null;
+            }
+
+            long start = 4L + headerLength;
+            ByteBuffer body = channel.map(FileChannel.MapMode.READ_ONLY, start, channel.size() - start);
+            try (ObjectInputStream ois = new AllowedClassesInputStream(new ByteBufferInputStream(body),
+                    ALLOWED_CLASSES, ALLOWED_PACKAGES)) {
+                return (List<PlanetarySystem>) ois.readObject();
+            }
+        } catch (Exception e) {
+            MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the systems. The file is replaced in one step, so a failed write
+     * leaves the old snapshot in place.
+     *
+     * @param fingerprint the fingerprint of the source files the systems were parsed from
+     * @param systems     the systems
+     */
+    void write(List<String> fingerprint, Collection<PlanetarySystem> systems) {
+        final String METHOD_NAME = "write(List<String>,Collection<PlanetarySystem>)"; //$NON-NLS-1$
+        if (null == fingerprint) {
+            return;
+        }
+        File tempFile = new File(cacheFile.getPath() + ".tmp"); //$NON-NLS-1$
+        try {
+            File directory = cacheFile.getAbsoluteFile().getParentFile();
+            if ((null != directory) && !directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Could not create " + directory); //$NON-NLS-1$
+            }
+            byte[] header = writeHeader(fingerprint);
+            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+                DataOutputStream dos = new DataOutputStream(os);
+                dos.writeInt(header.length);
+                dos.write(header);
+                ObjectOutputStream oos = new ObjectOutputStream(os);
+                oos.writeObject(new ArrayList<>(systems));
+                oos.flush();
+            }
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
+            if (!tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    private static byte[] writeHeader(List<String> fingerprint) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(bytes)) {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeInt(fingerprint.size());
+            for (String entry : fingerprint) {
+                dos.writeUTF(entry);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** @return the fingerprint in the header, or <code>null</code> if it is from another format */
+    @Nullable private static List<String> readHeader(byte[] header) throws IOException {
+        try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(header))) {
+            if ((dis.readInt() != MAGIC) || (dis.readInt() != VERSION)) {
+                return null;
+            }
+            int count = dis.readInt();
+            List<String> retVal = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                retVal.add(dis.readUTF());
+            }
+            return retVal;
+        }
+    }
+
+    /** Reads a (memory mapped) buffer as a stream */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -189,6 +189,13 @@ public class CampaignGUI extends JPanel {
         histDailyReportDialog.dispose();
     }
 
+    private void showNewDayProfileDialog() {
+        NewDayProfileDialog newDayProfileDialog = new NewDayProfileDialog(getFrame(), this);
+        newDayProfileDialog.setModal(true);
+        newDayProfileDialog.setVisible(true);
+        newDayProfileDialog.dispose();
+    }
+
     private void showDailyReportDialog() {
         mainPanel.remove(panLog);
         mainPanel.setOneTouchExpandable(false);
@@ -958,7 +965,7 @@ public class CampaignGUI extends JPanel {
 
         //region View Menu
         // The View menu uses the following Mnemonic keys as of 19-March-2020:
-        // A, B, D, H, O, R
+        // A, B, D, H, O, R, T
         JMenu menuView = new JMenu(resourceMap.getString("menuView.text")); // NOI18N
         menuView.setMnemonic(KeyEvent.VK_V);
 
@@ -996,6 +1003,11 @@ public class CampaignGUI extends JPanel {
         miShowOverview.addActionListener(evt -> toggleOverviewTab());
         menuView.add(miShowOverview);
 
+        JMenuItem miNewDayProfileDialog = new JMenuItem(resourceMap.getString("miNewDayProfileDialog.text"));
+        miNewDayProfileDialog.setMnemonic(KeyEvent.VK_T);
+        miNewDayProfileDialog.addActionListener(evt -> showNewDayProfileDialog());
+        menuView.add(miNewDayProfileDialog);
+
         menuBar.add(menuView);
         //endregion View Menu
 
@@ -1966,6 +1978,30 @@ public class CampaignGUI extends JPanel {
         }
     }
 
+    /**
+     * Exports the new day timings to a CSV file
+     * @param dialogTitle   title of the dialog frame
+     * @param filename      file name to save to
+     */
+    public void exportNewDayProfile(String dialogTitle, String filename) {
+        if (!getCampaign().getNewDayProfiler().getHistory().isEmpty()) {
+            GUI.fileDialogSave(
+                    frame,
+                    dialogTitle,
+                    FileType.CSV,
+                    MekHQ.getCampaignsDirectory().getValue(),
+                    filename + "." + FileType.CSV.getRecommendedExtension())
+                    .ifPresent(f -> {
+                        File file = checkFileEnding(f, FileType.CSV.getRecommendedExtension());
+                        checkToBackupFile(file, file.getPath());
+                        String report = getCampaign().getNewDayProfiler().exportToCSV(file.getPath());
+                        JOptionPane.showMessageDialog(mainPanel, report);
+                    });
+        } else {
+            JOptionPane.showMessageDialog(mainPanel, resourceMap.getString("dlgNoNewDayProfile.text"));
+        }
+    }
+
     /**
      * Checks if a file already exists, if so it makes a backup copy.
      * @param file to determine if there is an existing file with that name
@@ -2669,6 +2705,7 @@ public class CampaignGUI extends JPanel {
 
     private ActionScheduler fundsScheduler = new ActionScheduler(this::refreshFunds);
     private ActionScheduler ratingScheduler = new ActionScheduler(this::refreshRating);
+    private ActionScheduler reportScheduler = new ActionScheduler(this::refreshReport);
 
     @Subscribe
     public void handleDayEnding(DayEndingEvent ev) {
@@ -2712,7 +2749,7 @@ public class CampaignGUI extends JPanel {
 
     @Subscribe
     public void handle(ReportEvent ev) {
-        refreshReport();
+        reportScheduler.schedule();
     }
 
     @Subscribe
@@ -22,6 +22,7 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
@@ -44,6 +45,7 @@ import java.awt.geom.Arc2D;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -89,6 +91,7 @@ import mekhq.campaign.universe.Faction.Tag;
 import mekhq.campaign.universe.SocioIndustrialData;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.universe.Systems;
+import mekhq.gui.utilities.ScreenQuadTree;
 
 /**
  * This is not functional yet. Just testing things out.
@@ -147,6 +150,15 @@ public class InterstellarMapPanel extends JPanel {
     private transient double maxY;
     private transient DateTime now;
 
+    // Screen positions of the systems, rebuilt when the map is zoomed or panned
+    private transient ScreenQuadTree<PlanetarySystem> systemTree;
+    private transient Collection<PlanetarySystem> systemTreeSystems;
+    private transient double systemTreeScale;
+    private transient double systemTreeCenterX;
+    private transient double systemTreeCenterY;
+    private transient int systemTreeWidth;
+    private transient int systemTreeHeight;
+
     public InterstellarMapPanel(Campaign c, CampaignGUI view) {
         campaign = c;
         systems = campaign.getSystems();
@@ -384,7 +396,7 @@ public class InterstellarMapPanel extends JPanel {
                 if (e.getButton() == MouseEvent.BUTTON1) {
                     if (e.getClickCount() >= 2) {
                       //center and zoom
-                        changeSelectedSystem(nearestNeighbour(scr2mapX(e.getX()), scr2mapY(e.getY())));
+                        changeSelectedSystem(nearestNeighbour(e.getX(), e.getY()));
                         if(conf.scale < 4.0) {
                             conf.scale = 4.0;
                         }
@@ -392,7 +404,7 @@ public class InterstellarMapPanel extends JPanel {
                         //bring up planetary system map
                         hqview.getMapTab().switchPlanetaryMap(selectedSystem);
                     } else {
-                        PlanetarySystem target = nearestNeighbour(scr2mapX(e.getX()), scr2mapY(e.getY()));
+                        PlanetarySystem target = nearestNeighbour(e.getX(), e.getY());
                         if(null == target) {
                             return;
                         }
@@ -451,6 +463,10 @@ public class InterstellarMapPanel extends JPanel {
                     lastMousePos.x = e.getX();
                     lastMousePos.y = e.getY();
                 }
+                // Name the system under the mouse, as its label may be hidden by others
+                PlanetarySystem hovered = getSystemTree().getNearest(e.getX(), e.getY(), getDotSize() * 1.8);
+                setToolTipText((null != hovered)
+                        ? hovered.getPrintableName(Utilities.getDateTimeDay(campaign.getCalendar())) : null);
             }
         });
 
@@ -471,8 +487,7 @@ public class InterstellarMapPanel extends JPanel {
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 g2.setColor(Color.BLACK);
                 g2.fillRect(0, 0, getWidth(), getHeight());
-                double size = 1 + 5 * Math.log(conf.scale);
-                size = Math.max(Math.min(size, conf.maxdotSize), conf.minDotSize);
+                double size = getDotSize();
 
                 final Stroke thick = new BasicStroke(2.0f);
                 final Stroke thin = new BasicStroke(1.2f);
@@ -773,26 +788,7 @@ public class InterstellarMapPanel extends JPanel {
                 }
 
                 //cycle through planets again and assign names - to make sure names go on outside
-                for(PlanetarySystem system : systems) {
-                    if(isSystemVisible(system, !optEmptySystems.isSelected())) {
-                        double x = map2scrX(system.getX());
-                        double y = map2scrY(system.getY());
-                        if (conf.showPlanetNamesThreshold == 0 || conf.scale > conf.showPlanetNamesThreshold
-                                || jumpPath.contains(system)
-                                || (null != campaign.getLocation().getJumpPath() && campaign.getLocation().getJumpPath().contains(system))) {
-                            final String planetName = system.getPrintableName(Utilities.getDateTimeDay(campaign.getCalendar()));
-                            final float xPos = (float) (x + size * 1.8);
-                            final float yPos = (float) y;
-                            g2.setPaint(Color.BLACK);
-                            g2.drawString(planetName, xPos - 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos + 1f);
-                            g2.drawString(planetName, xPos - 1f, yPos + 1f);
-                            g2.setPaint(Color.WHITE);
-                            g2.drawString(planetName, xPos, yPos);
-                        }
-                    }
-                }
+                drawLabels(g2, size, capitals);
             }
         };
         pane.add(mapPanel, Integer.valueOf(1));
@@ -991,10 +987,17 @@ public class InterstellarMapPanel extends JPanel {
         repaint();
     }
 
-     /**
-     * Calculate the nearest neighbour for the given point If anyone has a better algorithm than this stupid kind of shit, please, feel free to exchange my brute force thing... An good idea would be an voronoi diagram and the sweep algorithm from Steven Fortune.
+    /**
+     * Calculate the nearest neighbour for the given point on the screen. The systems on the screen
+     * are looked up in the quadtree; the others are only searched if the screen is empty.
      */
-    private PlanetarySystem nearestNeighbour(double x, double y) {
+    private PlanetarySystem nearestNeighbour(double scrX, double scrY) {
+        PlanetarySystem nearest = getSystemTree().getNearest(scrX, scrY, Double.MAX_VALUE);
+        if (null != nearest) {
+            return nearest;
+        }
+        double x = scr2mapX(scrX);
+        double y = scr2mapY(scrY);
         double minDiff = Double.MAX_VALUE;
         double diff = 0.0;
         PlanetarySystem minPlanet = null;
@@ -1008,6 +1011,101 @@ public class InterstellarMapPanel extends JPanel {
         return minPlanet;
     }
 
+    /**
+     * @return the screen positions of the systems on the screen, rebuilt if the map was zoomed,
+     *         panned or resized since the last call
+     */
+    private ScreenQuadTree<PlanetarySystem> getSystemTree() {
+        if ((null == systemTree) || (systemTreeSystems != systems) || (systemTreeScale != conf.scale)
+                || (systemTreeCenterX != conf.centerX) || (systemTreeCenterY != conf.centerY)
+                || (systemTreeWidth != getWidth()) || (systemTreeHeight != getHeight())) {
+            systemTreeSystems = systems;
+            systemTreeScale = conf.scale;
+            systemTreeCenterX = conf.centerX;
+            systemTreeCenterY = conf.centerY;
+            systemTreeWidth = getWidth();
+            systemTreeHeight = getHeight();
+
+            final double margin = getDotSize() * 2.0;
+            systemTree = new ScreenQuadTree<>(- margin, - margin,
+                    getWidth() + 2.0 * margin, getHeight() + 2.0 * margin);
+            for (PlanetarySystem system : systems) {
+                double x = map2scrX(system.getX());
+                double y = map2scrY(system.getY());
+                if ((x >= - margin) && (x <= getWidth() + margin) && (y >= - margin) && (y <= getHeight() + margin)) {
+                    systemTree.add(system, x, y);
+                }
+            }
+        }
+        return systemTree;
+    }
+
+    /**
+     * @return the radius of the system dots at the current zoom level
+     */
+    private double getDotSize() {
+        double size = 1 + 5 * Math.log(conf.scale);
+        return Math.max(Math.min(size, conf.maxdotSize), conf.minDotSize);
+    }
+
+    /**
+     * Draws the system names. The labels are placed in order of priority - the current system,
+     * the selected one, the jump paths, then faction capitals and the rest - and a label that
+     * would overlap one already placed is left out, so zooming out does not draw thousands of
+     * unreadable names. Capitals are named at any zoom level where they have room.
+     */
+    private void drawLabels(Graphics2D g2, double size, Map<Faction, String> capitals) {
+        final boolean showAll = (conf.showPlanetNamesThreshold == 0) || (conf.scale > conf.showPlanetNamesThreshold);
+        final JumpPath travelPath = campaign.getLocation().getJumpPath();
+        final Set<String> capitalIds = new HashSet<>(capitals.values());
+        final boolean hideEmpty = !optEmptySystems.isSelected();
+
+        List<List<PlanetarySystem>> byPriority = new ArrayList<>();
+        for (int i = 0; i < 5; ++ i) {
+            byPriority.add(new ArrayList<>());
+        }
+        for (PlanetarySystem system : systems) {
+            if (!isSystemVisible(system, hideEmpty)) {
+                continue;
+            }
+            if (system.equals(campaign.getCurrentSystem())) {
+                byPriority.get(0).add(system);
+            } else if (system.equals(selectedSystem)) {
+                byPriority.get(1).add(system);
+            } else if (jumpPath.contains(system) || ((null != travelPath) && travelPath.contains(system))) {
+                byPriority.get(2).add(system);
+            } else if (capitalIds.contains(system.getId())) {
+                byPriority.get(3).add(system);
+            } else if (showAll) {
+                byPriority.get(4).add(system);
+            }
+        }
+
+        final FontMetrics metrics = g2.getFontMetrics();
+        ScreenQuadTree<PlanetarySystem> placed = new ScreenQuadTree<>(0.0, 0.0, getWidth(), getHeight());
+        for (List<PlanetarySystem> candidates : byPriority) {
+            for (PlanetarySystem system : candidates) {
+                final String planetName = system.getPrintableName(now);
+                final float xPos = (float) (map2scrX(system.getX()) + size * 1.8);
+                final float yPos = (float) map2scrY(system.getY());
+                // The label with its one pixel outline
+                Rectangle2D bounds = new Rectangle2D.Double(xPos - 1.0, yPos - metrics.getAscent() - 1.0,
+                        metrics.stringWidth(planetName) + 2.0, metrics.getAscent() + metrics.getDescent() + 2.0);
+                if (placed.intersects(bounds)) {
+                    continue;
+                }
+                placed.add(system, bounds);
+                g2.setPaint(Color.BLACK);
+                g2.drawString(planetName, xPos - 1f, yPos - 1f);
+                g2.drawString(planetName, xPos + 1f, yPos - 1f);
+                g2.drawString(planetName, xPos + 1f, yPos + 1f);
+                g2.drawString(planetName, xPos - 1f, yPos + 1f);
+                g2.setPaint(Color.WHITE);
+                g2.drawString(planetName, xPos, yPos);
+            }
+        }
+    }
+
     private boolean isSystemEmpty(PlanetarySystem system) {
         Set<Faction> factions = system.getFactionSet(now);
         if((null == factions) || factions.isEmpty()) {
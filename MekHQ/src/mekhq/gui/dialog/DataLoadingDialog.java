@@ -20,9 +20,9 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.ImageIcon;
 import javax.swing.JDialog;
@@ -32,26 +32,19 @@ import javax.swing.JOptionPane;
 import javax.swing.JProgressBar;
 import javax.swing.SwingWorker;
 
-import megamek.client.RandomNameGenerator;
-import megamek.common.MechSummaryCache;
-import megamek.common.QuirksHandler;
 import megamek.common.logging.LogLevel;
 import megamek.common.options.GameOptions;
 import megamek.common.util.EncodeControl;
 import mekhq.MekHQ;
 import mekhq.NullEntityException;
+import mekhq.StartupTasks;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.CampaignFactory;
 import mekhq.campaign.GamePreset;
 import mekhq.campaign.event.OptionsChangedEvent;
-import mekhq.campaign.finances.CurrencyManager;
 import mekhq.campaign.mod.am.InjuryTypes;
-import mekhq.campaign.personnel.Bloodname;
-import mekhq.campaign.universe.Faction;
-import mekhq.campaign.universe.RATManager;
 import mekhq.gui.preferences.JWindowPreference;
 import mekhq.preferences.PreferencesNode;
-import mekhq.campaign.universe.Systems;
 
 public class DataLoadingDialog extends JDialog implements PropertyChangeListener {
     private static final long serialVersionUID = -3454307876761238915L;
@@ -126,53 +119,16 @@ public class DataLoadingDialog extends JDialog implements PropertyChangeListener
 
             //Initialize progress property.
             setProgress(0);
-            try {
-                Faction.generateFactions();
-            } catch (Exception e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-            try{
-                CurrencyManager.getInstance().loadCurrencies();
-            } catch (Exception e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-            try {
-                Bloodname.loadBloodnameData();
-            } catch (Exception e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-            try {
-                //Load values needed for CampaignOptionsDialog
-                RATManager.populateCollectionNames();
-            } catch (Exception e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-            while (!Systems.getInstance().isInitialized()) {
-                //Sleep for up to one second.
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException ignored) {
-
-                }
-            }
-            RandomNameGenerator.getInstance();
+            StartupTasks startupTasks = StartupTasks.getInstance();
+            //load in directory items and tilesets alongside the universe data
+            CompletableFuture<Void> icons = CompletableFuture.runAsync(() -> app.getIconPackage().loadDirectories(),
+                    StartupTasks.getExecutor());
+            startupTasks.await(StartupTasks.FACTIONS, StartupTasks.CURRENCIES, StartupTasks.BLOODNAMES,
+                    StartupTasks.RAT_COLLECTIONS, StartupTasks.SYSTEMS, StartupTasks.NAMES);
             setProgress(1);
-            try {
-                QuirksHandler.initQuirksList();
-            } catch (IOException e) {
-                MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-            }
-            while (!MechSummaryCache.getInstance().isInitialized()) {
-                //Sleep for up to one second.
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    MekHQ.getLogger().error(getClass(), METHOD_NAME, e);
-                }
-            }
+            startupTasks.await(StartupTasks.QUIRKS, StartupTasks.UNITS);
             setProgress(2);
-            //load in directory items and tilesets
-            app.getIconPackage().loadDirectories();
+            StartupTasks.await(icons);
             setProgress(3);
             boolean newCampaign = false;
             if(null == fileCampaign) {
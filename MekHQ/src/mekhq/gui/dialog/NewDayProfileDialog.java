@@ -0,0 +1,226 @@
+/*
+ * NewDayProfileDialog.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.gui.dialog;
+
+import java.awt.Dimension;
+import java.awt.Frame;
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+
+import megamek.common.util.EncodeControl;
+import mekhq.MekHQ;
+import mekhq.campaign.NewDayProfiler;
+import mekhq.gui.CampaignGUI;
+import mekhq.gui.preferences.JWindowPreference;
+import mekhq.preferences.PreferencesNode;
+
+/**
+ * Shows the timings recorded by the {@link NewDayProfiler} for the recent days, one row per day
+ * and one column per phase.
+ */
+public class NewDayProfileDialog extends JDialog {
+    private static final long serialVersionUID = 6215290434862938447L;
+
+    private static final int METRIC_TIME = 0;
+    private static final int METRIC_ALLOCATED = 1;
+    private static final int METRIC_ITEMS = 2;
+
+    private ResourceBundle resourceMap = ResourceBundle.getBundle("mekhq.resources.NewDayProfileDialog", new EncodeControl()); //$NON-NLS-1$
+
+    private CampaignGUI gui;
+    private JComboBox<String> pickMetric;
+    private ProfileTableModel profileModel;
+
+    /**
+     * NewDayProfileDialog - opens a dialog that shows the timings of the recent new days
+     * @param owner - the Frame owner
+     * @param gui - a CampaignGUI object
+     */
+    public NewDayProfileDialog(Frame owner, CampaignGUI gui) {
+        super(owner, true);
+        this.gui = gui;
+        this.setPreferredSize(new Dimension(900, 500));
+        initComponents();
+        pack();
+
+        setLocationRelativeTo(owner);
+        setUserPreferences();
+    }
+
+    private void initComponents() {
+        setTitle(resourceMap.getString("title.text"));
+
+        getContentPane().setLayout(new GridBagLayout());
+
+        JLabel infoLabel = new JLabel(resourceMap.getString("infoMessage.text"));
+
+        JPanel filterPanel = new JPanel();
+        pickMetric = new JComboBox<>(new String[] {
+                resourceMap.getString("metricTime.text"),
+                resourceMap.getString("metricAllocated.text"),
+                resourceMap.getString("metricItems.text")
+        });
+        pickMetric.addActionListener(event -> profileModel.setMetric(pickMetric.getSelectedIndex()));
+        filterPanel.add(new JLabel(resourceMap.getString("metric.text")));
+        filterPanel.add(pickMetric);
+
+        profileModel = new ProfileTableModel(gui.getCampaign().getNewDayProfiler().getHistory());
+        JTable profileTable = new JTable(profileModel);
+        profileTable.setAutoCreateRowSorter(true);
+
+        JPanel buttonPanel = new JPanel();
+        JButton exportBtn = new JButton(resourceMap.getString("exportBtn.text"));
+        exportBtn.addActionListener(event -> gui.exportNewDayProfile(
+                resourceMap.getString("exportDialog.title"), "newDayTimings"));
+        JButton closeBtn = new JButton(resourceMap.getString("closeBtn.text"));
+        closeBtn.addActionListener(event -> setVisible(false));
+        buttonPanel.add(exportBtn);
+        buttonPanel.add(closeBtn);
+
+        GridBagConstraints gridBag = new GridBagConstraints();
+        gridBag.fill = GridBagConstraints.HORIZONTAL;
+        gridBag.anchor = GridBagConstraints.NORTHWEST;
+        gridBag.gridx = 0;
+        gridBag.gridy = 0;
+        gridBag.insets = new Insets(15, 15, 15, 15);
+        getContentPane().add(infoLabel, gridBag);
+
+        gridBag = new GridBagConstraints();
+        gridBag.fill = GridBagConstraints.HORIZONTAL;
+        gridBag.gridx = 0;
+        gridBag.gridy = 1;
+        getContentPane().add(filterPanel, gridBag);
+
+        gridBag = new GridBagConstraints();
+        gridBag.fill = GridBagConstraints.BOTH;
+        gridBag.gridx = 0;
+        gridBag.gridy = 2;
+        gridBag.weightx = 1.0;
+        gridBag.weighty = 1.0;
+        getContentPane().add(new JScrollPane(profileTable), gridBag);
+
+        gridBag = new GridBagConstraints();
+        gridBag.fill = GridBagConstraints.HORIZONTAL;
+        gridBag.anchor = GridBagConstraints.PAGE_END;
+        gridBag.gridx = 0;
+        gridBag.gridy = 3;
+        getContentPane().add(buttonPanel, gridBag);
+    }
+
+    private void setUserPreferences() {
+        PreferencesNode preferences = MekHQ.getPreferences().forClass(NewDayProfileDialog.class);
+
+        this.setName("dialog");
+        preferences.manage(new JWindowPreference(this));
+    }
+
+    private class ProfileTableModel extends AbstractTableModel {
+        private static final long serialVersionUID = -2846397428516837126L;
+
+        private final List<NewDayProfiler.DayProfile> days;
+        private final NewDayProfiler.Phase[] phases = NewDayProfiler.Phase.values();
+        private final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        private int metric = METRIC_TIME;
+
+        public ProfileTableModel(List<NewDayProfiler.DayProfile> days) {
+            this.days = days;
+        }
+
+        public void setMetric(int metric) {
+            this.metric = metric;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return days.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return phases.length + 2;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            if (column == 0) {
+                return resourceMap.getString("date.text");
+            } else if (column == 1) {
+                return resourceMap.getString("total.text");
+            }
+            return phases[column - 2].toString();
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            if (column == 0) {
+                return String.class;
+            }
+            return (metric == METRIC_TIME) ? Double.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            NewDayProfiler.DayProfile day = days.get(row);
+            if (column == 0) {
+                return dateFormat.format(day.getDate());
+            } else if (column == 1) {
+                long total = 0;
+                for (NewDayProfiler.Phase phase : phases) {
+                    total += getMetricValue(day.getPhase(phase));
+                }
+                return (metric == METRIC_TIME) ? (Object) (total / 1000.0) : (Object) total;
+            }
+            long value = getMetricValue(day.getPhase(phases[column - 2]));
+            return (metric == METRIC_TIME) ? (Object) (value / 1000.0) : (Object) value;
+        }
+
+        /** @return the value of the selected metric, with times in microseconds */
+        private long getMetricValue(NewDayProfiler.PhaseProfile profile) {
+            if (null == profile) {
+                return 0;
+            }
+            switch (metric) {
+                case METRIC_ALLOCATED:
+                    return Math.max(profile.getAllocatedBytes(), 0) / 1024;
+                case METRIC_ITEMS:
+                    return profile.getItems();
+                case METRIC_TIME:
+                default:
+                    return profile.getNanos() / 1000;
+            }
+        }
+    }
+}
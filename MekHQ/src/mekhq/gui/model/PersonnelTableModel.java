@@ -409,164 +409,164 @@ public class PersonnelTableModel extends DataTableModel {
             case COL_TYPE:
                 return p.getRoleDesc();
             case COL_MECH:
-                if (p.hasSkill(SkillType.S_GUN_MECH)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_MECH).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_MECH)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_MECH).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_MECH)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_MECH).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_MECH)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_MECH).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_AERO:
-                if (p.hasSkill(SkillType.S_GUN_AERO)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_AERO).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_AERO)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_AERO).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_AERO)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_AERO).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_AERO)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_AERO).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_JET:
-                if (p.hasSkill(SkillType.S_GUN_JET)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_JET).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_JET)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_JET).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_JET)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_JET).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_JET)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_JET).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_SPACE:
-                if (p.hasSkill(SkillType.S_GUN_SPACE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_SPACE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_SPACE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_SPACE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_SPACE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_SPACE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_SPACE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_SPACE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_VEE:
-                if (p.hasSkill(SkillType.S_GUN_VEE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_VEE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_VEE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_VEE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_GVEE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_GVEE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_GVEE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_GVEE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_NVEE:
-                if (p.hasSkill(SkillType.S_GUN_VEE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_VEE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_VEE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_VEE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_NVEE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_NVEE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_NVEE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_NVEE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_VTOL:
-                if (p.hasSkill(SkillType.S_GUN_VEE)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_GUN_VEE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_VEE)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_GUN_VEE).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 toReturn += "/";
-                if (p.hasSkill(SkillType.S_PILOT_VTOL)) {
-                    toReturn += Integer.toString(p.getSkill(SkillType.S_PILOT_VTOL).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_PILOT_VTOL)) {
+                    toReturn += Integer.toString(p.getSkill(SkillType.ORD_PILOT_VTOL).getFinalSkillValue());
                 } else {
                     toReturn += "-";
                 }
                 return toReturn;
             case COL_GUN_BA:
-                if (p.hasSkill(SkillType.S_GUN_BA)) {
-                    return Integer.toString(p.getSkill(SkillType.S_GUN_BA).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_GUN_BA)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_GUN_BA).getFinalSkillValue());
                 }
                 break;
             case COL_ANTI_MECH:
-                if (p.hasSkill(SkillType.S_ANTI_MECH)) {
-                    return Integer.toString(p.getSkill(SkillType.S_ANTI_MECH).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_ANTI_MECH)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_ANTI_MECH).getFinalSkillValue());
                 }
                 break;
             case COL_SMALL_ARMS:
-                if (p.hasSkill(SkillType.S_SMALL_ARMS)) {
-                    return Integer.toString(p.getSkill(SkillType.S_SMALL_ARMS).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_SMALL_ARMS)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_SMALL_ARMS).getFinalSkillValue());
                 }
                 break;
             case COL_ARTY:
-                if (p.hasSkill(SkillType.S_ARTILLERY)) {
-                    return Integer.toString(p.getSkill(SkillType.S_ARTILLERY).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_ARTILLERY)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_ARTILLERY).getFinalSkillValue());
                 }
                 break;
             case COL_TACTICS:
-                if (p.hasSkill(SkillType.S_TACTICS)) {
-                    return Integer.toString(p.getSkill(SkillType.S_TACTICS).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_TACTICS)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_TACTICS).getFinalSkillValue());
                 }
                 break;
             case COL_STRATEGY:
-                if (p.hasSkill(SkillType.S_STRATEGY)) {
-                    return Integer.toString(p.getSkill(SkillType.S_STRATEGY).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_STRATEGY)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_STRATEGY).getFinalSkillValue());
                 }
                 break;
             case COL_TECH_MECH:
-                if (p.hasSkill(SkillType.S_TECH_MECH)) {
-                    return Integer.toString(p.getSkill(SkillType.S_TECH_MECH).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_TECH_MECH)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_TECH_MECH).getFinalSkillValue());
                 }
                 break;
             case COL_TECH_AERO:
-                if (p.hasSkill(SkillType.S_TECH_AERO)) {
-                    return Integer.toString(p.getSkill(SkillType.S_TECH_AERO).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_TECH_AERO)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_TECH_AERO).getFinalSkillValue());
                 }
                 break;
             case COL_TECH_VEE:
-                if (p.hasSkill(SkillType.S_TECH_MECHANIC)) {
-                    return Integer.toString(p.getSkill(SkillType.S_TECH_MECHANIC).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_TECH_MECHANIC)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_TECH_MECHANIC).getFinalSkillValue());
                 }
                 break;
             case COL_TECH_BA:
-                if (p.hasSkill(SkillType.S_TECH_BA)) {
-                    return Integer.toString(p.getSkill(SkillType.S_TECH_BA).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_TECH_BA)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_TECH_BA).getFinalSkillValue());
                 }
                 break;
             case COL_MEDICAL:
-                if (p.hasSkill(SkillType.S_DOCTOR)) {
-                    return Integer.toString(p.getSkill(SkillType.S_DOCTOR).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_DOCTOR)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_DOCTOR).getFinalSkillValue());
                 }
                 break;
             case COL_ADMIN:
-                if (p.hasSkill(SkillType.S_ADMIN)) {
-                    return Integer.toString(p.getSkill(SkillType.S_ADMIN).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_ADMIN)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_ADMIN).getFinalSkillValue());
                 }
                 break;
             case COL_NEG:
-                if (p.hasSkill(SkillType.S_NEG)) {
-                    return Integer.toString(p.getSkill(SkillType.S_NEG).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_NEG)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_NEG).getFinalSkillValue());
                 }
                 break;
             case COL_SCROUNGE:
-                if (p.hasSkill(SkillType.S_SCROUNGE)) {
-                    return Integer.toString(p.getSkill(SkillType.S_SCROUNGE).getFinalSkillValue());
+                if (p.hasSkill(SkillType.ORD_SCROUNGE)) {
+                    return Integer.toString(p.getSkill(SkillType.ORD_SCROUNGE).getFinalSkillValue());
                 }
                 break;
             case COL_EDGE:
@@ -640,7 +640,7 @@ public class PersonnelTableModel extends DataTableModel {
             case COL_SALARY:
                 return p.getSalary().toAmountAndSymbolString();
             case COL_KILLS:
-                return Integer.toString(getCampaign().getKillsFor(p.getId()).size());
+                return Integer.toString(getCampaign().getKillCount(p.getId()));
             case COL_ORIGIN_FACTION:
                 return p.getOriginFaction().getFullName(getCampaign().getGameYear());
             case COL_ORIGIN_PLANET:
@@ -95,9 +95,10 @@ public class ProcurementTableModel extends DataTableModel {
             return shoppingItem.getBuyCost().multipliedBy(shoppingItem.getQuantity()).toAmountAndSymbolString();
         }
         if(col == COL_TARGET) {
-            TargetRoll target = getCampaign().getTargetForAcquisition(shoppingItem, getCampaign().getLogisticsPerson(), false);
-            String value = target.getValueAsString();
-            if(target.getValue() != TargetRoll.IMPOSSIBLE && target.getValue() != TargetRoll.AUTOMATIC_SUCCESS && target.getValue() != TargetRoll.AUTOMATIC_FAIL) {
+            int target = getCampaign().getTargetValueForAcquisition(shoppingItem, getCampaign().getLogisticsPerson(), false);
+            // Only the number is shown and sorted on, the modifiers are in the tooltip
+            String value = new TargetRoll(target, "").getValueAsString();
+            if(target != TargetRoll.IMPOSSIBLE && target != TargetRoll.AUTOMATIC_SUCCESS && target != TargetRoll.AUTOMATIC_FAIL) {
                 value += "+";
             }
             return value;
@@ -187,9 +187,9 @@ public class TaskTableModel extends DataTableModel {
 	                }
 
 	                if (null != tech) {
-	                	TargetRoll roll = gui.getCampaign().getTargetFor(part, tech);
+	                	int targetValue = gui.getCampaign().getTargetValueFor(part, tech);
 
-	                	if ((roll.getValue() == TargetRoll.IMPOSSIBLE) || (roll.getValue() == TargetRoll.AUTOMATIC_FAIL) || (roll.getValue() == TargetRoll.CHECK_FALSE)) {
+	                	if ((targetValue == TargetRoll.IMPOSSIBLE) || (targetValue == TargetRoll.AUTOMATIC_FAIL) || (targetValue == TargetRoll.CHECK_FALSE)) {
 	                		availableLevel = REPAIR_STATE.BLOCKED;
 	                	}
 	                }
@@ -0,0 +1,249 @@
+/*
+ * ScreenQuadTree.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.gui.utilities;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A quadtree of items with rectangular bounds in screen space, used to find what is under
+ * the mouse and whether a new label would overlap the labels already placed.
+ *
+ * Each item is kept in the smallest node that contains its whole bounds, so items that
+ * straddle the edge of a quadrant, or lie outside the tree, stay in a higher node.
+ *
+ * @param <T> the type of the items
+ */
+public class ScreenQuadTree<T> {
+    private static final int MAX_ITEMS = 8;
+    private static final int MAX_DEPTH = 10;
+
+    private final Node root;
+    private int size = 0;
+
+    /**
+     * Creates an empty tree covering the given area. Items outside the area can still be added,
+     * but are not subdivided.
+     */
+    public ScreenQuadTree(double x, double y, double width, double height) {
+        root = new Node(x, y, width, height, 0);
+    }
+
+    /** Adds an item with the given bounds */
+    public void add(T item, Rectangle2D bounds) {
+        root.add(new Entry<>(item, bounds));
+        ++ size;
+    }
+
+    /** Adds an item at a single point */
+    public void add(T item, double x, double y) {
+        add(item, new Rectangle2D.Double(x, y, 0.0, 0.0));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return <code>true</code> if the bounds of any item intersect the area
+     */
+    public boolean intersects(Rectangle2D area) {
+        return root.intersects(area);
+    }
+
+    /**
+     * Calls the visitor with every item whose bounds intersect the area.
+     */
+    public void visit(Rectangle2D area, BiConsumer<T, Rectangle2D> visitor) {
+        root.visit(area, visitor);
+    }
+
+    /**
+     * Finds the item whose bounds are closest to a point.
+     *
+     * @param x           the x coordinate of the point
+     * @param y           the y coordinate of the point
+     * @param maxDistance the largest distance to look at
+     * @return the closest item, or <code>null</code> if there is none within the distance
+     */
+    public T getNearest(double x, double y, double maxDistance) {
+        Nearest<T> nearest = new Nearest<>(maxDistance * maxDistance);
+        root.findNearest(x, y, nearest);
+        return nearest.item;
+    }
+
+    private static double distanceSq(Rectangle2D bounds, double x, double y) {
+        double dx = Math.max(Math.max(bounds.getMinX() - x, x - bounds.getMaxX()), 0.0);
+        double dy = Math.max(Math.max(bounds.getMinY() - y, y - bounds.getMaxY()), 0.0);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * @return the number of items kept in nodes that have not been split
+     */
+    int getLeafItemCount() {
+        return root.getLeafItemCount();
+    }
+
+    private static boolean contains(Rectangle2D outer, Rectangle2D inner) {
+        // Unlike Rectangle2D.contains this also works for the zero-sized bounds of points, and
+        // includes the edges
+        return (outer.getMinX() <= inner.getMinX()) && (inner.getMaxX() <= outer.getMaxX())
+                && (outer.getMinY() <= inner.getMinY()) && (inner.getMaxY() <= outer.getMaxY());
+    }
+
+    private static boolean intersect(Rectangle2D a, Rectangle2D b) {
+        // Unlike Rectangle2D.intersects this also works for the zero-sized bounds of points
+        return (a.getMinX() <= b.getMaxX()) && (b.getMinX() <= a.getMaxX())
+                && (a.getMinY() <= b.getMaxY()) && (b.getMinY() <= a.getMaxY());
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final Rectangle2D bounds;
+
+        private Entry(T item, Rectangle2D bounds) {
+            this.item = item;
+            this.bounds = bounds;
+        }
+    }
+
+    private static final class Nearest<T> {
+        private T item = null;
+        private double distanceSq;
+
+        private Nearest(double distanceSq) {
+            this.distanceSq = distanceSq;
+        }
+    }
+
+    private final class Node {
+        private final Rectangle2D bounds;
+        private final int depth;
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private List<Node> children = null;
+
+        private Node(double x, double y, double width, double height, int depth) {
+            bounds = new Rectangle2D.Double(x, y, width, height);
+            this.depth = depth;
+        }
+
+        private void add(Entry<T> entry) {
+            if (null != children) {
+                for (Node child : children) {
+                    if (contains(child.bounds, entry.bounds)) {
+                        child.add(entry);
+                        return;
+                    }
+                }
+                entries.add(entry);
+                return;
+            }
+            entries.add(entry);
+            if ((entries.size() > MAX_ITEMS) && (depth < MAX_DEPTH)) {
+                split();
+            }
+        }
+
+        private void split() {
+            double halfWidth = bounds.getWidth() / 2.0;
+            double halfHeight = bounds.getHeight() / 2.0;
+            children = new ArrayList<>(4);
+            children.add(new Node(bounds.getX(), bounds.getY(), halfWidth, halfHeight, depth + 1));
+            children.add(new Node(bounds.getX() + halfWidth, bounds.getY(), halfWidth, halfHeight, depth + 1));
+            children.add(new Node(bounds.getX(), bounds.getY() + halfHeight, halfWidth, halfHeight, depth + 1));
+            children.add(new Node(bounds.getX() + halfWidth, bounds.getY() + halfHeight, halfWidth, halfHeight, depth + 1));
+            List<Entry<T>> old = new ArrayList<>(entries);
+            entries.clear();
+            for (Entry<T> entry : old) {
+                add(entry);
+            }
+        }
+
+        private int getLeafItemCount() {
+            if (null == children) {
+                return entries.size();
+            }
+            int count = 0;
+            for (Node child : children) {
+                count += child.getLeafItemCount();
+            }
+            return count;
+        }
+
+        private boolean intersects(Rectangle2D area) {
+            for (Entry<T> entry : entries) {
+                if (intersect(entry.bounds, area)) {
+                    return true;
+                }
+            }
+            if (null != children) {
+                for (Node child : children) {
+                    if (intersect(child.bounds, area) && child.intersects(area)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void visit(Rectangle2D area, BiConsumer<T, Rectangle2D> visitor) {
+            for (Entry<T> entry : entries) {
+                if (intersect(entry.bounds, area)) {
+                    visitor.accept(entry.item, entry.bounds);
+                }
+            }
+            if (null != children) {
+                for (Node child : children) {
+                    if (intersect(child.bounds, area)) {
+                        child.visit(area, visitor);
+                    }
+                }
+            }
+        }
+
+        private void findNearest(double x, double y, Nearest<T> nearest) {
+            for (Entry<T> entry : entries) {
+                double distanceSq = distanceSq(entry.bounds, x, y);
+                if (distanceSq <= nearest.distanceSq) {
+                    nearest.item = entry.item;
+                    nearest.distanceSq = distanceSq;
+                }
+            }
+            if (null != children) {
+                // Look at the closest quadrants first so the others can be skipped
+                List<Node> sorted = new ArrayList<>(children);
+                sorted.sort((a, b) -> Double.compare(distanceSq(a.bounds, x, y), distanceSq(b.bounds, x, y)));
+                for (Node child : sorted) {
+                    if (distanceSq(child.bounds, x, y) <= nearest.distanceSq) {
+                        child.findNearest(x, y, nearest);
+                    }
+                }
+            }
+        }
+    }
+}
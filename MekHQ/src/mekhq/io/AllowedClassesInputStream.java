@@ -0,0 +1,84 @@
+/*
+ * AllowedClassesInputStream.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Set;
+
+/**
+ * Reads serialized objects, refusing any class that is not explicitly allowed, so a tampered
+ * file cannot be used to create other objects. Arrays are allowed if their component type is,
+ * and arrays of primitives always are. Proxy classes are never allowed.
+ */
+public class AllowedClassesInputStream extends ObjectInputStream {
+    private final Set<String> allowedClasses;
+    private final String[] allowedPrefixes;
+
+    /**
+     * @param in              the stream to read
+     * @param allowedClasses  the names of the classes that may be read
+     * @param allowedPrefixes the prefixes, such as package names, of other classes that may be read
+     */
+    public AllowedClassesInputStream(InputStream in, Set<String> allowedClasses, String... allowedPrefixes)
+            throws IOException {
+        super(in);
+        this.allowedClasses = allowedClasses;
+        this.allowedPrefixes = allowedPrefixes;
+    }
+
+    /** @return whether a class named in the stream may be deserialized */
+    public boolean isAllowed(String className) {
+        if (className.startsWith("[")) { //$NON-NLS-1$
+            // An array: check the component type, primitive arrays are always safe
+            String component = className.replaceFirst("^\\[+", ""); //$NON-NLS-1$ //$NON-NLS-2$
+            if (component.startsWith("L") && component.endsWith(";")) { //$NON-NLS-1$ //$NON-NLS-2$
+                return isAllowed(component.substring(1, component.length() - 1));
+            }
+            return component.length() == 1;
+        }
+        if (allowedClasses.contains(className)) {
+            return true;
+        }
+        for (String allowedPrefix : allowedPrefixes) {
+            if (className.startsWith(allowedPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        if (!isAllowed(desc.getName())) {
+            throw new InvalidClassException(desc.getName(), "class not allowed in this file"); //$NON-NLS-1$
+        }
+        return super.resolveClass(desc);
+    }
+
+    @Override
+    protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+        throw new InvalidClassException("proxy classes are not allowed in this file"); //$NON-NLS-1$
+    }
+}
@@ -731,11 +731,11 @@ public class MassRepairService {
 
             // We really only have to check one tech of each skill level
             if (!techSkillToWorktimeMap.containsKey(skill.getType().getName() + "-" + skill.getLevel())) {
-                TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+                int targetValue = campaign.getTargetValueFor(partWork, tech);
                 WorkTime selectedWorktime = null;
 
                 // Check if we need to increase the time to meet the min BTH
-                if (targetRoll.getValue() > mro.getBthMin()) {
+                if (targetValue > mro.getBthMin()) {
                     if (!configuredOptions.isUseExtraTime()) {
                         debugLog("... can't increase time to reach BTH due to configuration", "repairPart");
                         continue;
@@ -761,7 +761,7 @@ public class MassRepairService {
                     }
 
                     selectedWorktime = workTimeCalc.getWorkTime();
-                } else if (targetRoll.getValue() < mro.getBthMax()) {
+                } else if (targetValue < mro.getBthMax()) {
                     // Or decrease the time to meet the max BTH
                     if (configuredOptions.isUseRushJob() && canChangeWorkTime) {
                         WorkTimeCalculation workTimeCalc = calculateNewMassRepairWorktime(partWork, tech, mro, campaign,
@@ -954,10 +954,10 @@ public class MassRepairService {
                 techCache.put(skillName, tech);
             }
 
-            TargetRoll roll = campaign.getTargetFor(partWork, tech);
+            int targetValue = campaign.getTargetValueFor(partWork, tech);
 
-            if ((roll.getValue() == TargetRoll.IMPOSSIBLE) || (roll.getValue() == TargetRoll.AUTOMATIC_FAIL)
-                    || (roll.getValue() == TargetRoll.CHECK_FALSE)) {
+            if ((targetValue == TargetRoll.IMPOSSIBLE) || (targetValue == TargetRoll.AUTOMATIC_FAIL)
+                    || (targetValue == TargetRoll.CHECK_FALSE)) {
                 continue;
             }
 
@@ -1013,10 +1013,10 @@ public class MassRepairService {
             }
 
             // Check if we can actually even repair this part
-            TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+            int targetValue = campaign.getTargetValueFor(partWork, tech);
 
-            if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) || (targetRoll.getValue() == TargetRoll.AUTOMATIC_FAIL)
-                    || (targetRoll.getValue() == TargetRoll.CHECK_FALSE)) {
+            if ((targetValue == TargetRoll.IMPOSSIBLE) || (targetValue == TargetRoll.AUTOMATIC_FAIL)
+                    || (targetValue == TargetRoll.CHECK_FALSE)) {
                 continue;
             }
 
@@ -1048,10 +1048,10 @@ public class MassRepairService {
             ((Part) partWork).resetModeToNormal();
         }
 
-        TargetRoll targetRoll = campaign.getTargetFor(partWork, tech);
+        int targetValue = campaign.getTargetValueFor(partWork, tech);
 
-        if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) || (targetRoll.getValue() == TargetRoll.AUTOMATIC_FAIL)
-                || (targetRoll.getValue() == TargetRoll.CHECK_FALSE)) {
+        if ((targetValue == TargetRoll.IMPOSSIBLE) || (targetValue == TargetRoll.AUTOMATIC_FAIL)
+                || (targetValue == TargetRoll.CHECK_FALSE)) {
             debugLog("...... ending calculateNewMassRepairWorktime due to impossible role - %s ns", "calculateNewMassRepairWorktime",
                     System.nanoTime() - time);
 
@@ -1103,16 +1103,16 @@ public class MassRepairService {
                 return wtc;
             }
 
-            // Set our new workTime and calculate the new targetRoll
+            // Set our new workTime and calculate the new target number
             if (partWork instanceof Part) {
                 ((Part) partWork).setMode(newWorkTime);
             }
 
-            targetRoll = campaign.getTargetFor(partWork, tech);
+            targetValue = campaign.getTargetValueFor(partWork, tech);
 
             // If our roll is impossible, revert to the previous one
-            if ((targetRoll.getValue() == TargetRoll.IMPOSSIBLE) || (targetRoll.getValue() == TargetRoll.AUTOMATIC_FAIL)
-                    || (targetRoll.getValue() == TargetRoll.CHECK_FALSE)) {
+            if ((targetValue == TargetRoll.IMPOSSIBLE) || (targetValue == TargetRoll.AUTOMATIC_FAIL)
+                    || (targetValue == TargetRoll.CHECK_FALSE)) {
                 debugLog("...... ending calculateNewMassRepairWorktime due to impossible role - %s ns", "calculateNewMassRepairWorktime",
                         System.nanoTime() - time);
 
@@ -1122,7 +1122,7 @@ public class MassRepairService {
             if (increaseTime) {
                 // If we've reached our BTH, kick out. Otherwise we'll loop
                 // around again
-                if (targetRoll.getValue() <= mro.getBthMin()) {
+                if (targetValue <= mro.getBthMin()) {
                     debugLog(
                             "...... ending calculateNewMassRepairWorktime because we have reached our BTH goal - %s ns", "calculateNewMassRepairWorktime",
                             System.nanoTime() - time);
@@ -1130,13 +1130,13 @@ public class MassRepairService {
                     return new WorkTimeCalculation(newWorkTime);
                 }
             } else {
-                if (targetRoll.getValue() > mro.getBthMax()) {
+                if (targetValue > mro.getBthMax()) {
                     debugLog(
                             "...... ending calculateNewMassRepairWorktime because we have reached our BTH goal - %s ns", "calculateNewMassRepairWorktime",
                             System.nanoTime() - time);
 
                     return new WorkTimeCalculation(previousNewWorkTime);
-                } else if (targetRoll.getValue() > mro.getBthMax()) {
+                } else if (targetValue > mro.getBthMax()) {
                     debugLog(
                             "...... ending calculateNewMassRepairWorktime because we have reached our BTH goal - %s ns", "calculateNewMassRepairWorktime",
                             System.nanoTime() - time);
@@ -134,7 +134,7 @@ public class PartsAcquisitionService {
 		for (List<IAcquisitionWork> awList : acquisitionMap.values()) {
 			IAcquisitionWork awFirst = awList.get(0);
 			Part part = awFirst.getAcquisitionPart();
-			TargetRoll target = campaign.getTargetForAcquisition(awFirst, admin);
+			int targetValue = campaign.getTargetValueForAcquisition(awFirst, admin, true);
 			PartCountInfo pci = new PartCountInfo();
 
 			PartInventory inventories = campaign.getPartInventory(part);
@@ -162,9 +162,9 @@ public class PartsAcquisitionService {
 			pci.setStickerPrice(part.getStickerPrice());
 			pci.setMissingCount(missing);
 
-			if (target.getValue() == TargetRoll.IMPOSSIBLE) {
+			if (targetValue == TargetRoll.IMPOSSIBLE) {
 				pci.setCanBeAcquired(false);
-				pci.setFailedMessage(target.getPlainDesc());
+				pci.setFailedMessage(campaign.getTargetForAcquisition(awFirst, admin).getPlainDesc());
 			} else {
 				pci.setInTransitCount(inTransit);
 				pci.setOnOrderCount(onOrder);
@@ -0,0 +1,90 @@
+/*
+ * CampaignRandomTest.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class CampaignRandomTest {
+    private static final LocalDate DATE = LocalDate.of(3067, 1, 1);
+    private static final UUID ID = UUID.fromString("c8682a91-346f-49b0-9f1f-28e669ee4e95");
+
+    @Test
+    public void testSameSeedReplaysStreams() {
+        CampaignRandom first = new CampaignRandom(42L);
+        CampaignRandom second = new CampaignRandom(42L);
+
+        for (CampaignRandom.Stream stream : CampaignRandom.Stream.values()) {
+            assertEquals(first.getStream(stream, DATE).nextLong(), second.getStream(stream, DATE).nextLong());
+        }
+        assertEquals(first.getStream(CampaignRandom.Stream.PERSONNEL, DATE, ID).nextLong(),
+                second.getStream(CampaignRandom.Stream.PERSONNEL, DATE, ID).nextLong());
+    }
+
+    @Test
+    public void testStreamsAreIndependent() {
+        CampaignRandom random = new CampaignRandom(42L);
+
+        assertNotEquals(random.getStream(CampaignRandom.Stream.ORIGIN, DATE).nextLong(),
+                random.getStream(CampaignRandom.Stream.CONTRACT_MARKET, DATE).nextLong());
+        assertNotEquals(random.getStream(CampaignRandom.Stream.PERSONNEL, DATE, ID).nextLong(),
+                random.getStream(CampaignRandom.Stream.PERSONNEL, DATE.plusDays(1), ID).nextLong());
+    }
+
+    @Test
+    public void testStreamIsSharedForTheDay() {
+        CampaignRandom random = new CampaignRandom(42L);
+
+        Random stream = random.getStream(CampaignRandom.Stream.ORIGIN, DATE);
+        assertSame(stream, random.getStream(CampaignRandom.Stream.ORIGIN, DATE));
+
+        long value = new CampaignRandom(42L).getStream(CampaignRandom.Stream.ORIGIN, DATE.plusDays(1)).nextLong();
+        assertEquals(value, random.getStream(CampaignRandom.Stream.ORIGIN, DATE.plusDays(1)).nextLong());
+    }
+
+    @Test
+    public void testSetSeedRestartsStreams() {
+        CampaignRandom random = new CampaignRandom(1L);
+        random.getStream(CampaignRandom.Stream.ORIGIN, DATE).nextLong();
+        random.setSeed(42L);
+
+        assertEquals(42L, random.getSeed());
+        assertEquals(new CampaignRandom(42L).getStream(CampaignRandom.Stream.ORIGIN, DATE).nextLong(),
+                random.getStream(CampaignRandom.Stream.ORIGIN, DATE).nextLong());
+    }
+
+    @Test
+    public void testD6() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 1000; i++) {
+            int roll = CampaignRandom.d6(random, 2);
+            assertTrue((roll >= 2) && (roll <= 12));
+        }
+    }
+}
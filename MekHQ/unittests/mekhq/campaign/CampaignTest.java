@@ -20,7 +20,18 @@
  */
 package mekhq.campaign;
 
+import megamek.common.Infantry;
+import megamek.common.TargetRoll;
+import mekhq.campaign.market.ShoppingList;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.Refit;
 import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.Skill;
+import mekhq.campaign.personnel.SkillType;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.work.IAcquisitionWork;
+import mekhq.campaign.work.IPartWork;
+import mekhq.campaign.work.WorkTime;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -103,4 +114,121 @@ public class CampaignTest {
         expected.add(mockTechNoTime);
         Assert.assertEquals(expected, testCampaign.getTechs(false, testId, false, false));
     }
+
+    private static Skill createSkill() {
+        Skill skill = Mockito.mock(Skill.class);
+        Mockito.when(skill.getFinalSkillValue()).thenReturn(7);
+        Mockito.when(skill.getExperienceLevel()).thenReturn(SkillType.EXP_REGULAR);
+        return skill;
+    }
+
+    private static Campaign createTargetCampaign(CampaignOptions options) {
+        Campaign campaign = Mockito.mock(Campaign.class);
+        Mockito.when(campaign.getCampaignOptions()).thenReturn(options);
+        Mockito.when(campaign.getShoppingList()).thenReturn(Mockito.mock(ShoppingList.class));
+        Mockito.when(campaign.getAvailableAstechs(Mockito.anyInt(), Mockito.anyBoolean())).thenReturn(6);
+        Mockito.when(campaign.getTargetFor(Mockito.any(IPartWork.class), Mockito.any())).thenCallRealMethod();
+        Mockito.when(campaign.getTargetValueFor(Mockito.any(IPartWork.class), Mockito.any())).thenCallRealMethod();
+        Mockito.when(campaign.getTargetForAcquisition(Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenCallRealMethod();
+        Mockito.when(campaign.getTargetValueForAcquisition(Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenCallRealMethod();
+        return campaign;
+    }
+
+    /**
+     * @return the target number, after checking the full roll and the plain number agree
+     */
+    private static int getSameTargetForAcquisition(Campaign campaign, IAcquisitionWork acquisition,
+            Person person, boolean checkDaysToWait) {
+        int value = campaign.getTargetForAcquisition(acquisition, person, checkDaysToWait).getValue();
+        Assert.assertEquals(value, campaign.getTargetValueForAcquisition(acquisition, person, checkDaysToWait));
+        return value;
+    }
+
+    /**
+     * @return the target number, after checking the full roll and the plain number agree
+     */
+    private static int getSameTargetForRepair(Campaign campaign, IPartWork partWork, Person tech) {
+        int value = campaign.getTargetFor(partWork, tech).getValue();
+        Assert.assertEquals(value, campaign.getTargetValueFor(partWork, tech));
+        return value;
+    }
+
+    @Test
+    public void testTargetValueForAcquisitionMatchesTargetRoll() {
+        CampaignOptions options = Mockito.mock(CampaignOptions.class);
+        Mockito.when(options.getAcquisitionSkill()).thenReturn(CampaignOptions.S_TECH);
+        Mockito.when(options.getTechLevel()).thenReturn(CampaignOptions.TECH_UNKNOWN);
+        Campaign campaign = createTargetCampaign(options);
+
+        Person person = Mockito.mock(Person.class);
+        Skill skill = createSkill();
+        Mockito.when(person.getSkillForWorkingOn(CampaignOptions.S_TECH)).thenReturn(skill);
+
+        IAcquisitionWork acquisition = Mockito.mock(IAcquisitionWork.class);
+        Mockito.when(acquisition.getTechBase()).thenReturn(Part.T_BOTH);
+        Mockito.when(acquisition.getAllAcquisitionMods()).thenReturn(new TargetRoll(2, "availability"));
+        Assert.assertEquals(9, getSameTargetForAcquisition(campaign, acquisition, person, true));
+
+        // Special values among the modifiers
+        Mockito.when(acquisition.getAllAcquisitionMods()).thenReturn(new TargetRoll(TargetRoll.IMPOSSIBLE, "impossible"));
+        Assert.assertEquals(TargetRoll.IMPOSSIBLE, getSameTargetForAcquisition(campaign, acquisition, person, true));
+        Mockito.when(acquisition.getAllAcquisitionMods()).thenReturn(new TargetRoll(TargetRoll.AUTOMATIC_FAIL, "fail"));
+        getSameTargetForAcquisition(campaign, acquisition, person, true);
+        Mockito.when(acquisition.getAllAcquisitionMods()).thenReturn(new TargetRoll(TargetRoll.AUTOMATIC_SUCCESS, "success"));
+        getSameTargetForAcquisition(campaign, acquisition, person, true);
+
+        // Special starting values
+        Mockito.when(acquisition.getAllAcquisitionMods()).thenReturn(new TargetRoll(2, "availability"));
+        Assert.assertEquals(TargetRoll.IMPOSSIBLE, getSameTargetForAcquisition(campaign, acquisition, null, true));
+        Mockito.when(campaign.getShoppingList().getShoppingItem(Mockito.any())).thenReturn(acquisition);
+        Assert.assertEquals(TargetRoll.AUTOMATIC_FAIL, getSameTargetForAcquisition(campaign, acquisition, person, true));
+        Assert.assertEquals(9, getSameTargetForAcquisition(campaign, acquisition, person, false));
+        Mockito.when(options.getAcquisitionSkill()).thenReturn(CampaignOptions.S_AUTO);
+        Assert.assertEquals(TargetRoll.AUTOMATIC_SUCCESS, getSameTargetForAcquisition(campaign, acquisition, person, true));
+    }
+
+    @Test
+    public void testTargetValueForRepairMatchesTargetRoll() {
+        CampaignOptions options = Mockito.mock(CampaignOptions.class);
+        Campaign campaign = createTargetCampaign(options);
+
+        IPartWork partWork = Mockito.mock(IPartWork.class);
+        Mockito.when(partWork.getMode()).thenReturn(WorkTime.NORMAL);
+        Mockito.when(partWork.needsFixing()).thenReturn(true);
+        Mockito.when(partWork.getTimeLeft()).thenReturn(60);
+        Mockito.when(partWork.getAllMods(Mockito.any())).thenReturn(new TargetRoll(1, "damage"));
+
+        Person tech = Mockito.mock(Person.class);
+        Skill skill = createSkill();
+        Mockito.when(tech.getSkillForWorkingOn(partWork)).thenReturn(skill);
+        Mockito.when(tech.getMinutesLeft()).thenReturn(480);
+        // 7 for the skill, 1 for the damage and 3 for the astechs working overtime
+        Assert.assertEquals(11, getSameTargetForRepair(campaign, partWork, tech));
+
+        // Special values among the modifiers
+        Mockito.when(partWork.getAllMods(Mockito.any())).thenReturn(new TargetRoll(TargetRoll.IMPOSSIBLE, "impossible"));
+        Assert.assertEquals(TargetRoll.IMPOSSIBLE, getSameTargetForRepair(campaign, partWork, tech));
+        Mockito.when(partWork.getAllMods(Mockito.any())).thenReturn(new TargetRoll(TargetRoll.AUTOMATIC_FAIL, "fail"));
+        getSameTargetForRepair(campaign, partWork, tech);
+        Mockito.when(partWork.getAllMods(Mockito.any())).thenReturn(new TargetRoll(TargetRoll.AUTOMATIC_SUCCESS, "success"));
+        getSameTargetForRepair(campaign, partWork, tech);
+
+        // Special starting values
+        Mockito.when(partWork.getAllMods(Mockito.any())).thenReturn(new TargetRoll(1, "damage"));
+        Mockito.when(tech.getMinutesLeft()).thenReturn(0);
+        Assert.assertEquals(TargetRoll.IMPOSSIBLE, getSameTargetForRepair(campaign, partWork, tech));
+        Mockito.when(tech.getMinutesLeft()).thenReturn(480);
+        Mockito.when(tech.getSkillForWorkingOn(partWork)).thenReturn(null);
+        Assert.assertEquals(TargetRoll.IMPOSSIBLE, getSameTargetForRepair(campaign, partWork, tech));
+
+        Refit refit = Mockito.mock(Refit.class);
+        Unit unit = Mockito.mock(Unit.class);
+        Mockito.when(unit.isAvailable(true)).thenReturn(true);
+        Mockito.when(unit.getEntity()).thenReturn(Mockito.mock(Infantry.class));
+        Mockito.when(refit.getUnit()).thenReturn(unit);
+        Mockito.when(refit.getMode()).thenReturn(WorkTime.NORMAL);
+        Mockito.when(refit.needsFixing()).thenReturn(true);
+        Mockito.when(tech.getSkillForWorkingOn(refit)).thenReturn(skill);
+        Assert.assertEquals(TargetRoll.AUTOMATIC_SUCCESS, getSameTargetForRepair(campaign, refit, tech));
+    }
 }
@@ -21,6 +21,8 @@ package mekhq.campaign;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Date;
 
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -47,19 +49,56 @@ public class LogEntryTest {
         checkMarshalling(new MedicalLogEntry(new Date(0l), "Some <em>xml-fragment</em> description")); //$NON-NLS-1$ //$NON-NLS-2$
     }
 
+    @Test
+    public void testLazyLogStore() throws Exception {
+        LogEntry loaded = new ServiceLogEntry(new Date(0l), "Some <em>xml-fragment</em> description"); //$NON-NLS-1$
+        LogEntry added = new MedicalLogEntry(new Date(1000l), "Description"); //$NON-NLS-1$
+        LazyLogStore store = new LazyLogStore();
+        Assert.assertTrue(store.isEmpty());
+        store.addFromXml(toNode(loaded));
+        store.add(added);
+        Assert.assertFalse(store.isEmpty());
+
+        // Saving before the log is read writes what the entries would, and the next save reuses it
+        String saved = write(store);
+        Assert.assertEquals(write(loaded) + write(added), saved);
+        Assert.assertEquals(saved, write(store));
+
+        Assert.assertEquals(Arrays.asList(loaded, added), store.getEntries());
+        Assert.assertEquals(saved, write(store));
+    }
+
     private static void checkMarshalling(LogEntry le) throws Exception {
+        Assert.assertEquals(le, LogEntryFactory.getInstance().generateInstanceFromXML(toNode(le)));
+    }
+
+    private static Node toNode(LogEntry le) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
         PrintWriter pw = new PrintWriter(baos);
         le.writeToXml(pw, 0);
         pw.close();
 
-        Node node = DocumentBuilderFactory.newInstance()
-                                          .newDocumentBuilder()
-                                          .parse(new InputSource(new ByteArrayInputStream(baos.toByteArray())))
-                                          .getDocumentElement();
-        
-        Assert.assertEquals(le, LogEntryFactory.getInstance().generateInstanceFromXML(node));
+        return DocumentBuilderFactory.newInstance()
+                                     .newDocumentBuilder()
+                                     .parse(new InputSource(new ByteArrayInputStream(baos.toByteArray())))
+                                     .getDocumentElement();
+    }
+
+    private static String write(LogEntry le) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        le.writeToXml(pw, 1);
+        pw.flush();
+        return sw.toString();
+    }
+
+    private static String write(LazyLogStore store) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        store.writeToXml(pw, 1);
+        pw.flush();
+        return sw.toString();
     }
 
 }
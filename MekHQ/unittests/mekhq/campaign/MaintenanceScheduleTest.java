@@ -0,0 +1,110 @@
+/*
+ * MaintenanceScheduleTest.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class MaintenanceScheduleTest {
+    private static final LocalDate TODAY = LocalDate.of(3067, 1, 1);
+
+    @Test
+    public void testReleaseDue() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule();
+        UUID early = UUID.randomUUID();
+        UUID today = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        schedule.schedule(later, TODAY.plusDays(5));
+        schedule.schedule(today, TODAY);
+        schedule.schedule(early, TODAY.minusDays(3));
+
+        schedule.releaseDue(TODAY);
+        assertFalse(schedule.isScheduled(early));
+        assertFalse(schedule.isScheduled(today));
+        assertTrue(schedule.isScheduled(later));
+
+        schedule.releaseDue(TODAY.plusDays(4));
+        assertTrue(schedule.isScheduled(later));
+        schedule.releaseDue(TODAY.plusDays(5));
+        assertFalse(schedule.isScheduled(later));
+    }
+
+    @Test
+    public void testRescheduleReplacesTheEarlierDay() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule();
+        UUID unit = UUID.randomUUID();
+        schedule.schedule(unit, TODAY);
+        schedule.schedule(unit, TODAY.plusDays(10));
+
+        schedule.releaseDue(TODAY);
+        assertTrue(schedule.isScheduled(unit));
+        schedule.releaseDue(TODAY.plusDays(10));
+        assertFalse(schedule.isScheduled(unit));
+    }
+
+    @Test
+    public void testQueuedByTheBaseCycle() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule();
+        UUID unit = UUID.randomUUID();
+        // A Rugged unit may be due after two or three cycles, but if it loses the quirk while
+        // queued its check is due at the end of the base cycle, so it must come up by then
+        schedule.schedule(unit, TODAY, 30, 0);
+        schedule.releaseDue(TODAY.plusDays(29));
+        assertTrue(schedule.isScheduled(unit));
+        schedule.releaseDue(TODAY.plusDays(30));
+        assertFalse(schedule.isScheduled(unit));
+
+        // Past the base cycle, as a Rugged unit is while it waits for its longer one, the check
+        // may be due any day
+        schedule.schedule(unit, TODAY, 30, 45);
+        schedule.releaseDue(TODAY);
+        assertTrue(schedule.isScheduled(unit));
+        schedule.releaseDue(TODAY.plusDays(1));
+        assertFalse(schedule.isScheduled(unit));
+    }
+
+    @Test
+    public void testUnscheduleAndClear() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        schedule.schedule(first, TODAY.plusDays(1));
+        schedule.schedule(second, TODAY.plusDays(1));
+
+        schedule.unschedule(first);
+        assertFalse(schedule.isScheduled(first));
+        assertTrue(schedule.isScheduled(second));
+
+        // Queued again after being dropped, the old entry does not release it early
+        schedule.schedule(first, TODAY.plusDays(20));
+        schedule.releaseDue(TODAY.plusDays(1));
+        assertTrue(schedule.isScheduled(first));
+        assertFalse(schedule.isScheduled(second));
+
+        schedule.clear();
+        assertFalse(schedule.isScheduled(first));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * AncestorsTest.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignOptions;
+
+public class AncestorsTest {
+    private Campaign campaign;
+    private CampaignOptions options;
+    private Map<UUID, Ancestors> ancestors;
+
+    @Before
+    public void setUp() {
+        ancestors = new HashMap<>();
+        options = mock(CampaignOptions.class);
+        campaign = mock(Campaign.class);
+        when(campaign.getCampaignOptions()).thenReturn(options);
+        when(campaign.getAncestors(any(UUID.class))).thenAnswer(inv -> ancestors.get(inv.getArgument(0)));
+    }
+
+    private Ancestors createAncestors(UUID fatherId, UUID motherId, Ancestors fathers, Ancestors mothers) {
+        Ancestors retVal = new Ancestors(fatherId, motherId, campaign);
+        if (null != fathers) {
+            retVal.setFathersAncestors(fathers.getId());
+        }
+        if (null != mothers) {
+            retVal.setMothersAncestors(mothers.getId());
+        }
+        ancestors.put(retVal.getId(), retVal);
+        return retVal;
+    }
+
+    @Test
+    public void testSiblings() {
+        when(options.checkMutualAncestorsDepth()).thenReturn(0);
+        UUID father = UUID.randomUUID();
+        Ancestors first = createAncestors(father, UUID.randomUUID(), null, null);
+        Ancestors halfSiblings = createAncestors(father, UUID.randomUUID(), null, null);
+        Ancestors unrelated = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, null);
+
+        assertTrue(first.checkMutualAncestors(first));
+        assertTrue(first.checkMutualAncestors(halfSiblings));
+        assertTrue(halfSiblings.checkMutualAncestors(first));
+        assertFalse(first.checkMutualAncestors(unrelated));
+        assertFalse(first.checkMutualAncestors(null));
+    }
+
+    @Test
+    public void testCousinsAtTheDepthLimit() {
+        Ancestors grandparents = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, null);
+        Ancestors first = createAncestors(UUID.randomUUID(), UUID.randomUUID(), grandparents, null);
+        Ancestors second = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, grandparents);
+
+        // One generation back on each side
+        when(options.checkMutualAncestorsDepth()).thenReturn(2);
+        assertTrue(first.checkMutualAncestors(second));
+        assertTrue(second.checkMutualAncestors(first));
+        assertFalse(first.checkMutualAncestors(second, 1));
+
+        when(options.checkMutualAncestorsDepth()).thenReturn(1);
+        assertFalse(first.checkMutualAncestors(second));
+        assertFalse(second.checkMutualAncestors(first));
+    }
+
+    @Test
+    public void testParentsSiblingAtTheDepthLimit() {
+        Ancestors grandparents = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, null);
+        Ancestors parent = createAncestors(UUID.randomUUID(), UUID.randomUUID(), grandparents, null);
+        // The children of this entry are siblings of the father named in the other one
+        Ancestors sibling = new Ancestors(grandparents.getFatherId(), grandparents.getMotherId(), campaign);
+
+        when(options.checkMutualAncestorsDepth()).thenReturn(1);
+        assertTrue(parent.checkMutualAncestors(sibling));
+        assertTrue(sibling.checkMutualAncestors(parent));
+
+        when(options.checkMutualAncestorsDepth()).thenReturn(0);
+        assertFalse(parent.checkMutualAncestors(sibling));
+        assertFalse(sibling.checkMutualAncestors(parent));
+    }
+
+    @Test
+    public void testSecondCousinsJustOutsideTheDepthLimit() {
+        Ancestors greatGrandparents = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, null);
+        Ancestors firstGrandparents = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, greatGrandparents);
+        Ancestors secondGrandparents = createAncestors(UUID.randomUUID(), UUID.randomUUID(), greatGrandparents, null);
+        Ancestors first = createAncestors(UUID.randomUUID(), UUID.randomUUID(), firstGrandparents, null);
+        Ancestors second = createAncestors(UUID.randomUUID(), UUID.randomUUID(), null, secondGrandparents);
+
+        // Two generations back on each side
+        when(options.checkMutualAncestorsDepth()).thenReturn(3);
+        assertFalse(first.checkMutualAncestors(second));
+        assertFalse(second.checkMutualAncestors(first));
+
+        when(options.checkMutualAncestorsDepth()).thenReturn(4);
+        assertTrue(first.checkMutualAncestors(second));
+        assertTrue(second.checkMutualAncestors(first));
+    }
+
+    @Test
+    public void testSharedMotherOnlyMatchesMothers() {
+        when(options.checkMutualAncestorsDepth()).thenReturn(4);
+        UUID person = UUID.randomUUID();
+        Ancestors asFather = createAncestors(person, UUID.randomUUID(), null, null);
+        Ancestors asMother = createAncestors(UUID.randomUUID(), person, null, null);
+
+        assertFalse(asFather.checkMutualAncestors(asMother));
+    }
+}
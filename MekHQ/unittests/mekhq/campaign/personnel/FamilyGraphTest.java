@@ -0,0 +1,121 @@
+/*
+ * FamilyGraphTest.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import mekhq.campaign.Campaign;
+
+public class FamilyGraphTest {
+    private static Ancestors createAncestors(UUID fatherId, UUID motherId) {
+        return new Ancestors(fatherId, motherId, mock(Campaign.class));
+    }
+
+    private static Person createPerson(UUID ancestorsId) {
+        Person person = mock(Person.class);
+        UUID id = UUID.randomUUID();
+        when(person.getId()).thenReturn(id);
+        when(person.getAncestorsId()).thenReturn(ancestorsId);
+        return person;
+    }
+
+    @Test
+    public void testAddAncestors() {
+        FamilyGraph graph = new FamilyGraph();
+        UUID father = UUID.randomUUID();
+        UUID mother = UUID.randomUUID();
+        Ancestors first = createAncestors(father, mother);
+        Ancestors duplicate = createAncestors(father, mother);
+        Ancestors fatherOnly = createAncestors(father, null);
+        graph.addAncestors(first);
+        graph.addAncestors(duplicate);
+        graph.addAncestors(fatherOnly);
+
+        assertSame(first, graph.getAncestors(father, mother));
+        assertSame(fatherOnly, graph.getAncestors(father, null));
+        assertNull(graph.getAncestors(mother, father));
+        assertEquals(new HashSet<>(Arrays.asList(first.getId(), duplicate.getId(), fatherOnly.getId())),
+                graph.getAncestorsOfParent(father));
+        assertEquals(new HashSet<>(Arrays.asList(first.getId(), duplicate.getId())),
+                graph.getAncestorsOfParent(mother));
+        assertTrue(graph.getAncestorsOfParent(UUID.randomUUID()).isEmpty());
+        assertTrue(graph.getAncestorsOfParent(null).isEmpty());
+    }
+
+    @Test
+    public void testAddAndRemovePerson() {
+        FamilyGraph graph = new FamilyGraph();
+        Ancestors ancestors = createAncestors(UUID.randomUUID(), UUID.randomUUID());
+        graph.addAncestors(ancestors);
+        Person first = createPerson(ancestors.getId());
+        Person second = createPerson(ancestors.getId());
+        Person orphan = createPerson(null);
+
+        graph.addPerson(first);
+        graph.addPerson(second);
+        graph.addPerson(orphan);
+        assertEquals(new HashSet<>(Arrays.asList(first.getId(), second.getId())),
+                graph.getChildren(ancestors.getId()));
+
+        graph.removePerson(first);
+        assertEquals(Collections.singleton(second.getId()), graph.getChildren(ancestors.getId()));
+        graph.removePerson(second);
+        graph.removePerson(orphan);
+        assertTrue(graph.getChildren(ancestors.getId()).isEmpty());
+        assertTrue(graph.getChildren(null).isEmpty());
+
+        // The entry stays, as it is part of the ancestry of other people
+        assertSame(ancestors, graph.getAncestors(ancestors.getFatherId(), ancestors.getMotherId()));
+    }
+
+    @Test
+    public void testChangeAncestors() {
+        FamilyGraph graph = new FamilyGraph();
+        Ancestors oldAncestors = createAncestors(UUID.randomUUID(), UUID.randomUUID());
+        Ancestors newAncestors = createAncestors(UUID.randomUUID(), UUID.randomUUID());
+        graph.addAncestors(oldAncestors);
+        graph.addAncestors(newAncestors);
+        Person person = createPerson(oldAncestors.getId());
+        graph.addPerson(person);
+
+        graph.changeAncestors(person.getId(), oldAncestors.getId(), newAncestors.getId());
+        assertTrue(graph.getChildren(oldAncestors.getId()).isEmpty());
+        assertEquals(Collections.singleton(person.getId()), graph.getChildren(newAncestors.getId()));
+
+        // From and to no ancestors at all
+        graph.changeAncestors(person.getId(), newAncestors.getId(), null);
+        assertTrue(graph.getChildren(newAncestors.getId()).isEmpty());
+        graph.changeAncestors(person.getId(), null, oldAncestors.getId());
+        assertEquals(Collections.singleton(person.getId()), graph.getChildren(oldAncestors.getId()));
+    }
+}
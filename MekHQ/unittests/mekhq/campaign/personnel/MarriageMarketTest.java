@@ -0,0 +1,212 @@
+/*
+ * MarriageMarketTest.java
+ *
+ * Copyright (C) 2020 MegaMek team
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import megamek.common.Crew;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignOptions;
+import mekhq.campaign.personnel.enums.PersonnelStatus;
+
+public class MarriageMarketTest {
+    private static final LocalDate TODAY = LocalDate.of(3067, 1, 1);
+    private static final int AGE_RANGE = 10;
+
+    private Campaign campaign;
+    private MarriageMarket market;
+    private Map<UUID, Person> personnel;
+
+    @Before
+    public void setUp() {
+        market = new MarriageMarket();
+        personnel = new HashMap<>();
+        CampaignOptions options = mock(CampaignOptions.class);
+        when(options.getMarriageAgeRange()).thenReturn(AGE_RANGE);
+        when(options.getMinimumMarriageAge()).thenReturn(16);
+        campaign = mock(Campaign.class);
+        when(campaign.getCampaignOptions()).thenReturn(options);
+        when(campaign.getLocalDate()).thenReturn(TODAY);
+        when(campaign.getMarriageMarket()).thenReturn(market);
+        when(campaign.getPerson(any(UUID.class))).thenAnswer(inv -> personnel.get(inv.getArgument(0)));
+    }
+
+    /**
+     * Adds a person to the campaign the way importing them does
+     */
+    private Person createPerson(int gender, LocalDate birthday) {
+        Person person = new Person("Test", "Person", campaign, "MERC");
+        person.setId(UUID.randomUUID());
+        person.setGender(gender);
+        person.setBirthday(birthday);
+        personnel.put(person.getId(), person);
+        market.update(person);
+        return person;
+    }
+
+    private List<Person> getCandidates(int gender, int birthYear) {
+        return market.getCandidates(gender, birthYear, birthYear);
+    }
+
+    @Test
+    public void testStatusChange() {
+        Person person = createPerson(Crew.G_FEMALE, LocalDate.of(3040, 5, 1));
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_FEMALE, 3040));
+
+        person.setStatus(PersonnelStatus.KIA);
+        assertTrue(getCandidates(Crew.G_FEMALE, 3040).isEmpty());
+
+        person.setStatus(PersonnelStatus.ACTIVE);
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_FEMALE, 3040));
+    }
+
+    @Test
+    public void testSpouseChange() {
+        Person person = createPerson(Crew.G_MALE, LocalDate.of(3040, 5, 1));
+        Person spouse = createPerson(Crew.G_FEMALE, LocalDate.of(3041, 5, 1));
+
+        person.setSpouseId(spouse.getId());
+        spouse.setSpouseId(person.getId());
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+        assertTrue(getCandidates(Crew.G_FEMALE, 3041).isEmpty());
+
+        person.setSpouseId(null);
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_MALE, 3040));
+        assertTrue(getCandidates(Crew.G_FEMALE, 3041).isEmpty());
+    }
+
+    @Test
+    public void testBirthdayChange() {
+        Person person = createPerson(Crew.G_MALE, LocalDate.of(3040, 5, 1));
+
+        person.setBirthday(LocalDate.of(3045, 5, 1));
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_MALE, 3045));
+
+        // Within the same year the person stays where they are
+        person.setBirthday(LocalDate.of(3045, 12, 31));
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_MALE, 3045));
+
+        person.setBirthday(null);
+        assertTrue(getCandidates(Crew.G_MALE, 3045).isEmpty());
+    }
+
+    @Test
+    public void testGenderChange() {
+        Person person = createPerson(Crew.G_MALE, LocalDate.of(3040, 5, 1));
+
+        person.setGender(Crew.G_FEMALE);
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_FEMALE, 3040));
+    }
+
+    @Test
+    public void testTryingToMarryAndRemove() {
+        Person person = createPerson(Crew.G_MALE, LocalDate.of(3040, 5, 1));
+
+        person.setTryingToMarry(false);
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+        person.setTryingToMarry(true);
+        assertEquals(Collections.singletonList(person), getCandidates(Crew.G_MALE, 3040));
+
+        market.remove(person);
+        personnel.remove(person.getId());
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+        // Changes to someone who left the campaign don't put them back
+        person.setStatus(PersonnelStatus.ACTIVE);
+        assertTrue(getCandidates(Crew.G_MALE, 3040).isEmpty());
+    }
+
+    @Test
+    public void testCandidatesAreOrderedByBirthYearThenId() {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            people.add(createPerson(Crew.G_FEMALE, LocalDate.of(3040 + (i % 3), 5, 1)));
+        }
+        people.sort((a, b) -> (a.getBirthday().getYear() != b.getBirthday().getYear())
+                ? Integer.compare(a.getBirthday().getYear(), b.getBirthday().getYear())
+                : a.getId().compareTo(b.getId()));
+
+        assertEquals(people, market.getCandidates(Crew.G_FEMALE, 3040, 3042));
+        assertTrue(market.getCandidates(Crew.G_FEMALE, 3042, 3040).isEmpty());
+    }
+
+    @Test
+    public void testBirthYearWindowAtTheEdgesOfTheAgeRange() {
+        // Born AGE_RANGE + 1 years before, but only AGE_RANGE whole years older
+        Person early = createPerson(Crew.G_MALE, LocalDate.of(3040, 1, 1));
+        Person older = createPerson(Crew.G_FEMALE, LocalDate.of(3040 - AGE_RANGE - 1, 1, 2));
+        Person tooOld = createPerson(Crew.G_FEMALE, LocalDate.of(3040 - AGE_RANGE - 1, 1, 1));
+        assertTrue(early.isPotentialRandomSpouse(older, Crew.G_FEMALE));
+        assertFalse(early.isPotentialRandomSpouse(tooOld, Crew.G_FEMALE));
+        assertEquals(Collections.singletonList(older), early.getPotentialRandomSpouses(false));
+
+        // Born AGE_RANGE + 1 years after, but only AGE_RANGE whole years younger
+        Person late = createPerson(Crew.G_FEMALE, LocalDate.of(3030, 12, 31));
+        Person younger = createPerson(Crew.G_MALE, LocalDate.of(3030 + AGE_RANGE + 1, 1, 1));
+        Person tooYoung = createPerson(Crew.G_MALE, LocalDate.of(3030 + AGE_RANGE + 1, 12, 31));
+        assertTrue(late.isPotentialRandomSpouse(younger, Crew.G_MALE));
+        assertFalse(late.isPotentialRandomSpouse(tooYoung, Crew.G_MALE));
+        assertTrue(late.getPotentialRandomSpouses(false).contains(younger));
+        assertFalse(late.getPotentialRandomSpouses(false).contains(tooYoung));
+    }
+
+    @Test
+    public void testPotentialSpousesMatchEveryoneInTheCampaign() {
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            createPerson(random.nextBoolean() ? Crew.G_MALE : Crew.G_FEMALE,
+                    LocalDate.of(3000, 1, 1).plusDays(random.nextInt(55 * 365)));
+        }
+
+        for (Person person : personnel.values()) {
+            for (boolean sameSex : new boolean[] { false, true }) {
+                int gender = sameSex ? person.getGender() : (person.isMale() ? Crew.G_FEMALE : Crew.G_MALE);
+                List<Person> expected = new ArrayList<>();
+                for (Person p : personnel.values()) {
+                    if (person.isPotentialRandomSpouse(p, gender)) {
+                        expected.add(p);
+                    }
+                }
+                List<Person> actual = person.getPotentialRandomSpouses(sameSex);
+                assertEquals(expected.size(), actual.size());
+                assertTrue(actual.containsAll(expected));
+            }
+        }
+    }
+}
@@ -7,10 +7,16 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import megamek.common.Entity;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignOptions;
 import mekhq.campaign.unit.Unit;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 
 public class PersonTest {
@@ -168,6 +174,40 @@ public class PersonTest {
         }
     }
 
+    @Test
+    public void testSameSeedRollsSamePregnancyAndBirth() {
+        Campaign campaign = Mockito.mock(Campaign.class);
+        CampaignOptions options = Mockito.mock(CampaignOptions.class);
+        Mockito.when(campaign.getCampaignOptions()).thenReturn(options);
+        Mockito.when(campaign.getLocalDate()).thenReturn(LocalDate.of(3067, 1, 1));
+        Mockito.when(campaign.createAncestors(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(Ancestors.class));
+        Mockito.when(campaign.newDependent(Mockito.anyInt(), Mockito.anyBoolean(), Mockito.anyInt())).thenAnswer(invocation -> {
+            Person baby = new Person("Baby", "TestSurname", campaign, "MERC");
+            baby.setGender(invocation.getArgument(2));
+            return baby;
+        });
+
+        UUID motherId = UUID.randomUUID();
+        for (long seed = 0; seed < 100; seed++) {
+            Person first = new Person("TestGivenName", "TestSurname", campaign, "MERC");
+            first.setId(motherId);
+            first.addPregnancy(new Random(seed));
+            List<Person> firstBabies = new ArrayList<>(first.birth(new Random(seed)));
+
+            Person second = new Person("TestGivenName", "TestSurname", campaign, "MERC");
+            second.setId(motherId);
+            second.addPregnancy(new Random(seed));
+            assertEquals(first.getDueDate(), second.getDueDate());
+            List<Person> secondBabies = new ArrayList<>(second.birth(new Random(seed)));
+
+            assertEquals(firstBabies.size(), secondBabies.size());
+            for (int i = 0; i < firstBabies.size(); i++) {
+                assertEquals(firstBabies.get(i).getId(), secondBabies.get(i).getId());
+                assertEquals(firstBabies.get(i).getGender(), secondBabies.get(i).getGender());
+            }
+        }
+    }
+
     private void initPerson(){
         mockPerson = spy(new Person("TestGivenName", "TestSurname", null, "MERC"));
     }
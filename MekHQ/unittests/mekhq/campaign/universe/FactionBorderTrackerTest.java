@@ -28,7 +28,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.joda.time.DateTime;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -54,15 +56,52 @@ public class FactionBorderTrackerTest {
         }
         systems.add(createSystem(0, 0, factionUs));
         
-        FactionBorderTracker tracker = new FactionBorderTracker() {
+        return createTracker(systems, mock(Systems.class));
+    }
+    
+    // Builds the sample universe of buildTestTracker, with the "them" planet at (1, 0) changing
+    // hands to "us" on the given date
+    private FactionBorderTracker buildChangingTestTracker(DateTime changeDate) {
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int x = -3; x <= 3; x += 2) {
+            for (int y = -2; y <= 2; y += 2) {
+                if ((x == 1) && (y == 0)) {
+                    PlanetarySystem system = createSystem(x, y, factionThem);
+                    when(system.getFactionSet(any())).thenAnswer(inv ->
+                            Collections.singleton(((DateTime) inv.getArgument(0)).isBefore(changeDate)
+                                    ? factionThem : factionUs));
+                    when(system.getNextEventDate(any())).thenAnswer(inv ->
+                            ((DateTime) inv.getArgument(0)).isBefore(changeDate) ? changeDate : null);
+                    systems.add(system);
+                } else {
+                    systems.add(createSystem(x, y, factionThem));
+                }
+            }
+        }
+        systems.add(createSystem(0, 0, factionUs));
+
+        return createTracker(systems, mock(Systems.class));
+    }
+
+    // Builds a tracker over the given systems, which come from the systems instance held by source
+    private FactionBorderTracker createTracker(List<PlanetarySystem> systems, AtomicReference<Systems> source) {
+        return new FactionBorderTracker() {
             @Override
             protected Collection<PlanetarySystem> getSystemList() {
                 return systems;
             }
+
+            @Override
+            protected Systems getSystems() {
+                return source.get();
+            }
         };
-        return tracker;
     }
-    
+
+    private FactionBorderTracker createTracker(List<PlanetarySystem> systems, Systems source) {
+        return createTracker(systems, new AtomicReference<>(source));
+    }
+
     private Faction createFaction(final String key, final boolean periphery, final boolean clan) {
         Faction faction = mock(Faction.class);
         when(faction.getShortName()).thenReturn(key);
@@ -124,6 +163,83 @@ public class FactionBorderTrackerTest {
         assertEquals(border.size(), 0);
     }
 
+    @Test
+    public void testFactionBorderTrackerDateChange() {
+        DateTime changeDate = new DateTime().plusDays(30);
+        FactionBorderTracker tracker = buildChangingTestTracker(changeDate);
+        tracker.setDefaultBorderSize(1, 1, 1);
+        assertEquals(2, tracker.getBorderSystems(factionUs, factionThem).size());
+
+        tracker.setDate(changeDate.plusDays(1));
+
+        List<PlanetarySystem> border = tracker.getBorderSystems(factionUs, factionThem);
+        assertEquals(2, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(11, tracker.getBorders(factionThem).getSystems().size());
+        assertEquals(1, border.size());
+        assertEquals(-1, border.get(0).getX(), RegionPerimeter.EPSILON);
+        assertEquals(1, tracker.getBorderSystems(factionThem, factionUs).size());
+
+        tracker.setDate(changeDate.minusDays(1));
+
+        assertEquals(1, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(12, tracker.getBorders(factionThem).getSystems().size());
+        assertEquals(2, tracker.getBorderSystems(factionUs, factionThem).size());
+    }
+
+    // Builds the sample universe of buildTestTracker, with the owner of the "them" planet at (1, 0)
+    // held by owner and no planetary events, so only a reload or event change can change its owner
+    private List<PlanetarySystem> buildEventlessSystems(AtomicReference<Faction> owner) {
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int x = -3; x <= 3; x += 2) {
+            for (int y = -2; y <= 2; y += 2) {
+                PlanetarySystem system = createSystem(x, y, factionThem);
+                if ((x == 1) && (y == 0)) {
+                    when(system.getFactionSet(any())).thenAnswer(inv -> Collections.singleton(owner.get()));
+                }
+                systems.add(system);
+            }
+        }
+        systems.add(createSystem(0, 0, factionUs));
+        return systems;
+    }
+
+    @Test
+    public void testFactionBorderTrackerEventVersionChange() {
+        AtomicReference<Faction> owner = new AtomicReference<>(factionThem);
+        Systems source = mock(Systems.class);
+        when(source.getEventVersion()).thenReturn(1);
+        FactionBorderTracker tracker = createTracker(buildEventlessSystems(owner), source);
+        tracker.setDefaultBorderSize(1, 1, 1);
+        assertEquals(12, tracker.getBorders(factionThem).getSystems().size());
+
+        owner.set(factionUs);
+        DateTime tomorrow = tracker.getLastUpdated().plusDays(1);
+        tracker.setDate(tomorrow);
+        // Without an event on the system the incremental update does not look at it
+        assertEquals(12, tracker.getBorders(factionThem).getSystems().size());
+
+        when(source.getEventVersion()).thenReturn(2);
+        tracker.setDate(tomorrow.plusDays(1));
+        assertEquals(2, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(11, tracker.getBorders(factionThem).getSystems().size());
+        assertEquals(1, tracker.getBorderSystems(factionUs, factionThem).size());
+    }
+
+    @Test
+    public void testFactionBorderTrackerSystemsReload() {
+        AtomicReference<Faction> owner = new AtomicReference<>(factionThem);
+        AtomicReference<Systems> source = new AtomicReference<>(mock(Systems.class));
+        FactionBorderTracker tracker = createTracker(buildEventlessSystems(owner), source);
+        tracker.setDefaultBorderSize(1, 1, 1);
+        assertEquals(12, tracker.getBorders(factionThem).getSystems().size());
+
+        owner.set(factionUs);
+        source.set(mock(Systems.class));
+        tracker.setDate(tracker.getLastUpdated().plusDays(1));
+        assertEquals(2, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(11, tracker.getBorders(factionThem).getSystems().size());
+    }
+
     @Test
     public void testDefaultBorderSize() {
         Faction is = createFaction("is", false, false);
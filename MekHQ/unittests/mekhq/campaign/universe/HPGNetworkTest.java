@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 The MegaMek Team. All rights reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package mekhq.campaign.universe;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import megamek.common.EquipmentType;
+
+public class HPGNetworkTest {
+
+    private static final DateTime BUILT = new DateTime(3000, 1, 1, 0, 0);
+    private static final DateTime DESTROYED = new DateTime(3050, 6, 1, 0, 0);
+
+    // Creates a system whose HPG rating is "before" until the date of the change and "after" from then on
+    private PlanetarySystem createSystem(double x, double y, int before, DateTime change, int after) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getHPG(any())).thenAnswer(inv -> {
+            DateTime date = inv.getArgument(0);
+            return ((null == change) || (null == date) || date.isBefore(change)) ? before : after;
+        });
+        Planet planet = mock(Planet.class);
+        if (null != change) {
+            Planet.PlanetaryEvent event = new Planet.PlanetaryEvent();
+            event.date = change;
+            when(planet.getEvents()).thenReturn(Collections.singletonList(event));
+        }
+        when(system.getPlanets()).thenReturn(Collections.singletonList(planet));
+        return system;
+    }
+
+    private HPGNetwork createNetwork(PlanetarySystem... systems) {
+        List<PlanetarySystem> list = new ArrayList<>(Arrays.asList(systems));
+        return new HPGNetwork(list, new SystemIndex(list, SystemIndex.DEFAULT_CELL_SIZE));
+    }
+
+    @Test
+    public void testLinksFollowRatingChanges() {
+        PlanetarySystem hub = createSystem(0, 0, EquipmentType.RATING_B, BUILT, EquipmentType.RATING_A);
+        PlanetarySystem near = createSystem(30, 0, EquipmentType.RATING_C, DESTROYED, EquipmentType.RATING_X);
+        PlanetarySystem far = createSystem(60, 0, EquipmentType.RATING_A, null, EquipmentType.RATING_A);
+        HPGNetwork network = createNetwork(hub, near, far);
+
+        Set<Systems.HPGLink> expected = new HashSet<>();
+        expected.add(new Systems.HPGLink(far, far, EquipmentType.RATING_A));
+        expected.add(new Systems.HPGLink(far, near, EquipmentType.RATING_C));
+        assertEquals(expected, network.getLinks(BUILT.minusDays(1)));
+
+        expected.add(new Systems.HPGLink(hub, hub, EquipmentType.RATING_A));
+        expected.add(new Systems.HPGLink(hub, near, EquipmentType.RATING_C));
+        assertEquals(expected, network.getLinks(BUILT));
+
+        expected.clear();
+        expected.add(new Systems.HPGLink(far, far, EquipmentType.RATING_A));
+        expected.add(new Systems.HPGLink(far, near, EquipmentType.RATING_X));
+        expected.add(new Systems.HPGLink(hub, hub, EquipmentType.RATING_A));
+        expected.add(new Systems.HPGLink(hub, near, EquipmentType.RATING_X));
+        assertEquals(expected, network.getLinks(DESTROYED));
+    }
+
+    @Test
+    public void testNoHPGA() {
+        PlanetarySystem first = createSystem(0, 0, EquipmentType.RATING_B, null, EquipmentType.RATING_B);
+        PlanetarySystem second = createSystem(10, 0, EquipmentType.RATING_C, BUILT, EquipmentType.RATING_B);
+        HPGNetwork network = createNetwork(first, second);
+
+        assertTrue(network.getLinks(BUILT).isEmpty());
+        assertTrue(network.getLinks(null).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 The MegaMek Team. All rights reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package mekhq.campaign.universe;
+
+import static org.junit.Assert.*;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class PlanetarySystemTest {
+
+    private static final DateTime BUILT = new DateTime(2800, 3, 1, 0, 0);
+    private static final DateTime DESTROYED = new DateTime(3025, 7, 15, 0, 0);
+
+    @Test
+    public void testRechargeTimeFollowsEvents() {
+        PlanetarySystem system = new PlanetarySystem("Test");
+        system.setSpectralType("M5V");
+        double solar = system.getSolarRechargeTime();
+        assertTrue(solar > 176.0);
+
+        system.getOrCreateEvent(BUILT).zenithCharge = true;
+        system.getOrCreateEvent(DESTROYED).zenithCharge = false;
+        system.refreshEvents();
+
+        assertEquals(solar, system.getRechargeTime(BUILT.minusDays(1)), 0.001);
+        assertTrue(system.isZenithCharge(BUILT));
+        assertEquals(176.0, system.getRechargeTime(BUILT), 0.001);
+        assertEquals(176.0, system.getRechargeTime(DESTROYED.minusDays(1)), 0.001);
+        assertFalse(system.isZenithCharge(DESTROYED));
+        assertEquals(solar, system.getRechargeTime(DESTROYED), 0.001);
+        assertEquals(solar, system.getRechargeTime(null), 0.001);
+
+        // A new event is picked up once the events are refreshed
+        system.getOrCreateEvent(DESTROYED.plusYears(10)).nadirCharge = true;
+        system.refreshEvents();
+        assertEquals("Nadir", system.getRechargeStationsText(DESTROYED.plusYears(11)));
+        assertEquals(176.0, system.getRechargeTime(DESTROYED.plusYears(11)), 0.001);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 The MegaMek Team. All rights reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package mekhq.campaign.universe;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SystemIndexTest {
+
+    private List<PlanetarySystem> systems;
+    private SystemIndex index;
+
+    // Scatters systems over a 600x600 ly square centered on the origin
+    @Before
+    public void init() {
+        Random random = new Random(42L);
+        systems = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            systems.add(createSystem(random.nextDouble() * 600.0 - 300.0, random.nextDouble() * 600.0 - 300.0));
+        }
+        index = new SystemIndex(systems, SystemIndex.DEFAULT_CELL_SIZE);
+    }
+
+    private PlanetarySystem createSystem(final double x, final double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        return system;
+    }
+
+    private List<PlanetarySystem> bruteForce(double x, double y, double distance) {
+        List<PlanetarySystem> result = new ArrayList<>();
+        for (PlanetarySystem system : systems) {
+            if (Math.hypot(system.getX() - x, system.getY() - y) <= distance) {
+                result.add(system);
+            }
+        }
+        result.sort((a, b) -> Double.compare(Math.hypot(a.getX() - x, a.getY() - y),
+                Math.hypot(b.getX() - x, b.getY() - y)));
+        return result;
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(systems.size(), index.size());
+    }
+
+    @Test
+    public void testWithinMatchesBruteForce() {
+        for (double distance : new double[] { 0.0, 30.0, 50.0, 150.0, 1000.0 }) {
+            for (double[] center : new double[][] { { 0.0, 0.0 }, { 15.0, -45.5 }, { -299.0, 299.0 }, { 500.0, 0.0 } }) {
+                List<PlanetarySystem> expected = bruteForce(center[0], center[1], distance);
+                assertEquals(expected, index.getWithin(center[0], center[1], distance));
+
+                Set<PlanetarySystem> visited = new HashSet<>();
+                index.visitWithin(center[0], center[1], distance, visited::add);
+                assertEquals(new HashSet<>(expected), visited);
+            }
+        }
+    }
+
+    @Test
+    public void testNearest() {
+        List<PlanetarySystem> all = bruteForce(10.0, 20.0, Double.MAX_VALUE);
+
+        assertEquals(all.subList(0, 1), index.getNearest(10.0, 20.0, 1));
+        assertEquals(all.subList(0, 25), index.getNearest(10.0, 20.0, 25));
+        assertEquals(all, index.getNearest(10.0, 20.0, systems.size() + 10));
+        assertTrue(index.getNearest(10.0, 20.0, 0).isEmpty());
+    }
+
+    @Test
+    public void testNearestFarOutside() {
+        List<PlanetarySystem> all = bruteForce(5000.0, -5000.0, Double.MAX_VALUE);
+
+        assertEquals(all.subList(0, 3), index.getNearest(5000.0, -5000.0, 3));
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        SystemIndex empty = new SystemIndex(Collections.emptyList(), SystemIndex.DEFAULT_CELL_SIZE);
+
+        assertEquals(0, empty.size());
+        assertTrue(empty.getWithin(0.0, 0.0, 100.0).isEmpty());
+        assertTrue(empty.getNearest(0.0, 0.0, 5).isEmpty());
+        empty.visitWithin(0.0, 0.0, 100.0, s -> fail());
+    }
+}
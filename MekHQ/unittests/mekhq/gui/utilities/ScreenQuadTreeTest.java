@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 The MegaMek Team. All rights reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MekHQ.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package mekhq.gui.utilities;
+
+import static org.junit.Assert.*;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class ScreenQuadTreeTest {
+
+    @Test
+    public void testNearestMatchesBruteForce() {
+        Random random = new Random(42);
+        double[][] points = new double[500][];
+        ScreenQuadTree<Integer> tree = new ScreenQuadTree<>(0, 0, 800, 600);
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[] { random.nextDouble() * 800, random.nextDouble() * 600 };
+            tree.add(i, points[i][0], points[i][1]);
+        }
+        assertEquals(points.length, tree.size());
+
+        for (int test = 0; test < 100; test++) {
+            double x = random.nextDouble() * 1000 - 100;
+            double y = random.nextDouble() * 800 - 100;
+            int expected = -1;
+            double best = Double.MAX_VALUE;
+            for (int i = 0; i < points.length; i++) {
+                double distance = Math.hypot(points[i][0] - x, points[i][1] - y);
+                if (distance < best) {
+                    best = distance;
+                    expected = i;
+                }
+            }
+            assertEquals(Integer.valueOf(expected), tree.getNearest(x, y, Double.MAX_VALUE));
+            assertNull(tree.getNearest(x, y, best * 0.99));
+        }
+    }
+
+    @Test
+    public void testPointsAreKeptInLeaves() {
+        Random random = new Random(42);
+        ScreenQuadTree<Integer> tree = new ScreenQuadTree<>(0, 0, 800, 600);
+        for (int i = 0; i < 500; i++) {
+            tree.add(i, random.nextDouble() * 800, random.nextDouble() * 600);
+        }
+        // Points on the edges and on the lines between quadrants
+        tree.add(500, 0, 0);
+        tree.add(501, 800, 600);
+        tree.add(502, 400, 300);
+        tree.add(503, 400, 0);
+
+        assertEquals(tree.size(), tree.getLeafItemCount());
+    }
+
+    @Test
+    public void testIntersectsAndVisit() {
+        ScreenQuadTree<String> tree = new ScreenQuadTree<>(0, 0, 100, 100);
+        tree.add("a", new Rectangle2D.Double(10, 10, 20, 10));
+        tree.add("b", new Rectangle2D.Double(45, 45, 10, 10));
+        tree.add("c", new Rectangle2D.Double(150, 150, 10, 10));
+        tree.add("point", 80, 80);
+
+        assertTrue(tree.intersects(new Rectangle2D.Double(25, 15, 10, 10)));
+        assertFalse(tree.intersects(new Rectangle2D.Double(31, 10, 10, 10)));
+        assertTrue(tree.intersects(new Rectangle2D.Double(155, 140, 2, 20)));
+        assertTrue(tree.intersects(new Rectangle2D.Double(70, 70, 10, 10)));
+
+        Set<String> found = new HashSet<>();
+        tree.visit(new Rectangle2D.Double(0, 0, 50, 50), (item, bounds) -> found.add(item));
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), found);
+    }
+}